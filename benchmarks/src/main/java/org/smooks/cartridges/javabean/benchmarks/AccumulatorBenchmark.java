@@ -0,0 +1,141 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.smooks.Smooks;
+import org.smooks.io.sink.JavaSink;
+import org.smooks.io.source.StringSource;
+import org.smooks.support.StreamUtils;
+import org.xml.sax.SAXException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Running total of the items of an order, bound through an MVEL <code>+=</code> expression, the same expression
+ * accumulated natively, and an <code>accumulate="sum"</code> value binding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccumulatorBenchmark {
+
+    private static final int ITEMS = 1000;
+
+    public enum Binding {
+        EXPRESSION("false", "<jb:expression property=\"total\" execOnElement=\"item\">+= new Long(_VALUE)</jb:expression>"),
+        NATIVE_EXPRESSION("true", "<jb:expression property=\"total\" execOnElement=\"item\">+= new Long(_VALUE)</jb:expression>"),
+        VALUE("true", "<jb:value property=\"total\" data=\"item\" accumulate=\"sum\"/>");
+
+        private final String nativeAccumulators;
+        private final String config;
+
+        Binding(String nativeAccumulators, String config) {
+            this.nativeAccumulators = nativeAccumulators;
+            this.config = config;
+        }
+    }
+
+    @Param({"EXPRESSION", "NATIVE_EXPRESSION", "VALUE"})
+    public Binding binding;
+
+    private Smooks smooks;
+    private String messageXml;
+
+    @Setup
+    public void setUp() throws IOException, SAXException {
+        String config = StreamUtils.readStreamAsString(getClass().getResourceAsStream("accumulator-binding-config.xml"), "UTF-8");
+        smooks = new Smooks(new ByteArrayInputStream(config.replace("${native}", binding.nativeAccumulators).replace("${binding}", binding.config).getBytes(StandardCharsets.UTF_8)));
+
+        StringBuilder message = new StringBuilder("<order>");
+        for (int i = 0; i < ITEMS; i++) {
+            message.append("<item>").append(i).append("</item>");
+        }
+        messageXml = message.append("</order>").toString();
+    }
+
+    @TearDown
+    public void tearDown() {
+        smooks.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public Object accumulate() {
+        JavaSink javaSink = new JavaSink();
+        smooks.filterSource(new StringSource(messageXml), javaSink);
+
+        return javaSink.getBean("totals");
+    }
+
+    public static class Totals {
+
+        private long total;
+
+        public long getTotal() {
+            return total;
+        }
+
+        public void setTotal(long total) {
+            this.total = total;
+        }
+    }
+}
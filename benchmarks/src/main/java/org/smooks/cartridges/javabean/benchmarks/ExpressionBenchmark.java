@@ -0,0 +1,133 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-benchmarks
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.smooks.Smooks;
+import org.smooks.api.converter.TypeConverter;
+import org.smooks.api.converter.TypeConverterFactory;
+import org.smooks.cartridges.javabean.converter.PreprocessTypeConverter;
+import org.smooks.cartridges.javabean.expression.Expression;
+import org.smooks.cartridges.javabean.expression.ExpressionEvaluationStrategy;
+import org.smooks.cartridges.javabean.expression.MVELExpressionEngine;
+import org.smooks.engine.lookup.converter.NameTypeConverterFactoryLookup;
+import org.smooks.io.sink.JavaSink;
+import org.smooks.io.source.StringSource;
+import org.smooks.support.StreamUtils;
+import org.xml.sax.SAXException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * &lt;jb:expression&gt; binding and <code>valuePreprocess</code> decoding per expression evaluation strategy.
+ * <p/>
+ * Run with <code>-prof gc</code> for the allocations per evaluation (<code>gc.alloc.rate.norm</code>).  The
+ * <code>expressionBinding</code> figures include the filtering of the bound element.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpressionBenchmark {
+
+    private static final int ITEMS = 1000;
+
+    @Param({"BEAN_MAP", "COMPILED", "COMPILED_ASM", "COMPILED_REFLECTIVE"})
+    public ExpressionEvaluationStrategy strategy;
+
+    private Smooks smooks;
+    private String messageXml;
+    private TypeConverter<String, Object> preprocessTypeConverter;
+
+    @Setup
+    public void setUp() throws IOException, SAXException {
+        String config = StreamUtils.readStreamAsString(getClass().getResourceAsStream("expression-binding-config.xml"), "UTF-8");
+        smooks = new Smooks(new ByteArrayInputStream(config.replace("${strategy}", strategy.name()).getBytes(StandardCharsets.UTF_8)));
+
+        StringBuilder message = new StringBuilder("<order total=\"0\">");
+        for (int i = 0; i < ITEMS; i++) {
+            message.append("<item>").append(i).append("</item>");
+        }
+        messageXml = message.append("</order>").toString();
+
+        TypeConverterFactory<? super String, ?> integerTypeConverterFactory = smooks.getApplicationContext().getRegistry().lookup(new NameTypeConverterFactoryLookup<>("Integer"));
+        Expression expression = new MVELExpressionEngine(strategy).compile("value.replace(\"_\", \"\")", String.class, null, "data", "value");
+        preprocessTypeConverter = new PreprocessTypeConverter(expression, integerTypeConverterFactory.createTypeConverter());
+    }
+
+    @TearDown
+    public void tearDown() {
+        smooks.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public Object expressionBinding() {
+        JavaSink javaSink = new JavaSink();
+        smooks.filterSource(new StringSource(messageXml), javaSink);
+
+        return javaSink.getBean("order");
+    }
+
+    @Benchmark
+    public Object preprocess() {
+        return preprocessTypeConverter.convert("876_592");
+    }
+}
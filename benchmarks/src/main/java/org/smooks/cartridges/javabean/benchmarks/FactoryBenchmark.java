@@ -0,0 +1,143 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-benchmarks
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.smooks.OrderItem;
+import org.smooks.Smooks;
+import org.smooks.api.ExecutionContext;
+import org.smooks.cartridges.javabean.factory.BasicFactoryDefinitionParser;
+import org.smooks.cartridges.javabean.factory.Factory;
+import org.smooks.cartridges.javabean.factory.MVELFactoryDefinitionParser;
+import org.smooks.cartridges.javabean.instantiator.BeanInstantiator;
+import org.smooks.cartridges.javabean.instantiator.ConstructorBeanInstantiator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean creation through the factory definition parsers (parsing and factory invocation), against the
+ * default constructor {@link BeanInstantiator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FactoryBenchmark {
+
+    private static final String BASIC_STATIC_DEFINITION = OrderFactory.class.getName() + "#newOrder";
+    private static final String BASIC_INSTANCE_DEFINITION = OrderFactory.class.getName() + "#getInstance.newOrderItem";
+    private static final String MVEL_STATIC_DEFINITION = OrderFactory.class.getName() + ".newOrder()";
+    private static final String MVEL_INSTANCE_DEFINITION = OrderFactory.class.getName() + ".getInstance().newOrderItem()";
+
+    private Smooks smooks;
+    private ExecutionContext executionContext;
+    private Factory<?> basicStaticFactory;
+    private Factory<?> basicInstanceFactory;
+    private Factory<?> mvelStaticFactory;
+    private Factory<?> mvelInstanceFactory;
+    private BeanInstantiator<OrderItem> constructorBeanInstantiator;
+
+    @Setup
+    public void setUp() {
+        smooks = new Smooks();
+        executionContext = smooks.createExecutionContext();
+
+        basicStaticFactory = new BasicFactoryDefinitionParser().parse(BASIC_STATIC_DEFINITION);
+        basicInstanceFactory = new BasicFactoryDefinitionParser().parse(BASIC_INSTANCE_DEFINITION);
+        mvelStaticFactory = new MVELFactoryDefinitionParser().parse(MVEL_STATIC_DEFINITION);
+        mvelInstanceFactory = new MVELFactoryDefinitionParser().parse(MVEL_INSTANCE_DEFINITION);
+        constructorBeanInstantiator = new ConstructorBeanInstantiator<>(OrderItem.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        smooks.close();
+    }
+
+    @Benchmark
+    public Factory<?> parseBasic() {
+        return new BasicFactoryDefinitionParser().parse(BASIC_INSTANCE_DEFINITION);
+    }
+
+    @Benchmark
+    public Factory<?> parseMVEL() {
+        return new MVELFactoryDefinitionParser().parse(MVEL_INSTANCE_DEFINITION);
+    }
+
+    @Benchmark
+    public Object createBasicStatic() {
+        return basicStaticFactory.create(executionContext);
+    }
+
+    @Benchmark
+    public Object createBasicInstance() {
+        return basicInstanceFactory.create(executionContext);
+    }
+
+    @Benchmark
+    public Object createMVELStatic() {
+        return mvelStaticFactory.create(executionContext);
+    }
+
+    @Benchmark
+    public Object createMVELInstance() {
+        return mvelInstanceFactory.create(executionContext);
+    }
+
+    @Benchmark
+    public OrderItem createConstructor() {
+        return constructorBeanInstantiator.newInstance(executionContext);
+    }
+}
@@ -0,0 +1,688 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.smooks.assertion.AssertArgument;
+
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Growable typed array, used as the {@link java.util.List} representation of array beans
+ * ({@link BeanRuntimeInfo.Classification#ARRAY_COLLECTION}) while they are being populated.
+ * <p/>
+ * Elements are stored straight into an array of the bean's component type (primitive arrays for the
+ * primitive component types), so no intermediate List of boxed values is built and the array bean
+ * is extracted with a single {@link Arrays#copyOf} (see {@link #toTypedArray()}).
+ * <p/>
+ * As with {@link java.lang.reflect.Array#set(Object, int, Object)}, primitive elements are unboxed and
+ * widened.  An element that cannot be stored in the array is logged and its slot is left to the
+ * component type's default value.
+ */
+public abstract class ArrayAccumulator extends AbstractList<Object> implements RandomAccess {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArrayAccumulator.class);
+
+    protected static final int DEFAULT_CAPACITY = 10;
+
+    protected int size;
+
+    /**
+     * Create an accumulator for arrays of the supplied component type.
+     *
+     * @param componentType The array component type.
+     * @return The accumulator.
+     */
+    public static ArrayAccumulator newArrayAccumulator(Class<?> componentType) {
+        AssertArgument.isNotNull(componentType, "componentType");
+
+        if (!componentType.isPrimitive()) {
+            return new ReferenceArrayAccumulator(componentType);
+        } else if (componentType == Integer.TYPE) {
+            return new IntArrayAccumulator();
+        } else if (componentType == Long.TYPE) {
+            return new LongArrayAccumulator();
+        } else if (componentType == Double.TYPE) {
+            return new DoubleArrayAccumulator();
+        } else if (componentType == Float.TYPE) {
+            return new FloatArrayAccumulator();
+        } else if (componentType == Boolean.TYPE) {
+            return new BooleanArrayAccumulator();
+        } else if (componentType == Short.TYPE) {
+            return new ShortArrayAccumulator();
+        } else if (componentType == Byte.TYPE) {
+            return new ByteArrayAccumulator();
+        } else if (componentType == Character.TYPE) {
+            return new CharArrayAccumulator();
+        } else {
+            throw new IllegalArgumentException("Unsupported array component type '" + componentType.getName() + "'.");
+        }
+    }
+
+    /**
+     * Get the array component type.
+     *
+     * @return The array component type.
+     */
+    public abstract Class<?> getComponentType();
+
+    /**
+     * Get the accumulated elements as an array of the component type.
+     *
+     * @return A new array holding the accumulated elements.
+     */
+    public abstract Object toTypedArray();
+
+    /**
+     * Make sure the accumulator can hold the specified number of elements without growing.
+     *
+     * @param capacity The minimum capacity.
+     */
+    public void ensureCapacity(int capacity) {
+        int currentCapacity = getCapacity();
+        if (capacity > currentCapacity) {
+            resize(Math.max(capacity, currentCapacity + (currentCapacity >> 1)));
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Object get(int index) {
+        checkIndex(index);
+        return getElement(index);
+    }
+
+    @Override
+    public Object set(int index, Object element) {
+        checkIndex(index);
+        Object previousElement = getElement(index);
+        store(index, element);
+        return previousElement;
+    }
+
+    @Override
+    public boolean add(Object element) {
+        ensureCapacity(size + 1);
+        store(size, element);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int index, Object element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        ensureCapacity(size + 1);
+        if (index < size) {
+            System.arraycopy(getElements(), index, getElements(), index + 1, size - index);
+        }
+        store(index, element);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Object remove(int index) {
+        checkIndex(index);
+        Object previousElement = getElement(index);
+        int movedCount = size - index - 1;
+        if (movedCount > 0) {
+            System.arraycopy(getElements(), index + 1, getElements(), index, movedCount);
+        }
+        size--;
+        clearElement(size);
+        modCount++;
+        return previousElement;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            clearElement(i);
+        }
+        size = 0;
+        modCount++;
+    }
+
+    protected abstract Object getElements();
+
+    protected abstract int getCapacity();
+
+    protected abstract void resize(int capacity);
+
+    protected abstract Object getElement(int index);
+
+    protected abstract void setElement(int index, Object element);
+
+    protected abstract void clearElement(int index);
+
+    private void store(int index, Object element) {
+        try {
+            setElement(index, element);
+        } catch (ClassCastException | NullPointerException e) {
+            LOGGER.error("Failed to cast type '" + (element != null ? element.getClass().getName() : null) + "' to '" + getComponentType().getName() + "'.", e);
+            clearElement(index);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static final class ReferenceArrayAccumulator extends ArrayAccumulator {
+
+        private final Class<?> componentType;
+        private Object[] elements;
+
+        private ReferenceArrayAccumulator(Class<?> componentType) {
+            this.componentType = componentType;
+            this.elements = (Object[]) Array.newInstance(componentType, DEFAULT_CAPACITY);
+        }
+
+        @Override
+        public Class<?> getComponentType() {
+            return componentType;
+        }
+
+        @Override
+        public Object[] toTypedArray() {
+            // Arrays.copyOf keeps the runtime component type...
+            return Arrays.copyOf(elements, size);
+        }
+
+        @Override
+        protected Object getElements() {
+            return elements;
+        }
+
+        @Override
+        protected int getCapacity() {
+            return elements.length;
+        }
+
+        @Override
+        protected void resize(int capacity) {
+            elements = Arrays.copyOf(elements, capacity);
+        }
+
+        @Override
+        protected Object getElement(int index) {
+            return elements[index];
+        }
+
+        @Override
+        protected void setElement(int index, Object element) {
+            elements[index] = componentType.cast(element);
+        }
+
+        @Override
+        protected void clearElement(int index) {
+            elements[index] = null;
+        }
+    }
+
+    private static final class BooleanArrayAccumulator extends ArrayAccumulator {
+
+        private boolean[] elements = new boolean[DEFAULT_CAPACITY];
+
+        @Override
+        public Class<?> getComponentType() {
+            return Boolean.TYPE;
+        }
+
+        @Override
+        public boolean[] toTypedArray() {
+            return Arrays.copyOf(elements, size);
+        }
+
+        @Override
+        protected Object getElements() {
+            return elements;
+        }
+
+        @Override
+        protected int getCapacity() {
+            return elements.length;
+        }
+
+        @Override
+        protected void resize(int capacity) {
+            elements = Arrays.copyOf(elements, capacity);
+        }
+
+        @Override
+        protected Object getElement(int index) {
+            return elements[index];
+        }
+
+        @Override
+        protected void setElement(int index, Object element) {
+            elements[index] = (Boolean) element;
+        }
+
+        @Override
+        protected void clearElement(int index) {
+            elements[index] = false;
+        }
+    }
+
+    private static final class ByteArrayAccumulator extends ArrayAccumulator {
+
+        private byte[] elements = new byte[DEFAULT_CAPACITY];
+
+        @Override
+        public Class<?> getComponentType() {
+            return Byte.TYPE;
+        }
+
+        @Override
+        public byte[] toTypedArray() {
+            return Arrays.copyOf(elements, size);
+        }
+
+        @Override
+        protected Object getElements() {
+            return elements;
+        }
+
+        @Override
+        protected int getCapacity() {
+            return elements.length;
+        }
+
+        @Override
+        protected void resize(int capacity) {
+            elements = Arrays.copyOf(elements, capacity);
+        }
+
+        @Override
+        protected Object getElement(int index) {
+            return elements[index];
+        }
+
+        @Override
+        protected void setElement(int index, Object element) {
+            elements[index] = (Byte) element;
+        }
+
+        @Override
+        protected void clearElement(int index) {
+            elements[index] = 0;
+        }
+    }
+
+    private static final class CharArrayAccumulator extends ArrayAccumulator {
+
+        private char[] elements = new char[DEFAULT_CAPACITY];
+
+        @Override
+        public Class<?> getComponentType() {
+            return Character.TYPE;
+        }
+
+        @Override
+        public char[] toTypedArray() {
+            return Arrays.copyOf(elements, size);
+        }
+
+        @Override
+        protected Object getElements() {
+            return elements;
+        }
+
+        @Override
+        protected int getCapacity() {
+            return elements.length;
+        }
+
+        @Override
+        protected void resize(int capacity) {
+            elements = Arrays.copyOf(elements, capacity);
+        }
+
+        @Override
+        protected Object getElement(int index) {
+            return elements[index];
+        }
+
+        @Override
+        protected void setElement(int index, Object element) {
+            elements[index] = (Character) element;
+        }
+
+        @Override
+        protected void clearElement(int index) {
+            elements[index] = 0;
+        }
+    }
+
+    private static final class ShortArrayAccumulator extends ArrayAccumulator {
+
+        private short[] elements = new short[DEFAULT_CAPACITY];
+
+        @Override
+        public Class<?> getComponentType() {
+            return Short.TYPE;
+        }
+
+        @Override
+        public short[] toTypedArray() {
+            return Arrays.copyOf(elements, size);
+        }
+
+        @Override
+        protected Object getElements() {
+            return elements;
+        }
+
+        @Override
+        protected int getCapacity() {
+            return elements.length;
+        }
+
+        @Override
+        protected void resize(int capacity) {
+            elements = Arrays.copyOf(elements, capacity);
+        }
+
+        @Override
+        protected Object getElement(int index) {
+            return elements[index];
+        }
+
+        @Override
+        protected void setElement(int index, Object element) {
+            elements[index] = toShort(element);
+        }
+
+        @Override
+        protected void clearElement(int index) {
+            elements[index] = 0;
+        }
+
+        private static short toShort(Object element) {
+            if (element instanceof Short) {
+                return ((Short) element).shortValue();
+            } else if (element instanceof Byte) {
+                return ((Number) element).shortValue();
+            }
+            throw new ClassCastException(element.getClass().getName());
+        }
+    }
+
+    private static final class IntArrayAccumulator extends ArrayAccumulator {
+
+        private int[] elements = new int[DEFAULT_CAPACITY];
+
+        @Override
+        public Class<?> getComponentType() {
+            return Integer.TYPE;
+        }
+
+        @Override
+        public int[] toTypedArray() {
+            return Arrays.copyOf(elements, size);
+        }
+
+        @Override
+        protected Object getElements() {
+            return elements;
+        }
+
+        @Override
+        protected int getCapacity() {
+            return elements.length;
+        }
+
+        @Override
+        protected void resize(int capacity) {
+            elements = Arrays.copyOf(elements, capacity);
+        }
+
+        @Override
+        protected Object getElement(int index) {
+            return elements[index];
+        }
+
+        @Override
+        protected void setElement(int index, Object element) {
+            elements[index] = toInt(element);
+        }
+
+        @Override
+        protected void clearElement(int index) {
+            elements[index] = 0;
+        }
+
+        private static int toInt(Object element) {
+            if (element instanceof Integer) {
+                return ((Integer) element).intValue();
+            } else if (element instanceof Short || element instanceof Byte) {
+                return ((Number) element).intValue();
+            } else if (element instanceof Character) {
+                return ((Character) element).charValue();
+            }
+            throw new ClassCastException(element.getClass().getName());
+        }
+    }
+
+    private static final class LongArrayAccumulator extends ArrayAccumulator {
+
+        private long[] elements = new long[DEFAULT_CAPACITY];
+
+        @Override
+        public Class<?> getComponentType() {
+            return Long.TYPE;
+        }
+
+        @Override
+        public long[] toTypedArray() {
+            return Arrays.copyOf(elements, size);
+        }
+
+        @Override
+        protected Object getElements() {
+            return elements;
+        }
+
+        @Override
+        protected int getCapacity() {
+            return elements.length;
+        }
+
+        @Override
+        protected void resize(int capacity) {
+            elements = Arrays.copyOf(elements, capacity);
+        }
+
+        @Override
+        protected Object getElement(int index) {
+            return elements[index];
+        }
+
+        @Override
+        protected void setElement(int index, Object element) {
+            elements[index] = toLong(element);
+        }
+
+        @Override
+        protected void clearElement(int index) {
+            elements[index] = 0;
+        }
+
+        private static long toLong(Object element) {
+            if (element instanceof Long) {
+                return ((Long) element).longValue();
+            } else if (element instanceof Integer || element instanceof Short || element instanceof Byte) {
+                return ((Number) element).longValue();
+            } else if (element instanceof Character) {
+                return ((Character) element).charValue();
+            }
+            throw new ClassCastException(element.getClass().getName());
+        }
+    }
+
+    private static final class FloatArrayAccumulator extends ArrayAccumulator {
+
+        private float[] elements = new float[DEFAULT_CAPACITY];
+
+        @Override
+        public Class<?> getComponentType() {
+            return Float.TYPE;
+        }
+
+        @Override
+        public float[] toTypedArray() {
+            return Arrays.copyOf(elements, size);
+        }
+
+        @Override
+        protected Object getElements() {
+            return elements;
+        }
+
+        @Override
+        protected int getCapacity() {
+            return elements.length;
+        }
+
+        @Override
+        protected void resize(int capacity) {
+            elements = Arrays.copyOf(elements, capacity);
+        }
+
+        @Override
+        protected Object getElement(int index) {
+            return elements[index];
+        }
+
+        @Override
+        protected void setElement(int index, Object element) {
+            elements[index] = toFloat(element);
+        }
+
+        @Override
+        protected void clearElement(int index) {
+            elements[index] = 0;
+        }
+
+        private static float toFloat(Object element) {
+            if (element instanceof Float) {
+                return ((Float) element).floatValue();
+            } else if (element instanceof Long || element instanceof Integer || element instanceof Short || element instanceof Byte) {
+                return ((Number) element).floatValue();
+            } else if (element instanceof Character) {
+                return ((Character) element).charValue();
+            }
+            throw new ClassCastException(element.getClass().getName());
+        }
+    }
+
+    private static final class DoubleArrayAccumulator extends ArrayAccumulator {
+
+        private double[] elements = new double[DEFAULT_CAPACITY];
+
+        @Override
+        public Class<?> getComponentType() {
+            return Double.TYPE;
+        }
+
+        @Override
+        public double[] toTypedArray() {
+            return Arrays.copyOf(elements, size);
+        }
+
+        @Override
+        protected Object getElements() {
+            return elements;
+        }
+
+        @Override
+        protected int getCapacity() {
+            return elements.length;
+        }
+
+        @Override
+        protected void resize(int capacity) {
+            elements = Arrays.copyOf(elements, capacity);
+        }
+
+        @Override
+        protected Object getElement(int index) {
+            return elements[index];
+        }
+
+        @Override
+        protected void setElement(int index, Object element) {
+            elements[index] = toDouble(element);
+        }
+
+        @Override
+        protected void clearElement(int index) {
+            elements[index] = 0;
+        }
+
+        private static double toDouble(Object element) {
+            if (element instanceof Double) {
+                return ((Double) element).doubleValue();
+            } else if (element instanceof Float || element instanceof Long || element instanceof Integer || element instanceof Short || element instanceof Byte) {
+                return ((Number) element).doubleValue();
+            } else if (element instanceof Character) {
+                return ((Character) element).charValue();
+            }
+            throw new ClassCastException(element.getClass().getName());
+        }
+    }
+}
@@ -62,13 +62,25 @@ import org.smooks.api.resource.visitor.VisitBeforeReport;
 import org.smooks.api.resource.visitor.sax.ng.AfterVisitor;
 import org.smooks.api.resource.visitor.sax.ng.BeforeVisitor;
 import org.smooks.assertion.AssertArgument;
+import org.smooks.cartridges.javabean.accumulator.AccumulatorBinding;
+import org.smooks.cartridges.javabean.accumulator.Accumulators;
 import org.smooks.cartridges.javabean.binding.model.ModelSet;
+import org.smooks.cartridges.javabean.expression.Expression;
+import org.smooks.cartridges.javabean.expression.ExpressionEngine.ExpressionEngineFactory;
 import org.smooks.cartridges.javabean.ext.BeanConfigUtil;
 import org.smooks.cartridges.javabean.factory.Factory;
 import org.smooks.cartridges.javabean.factory.FactoryDefinitionParser.FactoryDefinitionParserFactory;
+import org.smooks.cartridges.javabean.instantiator.BeanInstantiator;
+import org.smooks.cartridges.javabean.instantiator.BeanInstantiatorProvider;
+import org.smooks.cartridges.javabean.instantiator.DefaultBeanInstantiatorProvider;
+import org.smooks.cartridges.javabean.instrumentation.BindingInstrumentation;
+import org.smooks.cartridges.javabean.instrumentation.BindingInstrumentation.BindingInstrumentationFactory;
+import org.smooks.cartridges.javabean.instrumentation.BindingProbe;
+import org.smooks.cartridges.javabean.jfr.JfrEvents;
+import org.smooks.cartridges.javabean.jfr.JfrSupport;
 import org.smooks.engine.bean.lifecycle.DefaultBeanContextLifecycleEvent;
 import org.smooks.engine.delivery.fragment.NodeFragment;
-import org.smooks.engine.expression.MVELExpressionEvaluator;
+import org.smooks.support.ClassUtils;
 import org.w3c.dom.Element;
 
 import jakarta.annotation.PostConstruct;
@@ -117,6 +129,21 @@ public class BeanInstanceCreator implements BeforeVisitor, AfterVisitor, Produce
     @Inject
     protected Boolean retain = true;
 
+    @Inject
+    protected Boolean stream = false;
+
+    @Inject
+    @Named(BeanInstantiatorProvider.GLOBAL_PARAM)
+    protected String beanInstantiatorProviderClassName = DefaultBeanInstantiatorProvider.class.getName();
+
+    @Inject
+    @Named(BeanTrace.TRACE_BEAN_IDS)
+    protected Optional<String> traceBeanIds;
+
+    @Inject
+    @Named(BindingInstrumentation.GLOBAL_PARAM)
+    protected Optional<String> instrumentationClassName;
+
     @Inject
     protected ResourceConfig config;
 
@@ -127,10 +154,19 @@ public class BeanInstanceCreator implements BeforeVisitor, AfterVisitor, Produce
 
     protected BeanId beanId;
 
-    protected MVELExpressionEvaluator initValsExpression;
+    protected Expression initValsExpression;
 
     protected Factory<?> factory;
 
+    protected BeanInstantiator<?> beanInstantiator;
+
+    protected AccumulatorBinding[] accumulatorBindings = new AccumulatorBinding[0];
+
+    protected boolean traced;
+
+    // Null if the bean creation is not instrumented...
+    protected BindingProbe probe;
+
     /**
      * Public default constructor.
      */
@@ -220,6 +256,13 @@ public class BeanInstanceCreator implements BeforeVisitor, AfterVisitor, Produce
             throw new SmooksConfigException("Using a factory with an array is not supported");
         }
 
+        beanInstantiator = createBeanInstantiator();
+
+        if (instrumentationClassName.isPresent()) {
+            probe = BindingInstrumentationFactory.getInstance(applicationContext, instrumentationClassName.get()).createProbe(beanIdName, null);
+        }
+
+        traced = BeanTrace.isTraced(beanIdName, traceBeanIds.orElse(null));
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("BeanInstanceCreator created for [" + beanIdName + "]. BeanRuntimeInfo: " + beanRuntimeInfo);
         }
@@ -233,8 +276,7 @@ public class BeanInstanceCreator implements BeforeVisitor, AfterVisitor, Produce
                 initValsExpressionString.append("\n");
             }
 
-            initValsExpression = new MVELExpressionEvaluator();
-            initValsExpression.setExpression(initValsExpressionString.toString());
+            initValsExpression = ExpressionEngineFactory.compile(ExpressionEngineFactory.getInstance(applicationContext), initValsExpressionString.toString(), null, applicationContext.getBeanIdStore());
         }
     }
 
@@ -247,6 +289,46 @@ public class BeanInstanceCreator implements BeforeVisitor, AfterVisitor, Produce
         return beanRuntimeInfo;
     }
 
+    /**
+     * Is this a streamed bean (see {@link BeanSink})?
+     *
+     * @return <code>true</code> if the bean instances are streamed, otherwise <code>false</code>.
+     */
+    public boolean isStream() {
+        return stream;
+    }
+
+    /**
+     * Get the bean instantiator.
+     *
+     * @return The bean instantiator.
+     */
+    public BeanInstantiator<?> getBeanInstantiator() {
+        return beanInstantiator;
+    }
+
+    /**
+     * Create the bean instantiator using the configured {@link BeanInstantiatorProvider}.
+     *
+     * @return The bean instantiator.
+     */
+    protected BeanInstantiator<?> createBeanInstantiator() {
+        BeanInstantiatorProvider beanInstantiatorProvider;
+
+        try {
+            beanInstantiatorProvider = (BeanInstantiatorProvider) ClassUtils.forName(beanInstantiatorProviderClassName, getClass()).getConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new SmooksConfigException("Invalid " + BeanInstantiatorProvider.GLOBAL_PARAM + " global parameter value '" + beanInstantiatorProviderClassName + "'. Must be the name of a " + BeanInstantiatorProvider.class.getName() + " implementation with a public argumentless constructor.", e);
+        }
+
+        BeanInstantiator<?> newBeanInstantiator = beanInstantiatorProvider.createBeanInstantiator(beanRuntimeInfo, factory);
+        if (newBeanInstantiator == null) {
+            throw new SmooksConfigException("BeanInstantiatorProvider '" + beanInstantiatorProviderClassName + "' did not create a BeanInstantiator for bean [" + beanIdName + "].");
+        }
+
+        return newBeanInstantiator;
+    }
+
     protected void buildId() {
         StringBuilder idBuilder = new StringBuilder();
         idBuilder.append(BeanInstanceCreator.class.getName());
@@ -273,14 +355,19 @@ public class BeanInstanceCreator implements BeforeVisitor, AfterVisitor, Produce
         BeanRuntimeInfo.Classification thisBeanType = beanRuntimeInfo.getClassification();
         boolean isBeanTypeArray = (thisBeanType == BeanRuntimeInfo.Classification.ARRAY_COLLECTION);
 
+        if (accumulatorBindings.length > 0) {
+            // Write back the values accumulated onto the bean...
+            Accumulators.flush(accumulatorBindings, executionContext, source);
+        }
+
         BeanContext beanContext = executionContext.getBeanContext();
         beanContext.setBeanInContext(beanId, false);
 
         if (isBeanTypeArray) {
             Object bean = beanContext.getBean(beanId);
 
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Converting bean [" + beanIdName + "] to an array and rebinding to context.");
+            if (BeanTrace.ENABLED && traced) {
+                BeanTrace.event("bean.array.converted", beanIdName, "arrayType", beanRuntimeInfo.getArrayType().getName());
             }
             bean = convert(executionContext, bean, source);
         }
@@ -296,21 +383,29 @@ public class BeanInstanceCreator implements BeforeVisitor, AfterVisitor, Produce
     protected void createAndSetBean(ExecutionContext executionContext, Fragment source) {
         Object bean;
         BeanContext beanContext = executionContext.getBeanContext();
+        Object jfrBeanCreated = (JfrSupport.AVAILABLE ? JfrEvents.beginBeanCreated() : null);
 
-        bean = createBeanInstance(executionContext);
+        if (probe == null) {
+            bean = createBeanInstance(executionContext);
+        } else {
+            bean = probe.measureAndGet(() -> createBeanInstance(executionContext));
+        }
 
         executionContext.getBeanContext().notifyObservers(new DefaultBeanContextLifecycleEvent(executionContext, source, BeanLifecycle.START_FRAGMENT, beanId, bean));
 
         if (initValsExpression != null) {
-            initValsExpression.exec(bean);
+            initValsExpression.evaluate(bean, beanContext);
+        }
+        if (jfrBeanCreated != null) {
+            JfrEvents.beanCreated(jfrBeanCreated, beanIdName, bean.getClass());
         }
 
         beanContext.setBeanInContext(beanId, false);
         beanContext.addBean(beanId, bean, source);
         beanContext.setBeanInContext(beanId, true);
 
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("Bean [" + beanIdName + "] instance created.");
+        if (BeanTrace.ENABLED && traced) {
+            BeanTrace.event("bean.created", beanIdName, "class", bean.getClass().getName());
         }
     }
 
@@ -320,23 +415,15 @@ public class BeanInstanceCreator implements BeforeVisitor, AfterVisitor, Produce
      * @return A new bean instance.
      */
     protected Object createBeanInstance(ExecutionContext executionContext) {
-        Object bean;
-
-        if (factory == null) {
-            try {
-                bean = beanRuntimeInfo.getPopulateType().newInstance();
-            } catch (InstantiationException | IllegalAccessException e) {
+        try {
+            return beanInstantiator.newInstance(executionContext);
+        } catch (RuntimeException e) {
+            if (factory == null) {
                 throw new SmooksConfigException("Unable to create bean instance [" + beanIdName + ":" + beanRuntimeInfo.getPopulateType().getName() + "].", e);
-            }
-        } else {
-            try {
-                bean = factory.create(executionContext);
-            } catch (RuntimeException e) {
+            } else {
                 throw new SmooksConfigException("The factory was unable to create the bean instance [" + beanIdName + "] using the factory '" + factory + "'.", e);
             }
         }
-
-        return bean;
     }
 
     public Set<?> getProducts() {
@@ -378,7 +465,13 @@ public class BeanInstanceCreator implements BeforeVisitor, AfterVisitor, Produce
 
         beanContext.notifyObservers(new DefaultBeanContextLifecycleEvent(executionContext, fragment, BeanLifecycle.END_FRAGMENT, beanId, bean));
 
-        if (!retain) {
+        if (stream) {
+            // Hand the completed bean to the BeanSink consumers and release it...
+            if (bean != null && !BeanSink.consume(beanIdName, bean, executionContext) && BeanTrace.ENABLED && traced) {
+                BeanTrace.event("bean.released", beanIdName, "reason", "no BeanSink consumer");
+            }
+            beanContext.removeBean(beanId, null);
+        } else if (!retain) {
             beanContext.removeBean(beanId, null);
         }
     }
@@ -390,7 +483,14 @@ public class BeanInstanceCreator implements BeforeVisitor, AfterVisitor, Produce
 
     @Override
     public void onContentDeliveryBuilderCreated() {
+        BeanRuntimeInfoTable beanRuntimeInfoTable = BeanRuntimeInfoTable.getInstance(applicationContext);
+        if (!beanRuntimeInfoTable.isFrozen()) {
+            // All the bean runtime infos have been recorded...
+            beanRuntimeInfoTable.freeze(applicationContext.getBeanIdStore());
+        }
+
         ModelSet.build(applicationContext);
+        accumulatorBindings = Accumulators.getAccumulatorBindings(applicationContext, beanId);
     }
 
     @Override
@@ -61,13 +61,35 @@ import org.smooks.api.delivery.ContentDeliveryConfig;
 import org.smooks.api.delivery.fragment.Fragment;
 import org.smooks.api.delivery.ordering.Consumer;
 import org.smooks.api.delivery.ordering.Producer;
+import org.smooks.api.lifecycle.ContentDeliveryConfigLifecycle;
+import org.smooks.api.lifecycle.PostExecutionLifecycle;
 import org.smooks.api.resource.config.ResourceConfig;
+import org.smooks.api.resource.config.ResourceConfigSeq;
 import org.smooks.api.resource.visitor.VisitAfterReport;
 import org.smooks.api.resource.visitor.VisitBeforeReport;
 import org.smooks.api.resource.visitor.sax.ng.AfterVisitor;
 import org.smooks.api.resource.visitor.sax.ng.BeforeVisitor;
 import org.smooks.api.resource.visitor.sax.ng.ChildrenVisitor;
+import org.smooks.cartridges.javabean.accumulator.AccumulatorBinding;
+import org.smooks.cartridges.javabean.accumulator.AccumulatorFunction;
+import org.smooks.cartridges.javabean.accumulator.Accumulators;
 import org.smooks.cartridges.javabean.converter.PreprocessTypeConverterFactory;
+import org.smooks.cartridges.javabean.converter.ThreadSafe;
+import org.smooks.cartridges.javabean.converter.ThreadSafeTypeConverters;
+import org.smooks.cartridges.javabean.expression.Expression;
+import org.smooks.cartridges.javabean.expression.ExpressionEngine;
+import org.smooks.cartridges.javabean.expression.ExpressionEngine.ExpressionEngineFactory;
+import org.smooks.cartridges.javabean.expression.ExpressionEvaluationStrategy;
+import org.smooks.cartridges.javabean.expression.MVELExpression;
+import org.smooks.cartridges.javabean.expression.simple.SimpleExpressionEngine;
+import org.smooks.cartridges.javabean.instrumentation.BindingInstrumentation;
+import org.smooks.cartridges.javabean.instrumentation.BindingInstrumentation.BindingInstrumentationFactory;
+import org.smooks.cartridges.javabean.instrumentation.BindingProbe;
+import org.smooks.cartridges.javabean.invoker.SetterInvocationStrategy;
+import org.smooks.cartridges.javabean.jfr.JfrEvents;
+import org.smooks.cartridges.javabean.jfr.JfrSupport;
+import org.smooks.cartridges.javabean.invoker.SetterInvoker;
+import org.smooks.cartridges.javabean.observers.BeanWiringDispatcher;
 import org.smooks.cartridges.javabean.observers.BeanWiringObserver;
 import org.smooks.cartridges.javabean.observers.ListToArrayChangeObserver;
 import org.smooks.engine.bean.lifecycle.DefaultBeanContextLifecycleEvent;
@@ -75,10 +97,9 @@ import org.smooks.engine.converter.StringConverterFactory;
 import org.smooks.engine.delivery.fragment.NodeFragment;
 import org.smooks.engine.expression.MVELExpressionEvaluator;
 import org.smooks.engine.lookup.NamespaceManagerLookup;
+import org.smooks.engine.lookup.ResourceConfigSeqsLookup;
 import org.smooks.engine.lookup.converter.NameTypeConverterFactoryLookup;
 import org.smooks.engine.lookup.converter.SourceTargetTypeConverterFactoryLookup;
-import org.smooks.engine.memento.TextAccumulatorMemento;
-import org.smooks.engine.memento.TextAccumulatorVisitorMemento;
 import org.smooks.support.ClassUtils;
 import org.smooks.support.DomUtils;
 import org.w3c.dom.CharacterData;
@@ -91,7 +112,10 @@ import javax.inject.Named;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -109,10 +133,13 @@ import java.util.stream.Stream;
 @VisitAfterReport(condition = "!parameters.containsKey('wireBeanId') && !parameters.containsKey('valueAttributeName')",
         summary = "Populating <b>${resource.parameters.beanId}</b> with a value from this element.",
         detailTemplate = "reporting/BeanInstancePopulatorReport_After.html")
-public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, ChildrenVisitor, Producer, Consumer {
+public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, ChildrenVisitor, Producer, Consumer, ContentDeliveryConfigLifecycle, PostExecutionLifecycle {
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(BeanInstancePopulator.class);
 
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<BeanInstancePopulator, Optional> PROPERTY_SETTER_INVOKER_UPDATER = AtomicReferenceFieldUpdater.newUpdater(BeanInstancePopulator.class, Optional.class, "propertySetterInvoker");
+
     protected static final String EXPRESSION_VALUE_VARIABLE_NAME = "_VALUE";
 
     public static final String VALUE_ATTRIBUTE_NAME = "valueAttributeName";
@@ -120,6 +147,23 @@ public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, Child
 
     public static final String NOTIFY_POPULATE = "org.smooks.cartridges.javabean.notify.populate";
 
+    /**
+     * Global parameter for turning on the native accumulation of <code>+=</code>/<code>-=</code> expressions (see
+     * {@link #createExpressionAccumulatorBinding(ExpressionEngine, Class)}).  Default is <code>false</code>, as the
+     * accumulated property is only written when the bean's fragment ends.
+     */
+    public static final String NATIVE_ACCUMULATORS = "org.smooks.cartridges.javabean.native.accumulators";
+
+    /**
+     * Global parameter for turning on the caching of the target bean across the bindings visiting the same element
+     * (see {@link FragmentBeanCache}).  Default is <code>false</code>.
+     */
+    public static final String FRAGMENT_BEAN_CACHE = "org.smooks.cartridges.javabean.fragment.bean.cache";
+
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("[0-9]+(\\.[0-9]+)?");
+    private static final Pattern NUMERIC_VALUE = Pattern.compile("(new\\s+(java\\.(lang|math)\\.)?(Integer|Long|Short|Byte|Double|Float|BigInteger|BigDecimal)" +
+            "|(java\\.lang\\.)?(Integer\\.parseInt|Integer\\.valueOf|Long\\.parseLong|Long\\.valueOf|Double\\.parseDouble|Double\\.valueOf))\\s*\\(\\s*" + EXPRESSION_VALUE_VARIABLE_NAME + "\\s*\\)");
+
     protected String id;
 
     @Inject
@@ -138,7 +182,7 @@ public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, Child
 
     @Inject
     protected Optional<String> expression;
-    protected MVELExpressionEvaluator expressionEvaluator;
+    protected Expression bindingExpression;
     protected boolean expressionHasDataVariable = false;
 
     @Inject
@@ -166,6 +210,39 @@ public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, Child
     @Named(NOTIFY_POPULATE)
     protected Boolean notifyPopulate = false;
 
+    @Inject
+    @Named(SetterInvocationStrategy.GLOBAL_PARAM)
+    protected SetterInvocationStrategy setterInvocationStrategy = SetterInvocationStrategy.METHOD_HANDLE;
+
+    @Inject
+    @Named(ExpressionEvaluationStrategy.GLOBAL_PARAM)
+    protected Optional<String> expressionEvaluationStrategyName;
+
+    protected ExpressionEvaluationStrategy expressionEvaluationStrategy = ExpressionEvaluationStrategy.COMPILED;
+
+    @Inject
+    @Named(ExpressionEngine.GLOBAL_PARAM)
+    protected Optional<String> expressionEngineName;
+
+    @Inject
+    protected Optional<String> accumulate;
+
+    @Inject
+    @Named(NATIVE_ACCUMULATORS)
+    protected Boolean nativeAccumulators = false;
+
+    @Inject
+    @Named(FRAGMENT_BEAN_CACHE)
+    protected Boolean fragmentBeanCache = false;
+
+    @Inject
+    @Named(BeanTrace.TRACE_BEAN_IDS)
+    protected Optional<String> traceBeanIds;
+
+    @Inject
+    @Named(BindingInstrumentation.GLOBAL_PARAM)
+    protected Optional<String> instrumentationClassName;
+
     @Inject
     protected ResourceConfig config;
 
@@ -180,15 +257,26 @@ public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, Child
 
     protected BeanRuntimeInfo beanRuntimeInfo;
 
-    protected BeanRuntimeInfo wiredBeanRuntimeInfo;
-    protected Method propertySetterMethod;
-    protected boolean checkedForSetterMethod;
+    // The bind plan. Resolved up front where possible (see postConstruct() and onContentDeliveryBuilderCreated()).
+    // Anything that can only be resolved from the first bound value is resolved lock-free, and published once...
+    protected volatile BeanRuntimeInfo wiredBeanRuntimeInfo;
+    protected volatile Optional<SetterInvoker> propertySetterInvoker;
     protected boolean isAttribute = true;
-    protected TypeConverterFactory<?, ?> typeConverterFactory;
+    protected volatile TypeConverterFactory<?, ?> typeConverterFactory;
+    protected volatile TypeConverter<? super String, ?> typeConverter;
 
     protected String mapKeyAttribute;
 
+    protected TextAccumulator.Slot textSlot;
+
+    protected AccumulatorBinding accumulatorBinding;
+    // The accumulated operand of a "+= <number>" expression, accumulated in place of the bound value...
+    protected Number accumulatorOperand;
+
     protected boolean isBeanWiring;
+    protected boolean traced;
+    // Null if the binding is not instrumented...
+    protected BindingProbe probe;
     protected BeanWiringObserver wireByBeanIdObserver;
     protected ListToArrayChangeObserver listToArrayChangeObserver;
 
@@ -213,7 +301,11 @@ public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, Child
     }
 
     public void setExpression(MVELExpressionEvaluator expression) {
-        this.expressionEvaluator = expression;
+        this.bindingExpression = new MVELExpression(expression, EXPRESSION_VALUE_VARIABLE_NAME);
+    }
+
+    public void setExpression(Expression expression) {
+        this.bindingExpression = expression;
     }
 
     public void setProperty(String property) {
@@ -242,6 +334,7 @@ public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, Child
 
     public void setTypeConverterFactory(TypeConverterFactory<?, ?> typeConverterFactory) {
         this.typeConverterFactory = typeConverterFactory;
+        this.typeConverter = null;
     }
 
     public TypeConverterFactory<?, ?> getTypeConverterFactory() {
@@ -252,10 +345,42 @@ public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, Child
         this.defaultVal = Optional.ofNullable(defaultVal);
     }
 
+    /**
+     * Are the binds of this populator traced (see {@link BeanTrace}).
+     */
+    public boolean isTraced() {
+        return traced;
+    }
+
     public boolean isBeanWiring() {
         return isBeanWiring;
     }
 
+    public void setSetterInvocationStrategy(SetterInvocationStrategy setterInvocationStrategy) {
+        this.setterInvocationStrategy = setterInvocationStrategy;
+    }
+
+    public SetterInvocationStrategy getSetterInvocationStrategy() {
+        return setterInvocationStrategy;
+    }
+
+    public void setExpressionEvaluationStrategy(ExpressionEvaluationStrategy expressionEvaluationStrategy) {
+        this.expressionEvaluationStrategy = expressionEvaluationStrategy;
+        this.expressionEvaluationStrategyName = Optional.empty();
+    }
+
+    public ExpressionEvaluationStrategy getExpressionEvaluationStrategy() {
+        return expressionEvaluationStrategy;
+    }
+
+    public void setAccumulate(AccumulatorFunction accumulatorFunction) {
+        this.accumulate = Optional.of(accumulatorFunction.name());
+    }
+
+    public AccumulatorBinding getAccumulatorBinding() {
+        return accumulatorBinding;
+    }
+
     /**
      * Set the resource configuration on the bean populator.
      *
@@ -277,6 +402,10 @@ public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, Child
         beanIdStore = applicationContext.getBeanIdStore();
         beanId = beanIdStore.getBeanId(beanIdName);
 
+        if (expressionEvaluationStrategyName != null && expressionEvaluationStrategyName.isPresent()) {
+            expressionEvaluationStrategy = ExpressionEvaluationStrategy.fromParameter(ExpressionEvaluationStrategy.GLOBAL_PARAM, expressionEvaluationStrategyName.get());
+        }
+
         if (!setterMethod.isPresent() && !property.isPresent()) {
             if (isBeanWiring && (beanRuntimeInfo.getClassification() == BeanRuntimeInfo.Classification.NON_COLLECTION || beanRuntimeInfo.getClassification() == BeanRuntimeInfo.Classification.MAP_COLLECTION)) {
                 // Default the property name if it's a wiring...
@@ -300,29 +429,37 @@ public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, Child
 
             expressionHasDataVariable = expression.get().contains(EXPRESSION_VALUE_VARIABLE_NAME);
 
-            expression = Optional.of(expression.get().replace("this.", beanIdName + "."));
-            if (expression.get().startsWith("+=")) {
-                expression = Optional.of(beanIdName + "." + property.orElse(null) + " +" + expression.get().substring(2));
-            }
-            if (expression.get().startsWith("-=")) {
-                expression = Optional.of(beanIdName + "." + property.orElse(null) + " -" + expression.get().substring(2));
-            }
-
-            expressionEvaluator = new MVELExpressionEvaluator();
-            expressionEvaluator.setExpression(expression.get());
-
-            // If we can determine the target binding type, tell MVEL.
+            // If we can determine the target binding type, tell the expression engine.
             // If there's a decoder (a typeAlias), we define a String var instead and leave decoding
             // to the decoder...
             Class<?> bindingType = resolveBindTypeReflectively();
-            if (bindingType != null) {
-                if (typeAlias.isPresent()) {
+            ExpressionEngine expressionEngine = ExpressionEngineFactory.getInstance(expressionEngineName.orElse(null), expressionEvaluationStrategy);
+
+            accumulatorBinding = createExpressionAccumulatorBinding(expressionEngine, bindingType);
+            if (accumulatorBinding == null) {
+                expression = Optional.of(expression.get().replace("this.", beanIdName + "."));
+                if (expression.get().startsWith("+=")) {
+                    expression = Optional.of(beanIdName + "." + property.orElse(null) + " +" + expression.get().substring(2));
+                }
+                if (expression.get().startsWith("-=")) {
+                    expression = Optional.of(beanIdName + "." + property.orElse(null) + " -" + expression.get().substring(2));
+                }
+
+                if (bindingType != null && typeAlias.isPresent()) {
                     bindingType = String.class;
                 }
-                expressionEvaluator.setToType(bindingType);
+                bindingExpression = ExpressionEngineFactory.compile(expressionEngine, expression.get(), bindingType, beanIdStore, EXPRESSION_VALUE_VARIABLE_NAME);
             }
+        } else if (accumulate.isPresent()) {
+            accumulatorBinding = createAccumulatorBinding(AccumulatorFunction.fromName(accumulate.get()), false);
+        }
+
+        if (accumulatorBinding != null) {
+            Accumulators.register(applicationContext, accumulatorBinding);
         }
 
+        resolvePropertySetterMethod();
+
         if (wireBeanIdName.isPresent()) {
             wireBeanId = beanIdStore.getBeanId(wireBeanIdName.get());
             if (wireBeanId == null) {
@@ -339,11 +476,81 @@ public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, Child
             }
         }
 
+        // Text bindings on the same element share the text capture...
+        textSlot = TextAccumulator.allocateSlot(applicationContext, isTextAccumulating() ? config : null, this);
+
+        if (instrumentationClassName.isPresent()) {
+            probe = BindingInstrumentationFactory.getInstance(applicationContext, instrumentationClassName.get()).createProbe(beanIdName, getProbedProperty());
+        }
+
+        traced = BeanTrace.isTraced(beanIdName, traceBeanIds.orElse(null));
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Bean Instance Populator created for [" + beanIdName + "].  property=" + property.orElse(null));
         }
     }
 
+    /**
+     * Create a native accumulator binding for a <code>+=</code>/<code>-=</code> expression on a numeric bean property,
+     * if the expression only adds the bound value, as a number, or a numeric literal e.g.
+     * <code>+= new Integer(_VALUE)</code> or <code>-= 1</code>.  The bound values are then accumulated without
+     * evaluating the expression, and the property is set once, when the bean's fragment ends.
+     *
+     * @param expressionEngine The expression engine.
+     * @param bindingType      The type of the bound property, or <code>null</code> if unknown.
+     * @return The accumulator binding, or <code>null</code> if the expression is to be evaluated by the expression engine.
+     */
+    protected AccumulatorBinding createExpressionAccumulatorBinding(ExpressionEngine expressionEngine, Class<?> bindingType) {
+        String expressionString = expression.orElse("");
+
+        if (!nativeAccumulators || notifyPopulate || !(expressionString.startsWith("+=") || expressionString.startsWith("-="))) {
+            return null;
+        } else if (!property.isPresent() || setterMethod.isPresent() || beanRuntimeInfo.getClassification() != BeanRuntimeInfo.Classification.NON_COLLECTION || !AccumulatorBinding.isNumericType(bindingType)) {
+            return null;
+        }
+
+        String operand = expressionString.substring(2).trim();
+        if (operand.endsWith(";")) {
+            operand = operand.substring(0, operand.length() - 1).trim();
+        }
+
+        if (NUMERIC_LITERAL.matcher(operand).matches()) {
+            accumulatorOperand = new BigDecimal(operand);
+        } else if (!NUMERIC_VALUE.matcher(operand).matches() && !(operand.equals(EXPRESSION_VALUE_VARIABLE_NAME) && expressionEngine instanceof SimpleExpressionEngine)) {
+            return null;
+        }
+
+        return createAccumulatorBinding(AccumulatorFunction.SUM, expressionString.startsWith("-="));
+    }
+
+    protected AccumulatorBinding createAccumulatorBinding(AccumulatorFunction accumulatorFunction, boolean negate) {
+        BeanRuntimeInfo.Classification beanType = beanRuntimeInfo.getClassification();
+
+        if (!property.isPresent() || mapKeyAttribute != null || isBeanWiring || (beanType != BeanRuntimeInfo.Classification.NON_COLLECTION && beanType != BeanRuntimeInfo.Classification.MAP_COLLECTION)) {
+            throw new SmooksConfigException("Accumulator binding configuration for beanIdName='" + beanIdName + "' must bind a value to a 'property' of a bean or a Map.");
+        }
+
+        Class<?> propertyType = resolveBindTypeReflectively();
+        Method getterMethod = null;
+        if (beanType == BeanRuntimeInfo.Classification.NON_COLLECTION) {
+            if (!AccumulatorBinding.isNumericType(propertyType)) {
+                throw new SmooksConfigException("Accumulator binding configuration for beanIdName='" + beanIdName + "' is invalid.  Property '" + property.get() + "' on type [" + beanRuntimeInfo.getPopulateType().getName() + "] is not a numeric property.");
+            }
+            getterMethod = getPropertyGetterMethod();
+        }
+
+        return new AccumulatorBinding(this, beanId, property.get(), accumulatorFunction, propertyType, getterMethod, negate);
+    }
+
+    protected Method getPropertyGetterMethod() {
+        String propertyName = property.get().trim();
+
+        try {
+            return beanRuntimeInfo.getPopulateType().getMethod("get" + Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1));
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
     protected void buildId() {
         StringBuilder idBuilder = new StringBuilder();
         idBuilder.append(BeanInstancePopulator.class.getName());
@@ -363,36 +570,86 @@ public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, Child
 
     @Override
     public void visitBefore(Element element, ExecutionContext executionContext) throws SmooksException {
-        if (!beanExists(executionContext)) {
-            LOGGER.debug("Cannot bind data onto bean '" + beanId + "' as bean does not exist in BeanContext.");
+        if (!isBeanWiring && !isAttribute) {
             return;
         }
 
+        Object bean = getTargetBean(element, executionContext);
+        if (bean == null) {
+            if (BeanTrace.ENABLED && traced) {
+                BeanTrace.event("bean.missing", beanIdName, "id", id, "element", element.getLocalName());
+            }
+            return;
+        }
+
+        if (probe != null) {
+            probe.measure(() -> bindBefore(bean, element, executionContext));
+        } else {
+            bindBefore(bean, element, executionContext);
+        }
+    }
+
+    protected void bindBefore(Object bean, Element element, ExecutionContext executionContext) {
         if (isBeanWiring) {
-            bindBeanValue(executionContext, new NodeFragment(element));
-        } else if (isAttribute) {
+            bindBeanValue(bean, executionContext, new NodeFragment(element));
+        } else {
             // Bind attribute (i.e. selectors with '@' prefix) values on the visitBefore...
-            bindSaxDataValue(element, executionContext);
+            bindSaxDataValue(bean, element, executionContext);
         }
     }
 
     @Override
     public void visitAfter(Element element, ExecutionContext executionContext) throws SmooksException {
-        if (!beanExists(executionContext)) {
-            LOGGER.debug("Cannot bind data onto bean '" + beanId + "' as bean does not exist in BeanContext.");
+        if (isBeanWiring || isAttribute) {
             return;
         }
 
-        if (!isBeanWiring && !isAttribute) {
-            bindSaxDataValue(element, executionContext);
+        Object bean = getTargetBean(element, executionContext);
+        if (bean == null) {
+            if (BeanTrace.ENABLED && traced) {
+                BeanTrace.event("bean.missing", beanIdName, "id", id, "element", element.getLocalName());
+            }
+            if (isTextAccumulating()) {
+                // Release the element text...
+                TextAccumulator.getTextAccumulator(executionContext).getText(textSlot, element, executionContext);
+            }
+            return;
+        }
+
+        if (probe != null) {
+            probe.measure(() -> bindSaxDataValue(bean, element, executionContext));
+        } else {
+            bindSaxDataValue(bean, element, executionContext);
+        }
+    }
+
+    /**
+     * The name under which the binding is instrumented: the property, the setter method or the selector.
+     */
+    protected String getProbedProperty() {
+        if (property.isPresent()) {
+            return property.get();
+        } else if (setterMethod.isPresent()) {
+            return setterMethod.get() + "()";
+        } else {
+            return config.getSelectorPath().getSelector();
         }
     }
 
-    protected boolean beanExists(ExecutionContext executionContext) {
-        return (executionContext.getBeanContext().getBean(beanId) != null);
+    /**
+     * Get the bean bound onto.  Looked up once per visit and then passed down the bind path.
+     *
+     * @return The bean, or <code>null</code> if the bean does not exist in the {@link BeanContext}.
+     */
+    protected Object getTargetBean(Element element, ExecutionContext executionContext) {
+        if (fragmentBeanCache) {
+            return FragmentBeanCache.getFragmentBeanCache(executionContext).getBean(beanId, element);
+        } else {
+            return executionContext.getBeanContext().getBean(beanId);
+        }
     }
 
-    protected void bindSaxDataValue(Element element, ExecutionContext executionContext) {
+    protected void bindSaxDataValue(Object bean, Element element, ExecutionContext executionContext) {
         String propertyName;
 
         if (mapKeyAttribute != null) {
@@ -405,20 +662,26 @@ public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, Child
         }
 
         String dataString = null;
-        if (expressionEvaluator == null || expressionHasDataVariable) {
+        if (bindingExpression == null || expressionHasDataVariable) {
             if (isAttribute) {
                 dataString = getAttributeValue(element, valueAttributeName.orElse(null), valueAttributeNS);
             } else {
-                TextAccumulatorMemento textAccumulatorMemento = new TextAccumulatorVisitorMemento(new NodeFragment(element), this);
-                executionContext.getMementoCaretaker().restore(textAccumulatorMemento);
-                dataString = textAccumulatorMemento.getText();
+                dataString = TextAccumulator.getTextAccumulator(executionContext).getText(textSlot, element, executionContext);
             }
         }
 
-        if (expressionEvaluator != null) {
-            bindExpressionValue(propertyName, dataString, executionContext, new NodeFragment(element));
+        if (accumulatorBinding != null) {
+            accumulateValue(bean, dataString, executionContext, new NodeFragment(element));
+        } else if (bindingExpression != null) {
+            bindExpressionValue(bean, propertyName, dataString, executionContext, new NodeFragment(element));
+        } else if (!isAttribute && !defaultVal.isPresent()) {
+            // Share the decoded text with the other bindings on the element using the same decoder...
+            Object value = TextAccumulator.getTextAccumulator(executionContext).decode(textSlot, element, dataString, typeConverterFactory, text -> decodeDataString(text, executionContext));
+            if (value != null) {
+                setPropertyValue(bean, propertyName, value, executionContext, new NodeFragment(element));
+            }
         } else {
-            decodeAndSetPropertyValue(propertyName, dataString, executionContext, new NodeFragment(element));
+            decodeAndSetPropertyValue(bean, propertyName, dataString, executionContext, new NodeFragment(element));
         }
     }
 
@@ -426,7 +689,7 @@ public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, Child
         return DomUtils.getAttributeValue(element, attributeName, namespaceURI);
     }
 
-    protected void bindBeanValue(final ExecutionContext executionContext, Fragment source) {
+    protected void bindBeanValue(Object targetBean, final ExecutionContext executionContext, Fragment source) {
         final BeanContext beanContext = executionContext.getBeanContext();
         Object bean = null;
 
@@ -442,18 +705,28 @@ public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, Child
 
         if (bean == null) {
 
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Registering bean ADD wiring observer for wiring bean '" + wireBeanId + "' onto target bean '" + beanId.getName() + "'.");
+            if (BeanTrace.ENABLED && traced) {
+                BeanTrace.event("wiring.pending", beanIdName, "wireBeanId", wireBeanIdName.orElse(null), "property", property.orElse(null));
             }
 
-            // Register the observer which looks for the creation of the selected bean via its beanIdName...
-            beanContext.addObserver(wireByBeanIdObserver);
+            // Register the wiring which looks for the creation of the selected bean via its beanIdName...
+            BeanWiringDispatcher.getBeanWiringDispatcher(executionContext).addWiring(wireByBeanIdObserver);
+        } else if (wireByBeanIdObserver.isCollectionWiring()) {
+            wireByBeanIdObserver.append(beanContext, bean);
         } else {
-            populateAndSetPropertyValue(bean, beanContext, wireBeanId, executionContext, source);
+            populateAndSetPropertyValue(targetBean, bean, beanContext, wireBeanId, executionContext, source);
         }
     }
 
     public void populateAndSetPropertyValue(Object bean, BeanContext beanContext, BeanId targetBeanId, final ExecutionContext executionContext, Fragment source) {
+        populateAndSetPropertyValue(null, bean, beanContext, targetBeanId, executionContext, source);
+    }
+
+    /**
+     * @param targetBean The bean bound onto, or <code>null</code> if it's to be looked up in the {@link BeanContext}.
+     * @param bean       The wired bean.
+     */
+    public void populateAndSetPropertyValue(Object targetBean, Object bean, BeanContext beanContext, BeanId targetBeanId, final ExecutionContext executionContext, Fragment source) {
         BeanRuntimeInfo wiredBeanRI = getWiredBeanRuntimeInfo();
 
         // When this observer is triggered then we look if we got something we can set immediately or that we got an array collection.
@@ -461,58 +734,85 @@ public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, Child
         // listens for the change from the list to the array...
         if (wiredBeanRI != null && wiredBeanRI.getClassification() == BeanRuntimeInfo.Classification.ARRAY_COLLECTION) {
 
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Registering bean CHANGE wiring observer for wiring bean '" + targetBeanId + "' onto target bean '" + beanId.getName() + "' after it has been converted from a List to an array.");
+            if (BeanTrace.ENABLED && traced) {
+                BeanTrace.event("wiring.pending.array", beanIdName, "wireBeanId", targetBeanId, "property", property.orElse(null));
             }
             // Register an observer which looks for the change that the mutable list of the selected bean gets converted to an array. We
             // can then set this array
             beanContext.addObserver(listToArrayChangeObserver);
+        } else if (targetBean != null) {
+            setPropertyValue(targetBean, property.orElse(null), bean, executionContext, source);
         } else {
             setPropertyValue(property.orElse(null), bean, executionContext, source);
         }
     }
 
-    protected void bindExpressionValue(String mapPropertyName, String dataString, ExecutionContext executionContext, Fragment source) {
-        Map<String, Object> beanMap = executionContext.getBeanContext().getBeanMap();
-
-        Map<String, Object> variables = new HashMap<>();
-        if (expressionHasDataVariable) {
-            variables.put(EXPRESSION_VALUE_VARIABLE_NAME, dataString);
+    /**
+     * Accumulate a bound value (see {@link Accumulators}).
+     */
+    protected void accumulateValue(Object bean, String dataString, ExecutionContext executionContext, Fragment source) {
+        Object value;
+
+        if (accumulatorOperand != null) {
+            value = accumulatorOperand;
+        } else if (expression.isPresent() || accumulatorBinding.getFunction() == AccumulatorFunction.COUNT) {
+            value = dataString;
+        } else if ((dataString == null || dataString.isEmpty()) && !defaultVal.isPresent()) {
+            value = null;
+        } else {
+            value = decodeDataString(dataString, executionContext);
         }
 
-        Object dataObject = expressionEvaluator.exec(beanMap, variables);
-        decodeAndSetPropertyValue(mapPropertyName, dataObject, executionContext, source);
+        Accumulators.getAccumulators(executionContext).accumulate(accumulatorBinding, bean, value, executionContext, source);
+    }
+
+    protected void bindExpressionValue(Object bean, String mapPropertyName, String dataString, ExecutionContext executionContext, Fragment source) {
+        Object jfrExpressionEvaluated = (JfrSupport.AVAILABLE ? JfrEvents.beginExpressionEvaluated() : null);
+
+        Object dataObject = bindingExpression.evaluate(null, executionContext.getBeanContext(), dataString);
+        if (jfrExpressionEvaluated != null) {
+            JfrEvents.expressionEvaluated(jfrExpressionEvaluated, beanIdName, mapPropertyName, bindingExpression.getExpression());
+        }
+        decodeAndSetPropertyValue(bean, mapPropertyName, dataObject, executionContext, source);
     }
 
-    protected void decodeAndSetPropertyValue(String mapPropertyName, Object dataObject, ExecutionContext executionContext, Fragment source) {
+    protected void decodeAndSetPropertyValue(Object bean, String mapPropertyName, Object dataObject, ExecutionContext executionContext, Fragment source) {
         if (dataObject instanceof String) {
-            setPropertyValue(mapPropertyName, decodeDataString((String) dataObject, executionContext), executionContext, source);
-        } else {
-            setPropertyValue(mapPropertyName, dataObject, executionContext, source);
+            dataObject = decodeDataString((String) dataObject, executionContext);
         }
 
+        if (dataObject != null) {
+            setPropertyValue(bean, mapPropertyName, dataObject, executionContext, source);
+        }
     }
 
-    @SuppressWarnings("unchecked")
     public void setPropertyValue(String mapPropertyName, Object dataObject, ExecutionContext executionContext, Fragment source) {
         if (dataObject == null) {
             return;
         }
 
-        Object bean = executionContext.getBeanContext().getBean(beanId);
+        setPropertyValue(executionContext.getBeanContext().getBean(beanId), mapPropertyName, dataObject, executionContext, source);
+    }
+
+    /**
+     * Set the property value on the supplied instance of the bean.
+     */
+    @SuppressWarnings("unchecked")
+    public void setPropertyValue(Object bean, String mapPropertyName, Object dataObject, ExecutionContext executionContext, Fragment source) {
+        Object jfrPropertyBound = (JfrSupport.AVAILABLE ? JfrEvents.beginPropertyBound() : null);
 
         BeanRuntimeInfo.Classification beanType = beanRuntimeInfo.getClassification();
 
-        createPropertySetterMethod(bean, dataObject.getClass());
+        SetterInvoker propertySetterInvoker = getPropertySetterInvoker(bean, dataObject.getClass());
 
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("Setting data object '" + wireBeanIdName.orElse(null) + "' (" + dataObject.getClass().getName() + ") on target bean '" + beanId + "'.");
+        if (BeanTrace.ENABLED && traced) {
+            BeanTrace.event("property.set", beanIdName, "property", mapPropertyName, "wireBeanId", wireBeanIdName.orElse(null), "type", dataObject.getClass().getName());
         }
 
         // Set the data on the bean...
         try {
-            if (propertySetterMethod != null) {
-                propertySetterMethod.invoke(bean, dataObject);
+            if (propertySetterInvoker != null && propertySetterInvoker.accepts(dataObject)) {
+                propertySetterInvoker.invoke(bean, dataObject);
             } else if (beanType == BeanRuntimeInfo.Classification.MAP_COLLECTION) {
                 ((Map) bean).put(mapPropertyName, dataObject);
             } else if (beanType == BeanRuntimeInfo.Classification.ARRAY_COLLECTION || beanType == BeanRuntimeInfo.Classification.COLLECTION_COLLECTION) {
@@ -542,41 +842,98 @@ public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, Child
                 BeanContextLifecycleEvent event = new DefaultBeanContextLifecycleEvent(executionContext, source, BeanLifecycle.POPULATE, beanId, bean);
                 executionContext.getBeanContext().notifyObservers(event);
             }
+
+            if (jfrPropertyBound != null) {
+                JfrEvents.propertyBound(jfrPropertyBound, beanIdName, mapPropertyName, dataObject.getClass());
+            }
         } catch (IllegalAccessException | InvocationTargetException e) {
             throw new SmooksConfigException("Error invoking bean setter method [" + ClassUtils.toSetterName(property.orElse(null)) + "] on bean instance class type [" + bean.getClass() + "].", e);
         }
     }
 
-    protected void createPropertySetterMethod(Object bean, Class<?> parameter) {
+    /**
+     * Resolve the bean setter method at configuration time.
+     * <p/>
+     * The setter is only resolved here if the bean class has exactly one setter method for
+     * the binding.  Otherwise, it's resolved on the first bind from the type of the bound value
+     * (see {@link #getPropertySetterInvoker(Object, Class)}).
+     */
+    protected void resolvePropertySetterMethod() {
+        String methodName = getSetterMethodName();
 
-        if (!checkedForSetterMethod && propertySetterMethod == null) {
-            String methodName = null;
-            if (setterMethod.isPresent() && !setterMethod.get().trim().equals("")) {
-                methodName = setterMethod.get();
-            } else if (property.isPresent() && !property.get().trim().equals("")) {
-                methodName = ClassUtils.toSetterName(property.get());
+        if (methodName == null) {
+            // Nothing to resolve...
+            propertySetterInvoker = Optional.empty();
+            return;
+        } else if (beanRuntimeInfo.getClassification() != BeanRuntimeInfo.Classification.NON_COLLECTION) {
+            return;
+        }
+
+        Class<?> setterParamType = null;
+        for (Method method : beanRuntimeInfo.getPopulateType().getMethods()) {
+            if (method.getName().equals(methodName) && method.getParameterTypes().length == 1) {
+                if (setterParamType != null) {
+                    // Overloaded setter. Need the bound value type to select the setter...
+                    return;
+                }
+                setterParamType = method.getParameterTypes()[0];
             }
+        }
 
-            if (methodName != null) {
-                propertySetterMethod = createPropertySetterMethod(bean, methodName, parameter);
+        if (setterParamType != null) {
+            Method method = BeanUtils.createSetterMethod(methodName, beanRuntimeInfo.getPopulateType(), setterParamType);
+            if (method != null) {
+                propertySetterInvoker = Optional.of(setterInvocationStrategy.createSetterInvoker(method));
             }
+        }
+    }
 
-            checkedForSetterMethod = true;
+    protected String getSetterMethodName() {
+        if (setterMethod.isPresent() && !setterMethod.get().trim().equals("")) {
+            return setterMethod.get();
+        } else if (property.isPresent() && !property.get().trim().equals("")) {
+            return ClassUtils.toSetterName(property.get());
+        } else {
+            return null;
         }
     }
 
     /**
-     * Create the bean setter method instance for this visitor.
+     * Get the bean setter for this visitor.
+     * <p/>
+     * If the setter was not resolved at configuration time, it's resolved from the type of the first
+     * bound value.  Concurrent binds may race to resolve it, in which case the first resolved setter wins.
      *
-     * @param setterName The setter method name.
-     * @return The bean setter method.
+     * @param bean            The target bean.
+     * @param setterParamType The type of the bound value.
+     * @return The bean setter, or <code>null</code> if the bean has no setter for this binding.
      */
-    protected synchronized Method createPropertySetterMethod(Object bean, String setterName, Class<?> setterParamType) {
-        if (propertySetterMethod == null) {
-            propertySetterMethod = BeanUtils.createSetterMethod(setterName, bean, setterParamType);
+    protected SetterInvoker getPropertySetterInvoker(Object bean, Class<?> setterParamType) {
+        Optional<SetterInvoker> propertySetterInvoker = this.propertySetterInvoker;
+
+        if (propertySetterInvoker == null) {
+            propertySetterInvoker = Optional.ofNullable(createPropertySetterInvoker(bean, getSetterMethodName(), setterParamType));
+            if (!PROPERTY_SETTER_INVOKER_UPDATER.compareAndSet(this, null, propertySetterInvoker)) {
+                propertySetterInvoker = this.propertySetterInvoker;
+            }
         }
 
-        return propertySetterMethod;
+        return propertySetterInvoker.orElse(null);
+    }
+
+    /**
+     * Create the bean setter instance for this visitor.
+     *
+     * @param setterName The setter method name.
+     * @return The bean setter, or <code>null</code> if the bean has no such setter.
+     */
+    protected SetterInvoker createPropertySetterInvoker(Object bean, String setterName, Class<?> setterParamType) {
+        Method method = BeanUtils.createSetterMethod(setterName, bean, setterParamType);
+        if (method != null) {
+            return setterInvocationStrategy.createSetterInvoker(method);
+        } else {
+            return null;
+        }
     }
 
     protected Object decodeDataString(String dataString, ExecutionContext executionContext) throws TypeConverterException {
@@ -587,24 +944,61 @@ public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, Child
             dataString = defaultVal.get();
         }
 
-        if (typeConverterFactory == null) {
-            typeConverterFactory = getTypeConverterFactory(executionContext);
-        }
+        Object jfrDecodeFailed = (JfrSupport.AVAILABLE ? JfrEvents.beginDecodeFailed() : null);
 
-        TypeConverter typeConverter = typeConverterFactory.createTypeConverter();
         try {
-            return typeConverter.convert(dataString);
+            return getTypeConverter(executionContext).convert(dataString);
         } catch (TypeConverterException e) {
+            if (jfrDecodeFailed != null) {
+                JfrEvents.decodeFailed(jfrDecodeFailed, beanIdName, property.orElse(null), dataString, e);
+            }
             throw new TypeConverterException("Failed to decode binding value '" + dataString + "' for property '" + property + "' on bean '" + beanId.getName() + "'.", e);
         }
     }
 
+    /**
+     * Get the converter for this binding.
+     * <p/>
+     * The converter is created once and shared by all threads. Converters that are not thread-safe are
+     * confined to the thread using them (see {@link ThreadSafeTypeConverters}).  It's normally created
+     * up front in {@link #onContentDeliveryBuilderCreated()}.
+     *
+     * @param executionContext The execution context.
+     * @return The binding's converter.
+     */
+    protected TypeConverter<? super String, ?> getTypeConverter(ExecutionContext executionContext) throws TypeConverterException {
+        TypeConverter<? super String, ?> typeConverter = this.typeConverter;
+        if (typeConverter == null) {
+            // Not resolved up front. No need to synchronize, at worst the converter gets created more than once...
+            TypeConverterFactory<?, ?> typeConverterFactory = this.typeConverterFactory;
+            if (typeConverterFactory == null) {
+                typeConverterFactory = getTypeConverterFactory(executionContext);
+            }
+            typeConverter = createTypeConverter(typeConverterFactory);
+            this.typeConverter = typeConverter;
+        }
+
+        return typeConverter;
+    }
+
+    protected TypeConverter<? super String, ?> createTypeConverter(TypeConverterFactory<?, ?> typeConverterFactory) {
+        return ThreadSafeTypeConverters.createTypeConverter((TypeConverterFactory<? super String, ?>) typeConverterFactory);
+    }
+
     protected TypeConverterFactory<?, ?> getTypeConverterFactory(ExecutionContext executionContext) throws TypeConverterException {
         return getTypeConverterFactory(executionContext.getContentDeliveryRuntime().getContentDeliveryConfig());
     }
 
     public TypeConverterFactory<?, ?> getTypeConverterFactory(ContentDeliveryConfig contentDeliveryConfig) {
-        List<?> typeConverterFactories = contentDeliveryConfig.getObjects("decoder:" + typeAlias.orElse(null));
+        return resolveTypeConverterFactory(contentDeliveryConfig.getObjects(getDecoderSelector()));
+    }
+
+    protected String getDecoderSelector() {
+        return "decoder:" + typeAlias.orElse(null);
+    }
+
+    protected TypeConverterFactory<?, ?> resolveTypeConverterFactory(List<?> typeConverterFactories) {
+        TypeConverterFactory<?, ?> typeConverterFactory;
 
         if (typeConverterFactories == null || typeConverterFactories.isEmpty()) {
             if (typeAlias.isPresent()) {
@@ -625,6 +1019,8 @@ public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, Child
             }
         }
 
+        this.typeConverterFactory = typeConverterFactory;
+
         return typeConverterFactory;
     }
 
@@ -633,17 +1029,7 @@ public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, Child
 
         if (bindType != null) {
             if (bindType.isEnum()) {
-                return new TypeConverterFactory<String, Object>() {
-                    @Override
-                    public TypeConverter<? super String, ?> createTypeConverter() {
-                        return (TypeConverter<String, Object>) value -> Enum.valueOf((Class) bindType, value);
-                    }
-
-                    @Override
-                    public TypeConverterDescriptor<Class<String>, Class<Object>> getTypeConverterDescriptor() {
-                        return null;
-                    }
-                };
+                return new ReflectiveEnumTypeConverterFactory(bindType);
             } else {
                 TypeConverterFactory<? super String, ?> typeConverterFactory = applicationContext.getRegistry().lookup(new SourceTargetTypeConverterFactoryLookup<>(String.class, bindType));
 
@@ -673,11 +1059,112 @@ public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, Child
         if (wiredBeanRuntimeInfo == null) {
             // Don't need to synchronize this.  Worse thing that can happen is we initialize it
             // more than once... no biggie...
-            wiredBeanRuntimeInfo = BeanRuntimeInfo.getBeanRuntimeInfo(wireBeanIdName.orElse(null), applicationContext);
+            BeanRuntimeInfoTable beanRuntimeInfoTable = BeanRuntimeInfoTable.getInstance(applicationContext);
+            wiredBeanRuntimeInfo = (wireBeanId != null ? beanRuntimeInfoTable.get(wireBeanId) : beanRuntimeInfoTable.get(wireBeanIdName.orElse(null)));
         }
         return wiredBeanRuntimeInfo;
     }
 
+    @Override
+    public void onContentHandlersCreated() {
+
+    }
+
+    /**
+     * Resolve the rest of the bind plan.
+     * <p/>
+     * All the bean runtime info has been registered at this point, so the wired bean runtime info and the
+     * type converter can be resolved before any message is filtered.
+     */
+    @Override
+    public void onContentDeliveryBuilderCreated() {
+        BeanRuntimeInfoTable beanRuntimeInfoTable = BeanRuntimeInfoTable.getInstance(applicationContext);
+        if (!beanRuntimeInfoTable.isFrozen()) {
+            beanRuntimeInfoTable.freeze(beanIdStore);
+        }
+
+        if (wireBeanId != null) {
+            wiredBeanRuntimeInfo = beanRuntimeInfoTable.get(wireBeanId);
+
+            ResourceConfig wiredBeanConfig = wireBeanId.getCreateResourceConfiguration();
+            if (wiredBeanConfig != null && Boolean.parseBoolean(wiredBeanConfig.getParameterValue("stream", String.class))) {
+                // Wiring would hold on to every streamed instance...
+                throw new SmooksConfigException("Bean [" + beanIdName + "] configuration invalid.  Bean [" + wireBeanIdName.orElse(null) + "] is streamed (stream=\"true\") and so cannot be wired into another bean.  Consume the streamed bean instances from a BeanSink instead.");
+            }
+        }
+
+        if (isBeanWiring) {
+            wireByBeanIdObserver.collectionWiring(isCollectionWiring());
+        }
+
+        if (!isBeanWiring && typeConverter == null) {
+            TypeConverterFactory<?, ?> typeConverterFactory = this.typeConverterFactory;
+            if (typeConverterFactory == null && !isDecoderConfigured()) {
+                typeConverterFactory = resolveTypeConverterFactory(Collections.emptyList());
+            }
+            if (typeConverterFactory != null) {
+                typeConverter = createTypeConverter(typeConverterFactory);
+            }
+        }
+    }
+
+    /**
+     * Can the wired bean be appended straight onto the target Collection/Array bean?  Not if the wiring
+     * selects beans by type or annotation, needs POPULATE notifications, binds through a setter, or wires in an
+     * array (which needs to wait for the List to array CHANGE event).
+     */
+    protected boolean isCollectionWiring() {
+        BeanRuntimeInfo.Classification beanType = beanRuntimeInfo.getClassification();
+
+        if (beanType != BeanRuntimeInfo.Classification.COLLECTION_COLLECTION && beanType != BeanRuntimeInfo.Classification.ARRAY_COLLECTION) {
+            return false;
+        } else if (wireBeanId == null || wireBeanType.isPresent() || wireBeanAnnotation.isPresent()) {
+            return false;
+        } else if (notifyPopulate || getSetterMethodName() != null) {
+            return false;
+        }
+
+        return wiredBeanRuntimeInfo == null || wiredBeanRuntimeInfo.getClassification() != BeanRuntimeInfo.Classification.ARRAY_COLLECTION;
+    }
+
+    @Override
+    public void onContentDeliveryConfigCreated() {
+
+    }
+
+    /**
+     * Write back the result of an accumulator binding still accumulating e.g. because the binding is outside the
+     * bean's fragment.
+     */
+    @Override
+    public void onPostExecution(ExecutionContext executionContext) {
+        if (accumulatorBinding != null) {
+            Accumulators.flush(new AccumulatorBinding[]{accumulatorBinding}, executionContext, null);
+        }
+    }
+
+    /**
+     * Is there a decoder resource config for this binding's type alias?  Decoder resources are only
+     * available from the {@link ContentDeliveryConfig}, in which case the type converter is resolved
+     * on the first bind.
+     */
+    protected boolean isDecoderConfigured() {
+        String decoderSelector = getDecoderSelector();
+        List<ResourceConfigSeq> resourceConfigSeqs = applicationContext.getRegistry().lookup(new ResourceConfigSeqsLookup());
+
+        if (resourceConfigSeqs != null) {
+            for (ResourceConfigSeq resourceConfigSeq : resourceConfigSeqs) {
+                for (ResourceConfig resourceConfig : resourceConfigSeq.getAll()) {
+                    if (decoderSelector.equals(resourceConfig.getSelectorPath().getSelector())) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
     protected String getId() {
         return id;
     }
@@ -692,22 +1179,43 @@ public class BeanInstancePopulator implements BeforeVisitor, AfterVisitor, Child
         } else if (object.equals(wireBeanIdName.orElse(null))) {
             return true;
         } else {
-            return expressionEvaluator != null && expressionEvaluator.getExpression().contains(object.toString());
+            return bindingExpression != null && bindingExpression.getExpression().contains(object.toString());
         }
     }
 
     @Override
     public void visitChildText(CharacterData characterData, ExecutionContext executionContext) throws SmooksException {
-        if (!isBeanWiring && !isAttribute && (expressionEvaluator == null || expressionHasDataVariable)) {
-            TextAccumulatorMemento textAccumulatorMemento = new TextAccumulatorVisitorMemento(new NodeFragment(characterData.getParentNode()), this);
-            executionContext.getMementoCaretaker().restore(textAccumulatorMemento);
-            textAccumulatorMemento.accumulateText(characterData.getTextContent());
-            executionContext.getMementoCaretaker().capture(textAccumulatorMemento);
+        if (isTextAccumulating()) {
+            TextAccumulator.getTextAccumulator(executionContext).accumulate(textSlot, characterData, executionContext);
         }
     }
 
+    protected boolean isTextAccumulating() {
+        return !isBeanWiring && !isAttribute && (bindingExpression == null || expressionHasDataVariable);
+    }
+
     @Override
     public void visitChildElement(Element childElement, ExecutionContext executionContext) throws SmooksException {
 
     }
+
+    @ThreadSafe
+    private static class ReflectiveEnumTypeConverterFactory implements TypeConverterFactory<String, Object> {
+
+        private final Class<?> enumType;
+
+        private ReflectiveEnumTypeConverterFactory(Class<?> enumType) {
+            this.enumType = enumType;
+        }
+
+        @Override
+        public TypeConverter<? super String, ?> createTypeConverter() {
+            return (TypeConverter<String, Object>) value -> Enum.valueOf((Class) enumType, value);
+        }
+
+        @Override
+        public TypeConverterDescriptor<Class<String>, Class<Object>> getTypeConverterDescriptor() {
+            return null;
+        }
+    }
 }
@@ -69,6 +69,10 @@ import java.util.Map;
  */
 public class BeanMapExpressionEvaluator extends MVELExpressionEvaluator implements ExecutionContextExpressionEvaluator {
 
+    /**
+     * @deprecated Expression evaluations are traced with {@link BeanTrace}.
+     */
+    @Deprecated
     protected static final Logger LOGGER = LoggerFactory.getLogger(BeanMapExpressionEvaluator.class);
 
     public BeanMapExpressionEvaluator() {
@@ -87,12 +91,8 @@ public class BeanMapExpressionEvaluator extends MVELExpressionEvaluator implemen
 
         Object value = exec(beans);
 
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("Expression value evaluation:===============================================================");
-            LOGGER.debug("\tExpression='" + getExpression() + "'");
-            LOGGER.debug("\tBean Map='" + beans + "'");
-            LOGGER.debug("\tValue='" + value + "'");
-            LOGGER.debug("===========================================================================================");
+        if (BeanTrace.ENABLED) {
+            BeanTrace.event("expression.evaluated", null, "expression", getExpression(), "value", value);
         }
 
         return value;
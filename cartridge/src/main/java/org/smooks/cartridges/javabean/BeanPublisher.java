@@ -0,0 +1,265 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean;
+
+import org.smooks.Smooks;
+import org.smooks.api.ExecutionContext;
+import org.smooks.api.io.Source;
+import org.smooks.assertion.AssertArgument;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publisher of the streamed instances of a bean.
+ * <p/>
+ * Filters a {@link Source} on an {@link Executor} thread and emits the instances of a bean configured with
+ * <code>stream="true"</code> (see {@link BeanSink}) to a single {@link Subscriber}.  Subscriber demand is
+ * honoured by pausing the filtering thread (and so the read of the source) until more beans are requested,
+ * which keeps the memory used for large messages bounded by the subscriber, and not by the message size.
+ * <p/>
+ * {@link Subscriber} and {@link Subscription} follow the <code>java.util.concurrent.Flow</code> contract
+ * (which is not available on Java 8), so adapting a publisher to a <code>Flow.Subscriber</code> is a
+ * matter of delegating method for method.
+ * <pre>
+ * BeanPublisher&lt;OrderItem&gt; publisher = new BeanPublisher&lt;&gt;(smooks, "orderItem", new StreamSource&lt;&gt;(messageStream));
+ *
+ * publisher.subscribe(batchingWriter);
+ * </pre>
+ *
+ * @param <T> The bean type.
+ */
+public class BeanPublisher<T> {
+
+    private final Smooks smooks;
+    private final String beanId;
+    private final Source source;
+    private final Executor executor;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * Public constructor.
+     * <p/>
+     * The source is filtered on a new thread.
+     *
+     * @param smooks The Smooks instance.
+     * @param beanId The beanId of the streamed bean.
+     * @param source The source to filter.
+     */
+    public BeanPublisher(Smooks smooks, String beanId, Source source) {
+        this(smooks, beanId, source, runnable -> new Thread(runnable, BeanPublisher.class.getSimpleName() + ":" + beanId).start());
+    }
+
+    /**
+     * Public constructor.
+     *
+     * @param smooks   The Smooks instance.
+     * @param beanId   The beanId of the streamed bean.
+     * @param source   The source to filter.
+     * @param executor The executor filtering the source.  The filtering thread blocks while there is no demand,
+     *                 so this should not be a pool of a few shared threads.
+     */
+    public BeanPublisher(Smooks smooks, String beanId, Source source, Executor executor) {
+        AssertArgument.isNotNull(smooks, "smooks");
+        AssertArgument.isNotNullAndNotEmpty(beanId, "beanId");
+        AssertArgument.isNotNull(source, "source");
+        AssertArgument.isNotNull(executor, "executor");
+
+        this.smooks = smooks;
+        this.beanId = beanId;
+        this.source = source;
+        this.executor = executor;
+    }
+
+    /**
+     * Subscribe to the bean instances.
+     * <p/>
+     * The source is filtered once, so only a single subscriber is supported.  Further subscribers are
+     * signalled an {@link IllegalStateException}.
+     *
+     * @param subscriber The subscriber.
+     */
+    public void subscribe(Subscriber<? super T> subscriber) {
+        AssertArgument.isNotNull(subscriber, "subscriber");
+
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new BeanSubscription<>(subscriber));
+            subscriber.onError(new IllegalStateException("Publisher for bean '" + beanId + "' already has a subscriber."));
+            return;
+        }
+
+        BeanSubscription<T> subscription = new BeanSubscription<>(subscriber);
+        subscriber.onSubscribe(subscription);
+        executor.execute(() -> publish(subscription));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void publish(BeanSubscription<T> subscription) {
+        try {
+            if (subscription.awaitDemand()) {
+                ExecutionContext executionContext = smooks.createExecutionContext();
+                smooks.filterSource(executionContext, source, new BeanSink(beanId, bean -> subscription.next((T) bean)));
+            }
+            subscription.complete(null);
+        } catch (Throwable t) {
+            subscription.complete(t);
+        }
+    }
+
+    /**
+     * Receiver of the bean instances.
+     *
+     * @param <T> The bean type.
+     */
+    public interface Subscriber<T> {
+
+        void onSubscribe(Subscription subscription);
+
+        void onNext(T item);
+
+        void onError(Throwable throwable);
+
+        void onComplete();
+    }
+
+    /**
+     * Link between a {@link BeanPublisher} and its {@link Subscriber}.
+     */
+    public interface Subscription {
+
+        /**
+         * Add <code>n</code> bean instances to the demand of the subscriber.
+         *
+         * @param n The number of bean instances.  A non-positive number cancels the subscription with an
+         *          {@link IllegalArgumentException}.
+         */
+        void request(long n);
+
+        /**
+         * Stop the filtering of the source.
+         */
+        void cancel();
+    }
+
+    private static final class BeanSubscription<T> implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+        private long demand;
+        private boolean cancelled;
+        private Throwable error;
+
+        private BeanSubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public synchronized void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Requested bean count must be positive: " + n);
+                cancelled = true;
+            } else {
+                demand += n;
+                if (demand < 0) {
+                    demand = Long.MAX_VALUE;
+                }
+            }
+            notifyAll();
+        }
+
+        @Override
+        public synchronized void cancel() {
+            cancelled = true;
+            notifyAll();
+        }
+
+        private synchronized boolean awaitDemand() throws InterruptedException {
+            while (demand == 0 && !cancelled) {
+                wait();
+            }
+            return !cancelled;
+        }
+
+        private void next(T bean) {
+            try {
+                if (!awaitDemand()) {
+                    throw new CancellationException();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new CancellationException();
+            }
+            synchronized (this) {
+                if (demand != Long.MAX_VALUE) {
+                    demand--;
+                }
+            }
+            subscriber.onNext(bean);
+        }
+
+        private void complete(Throwable throwable) {
+            Throwable signal;
+            synchronized (this) {
+                signal = error;
+                if (signal == null && cancelled) {
+                    return;
+                }
+                if (signal == null) {
+                    signal = throwable;
+                }
+                cancelled = true;
+            }
+            if (signal == null) {
+                subscriber.onComplete();
+            } else {
+                subscriber.onError(signal);
+            }
+        }
+    }
+
+    private static final class CancellationException extends RuntimeException {
+        private CancellationException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -49,18 +49,17 @@ import org.smooks.support.ClassUtils;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Java bean runtime info.
+ * <p/>
+ * The runtime infos of an application context's beans are held in its {@link BeanRuntimeInfoTable}.
  *
  * @author <a href="mailto:tom.fennelly@gmail.com">tom.fennelly@gmail.com</a>
  */
 public class BeanRuntimeInfo {
 
-    protected static final String CONTEXT_KEY = BeanRuntimeInfo.class.getName() + "#CONTEXT_KEY";
-
     /**
      * The basic type that's created and populated for the associated bean.
      */
@@ -111,20 +110,11 @@ public class BeanRuntimeInfo {
     }
 
     public static void recordBeanRuntimeInfo(String beanId, BeanRuntimeInfo beanRuntimeInfo, ApplicationContext appContext) {
-        Map<String, BeanRuntimeInfo> runtimeInfoMap = getRuntimeInfoMap(appContext);
-        BeanRuntimeInfo existingBeanConfig = runtimeInfoMap.get(beanId);
-
-        if (existingBeanConfig != null && !beanRuntimeInfo.equals(existingBeanConfig)) {
-            throw new SmooksConfigException("Multiple configurations present with beanId='" + beanId + "', but the bean runtime infos are not equal i.e bean classes etc are different.  Use a different beanId and the 'setOnMethod' config if needed.");
-        }
-
-        runtimeInfoMap.put(beanId, beanRuntimeInfo);
+        BeanRuntimeInfoTable.getInstance(appContext).record(beanId, beanRuntimeInfo);
     }
 
     public static BeanRuntimeInfo getBeanRuntimeInfo(String beanId, ApplicationContext appContext) {
-        Map<String, BeanRuntimeInfo> runtimeInfoMap = getRuntimeInfoMap(appContext);
-
-        return runtimeInfoMap.get(beanId);
+        return BeanRuntimeInfoTable.getInstance(appContext).get(beanId);
     }
 
     public void setClassification(Class<?> clazz) {
@@ -141,13 +131,11 @@ public class BeanRuntimeInfo {
     }
 
     public static BeanRuntimeInfo getBeanRuntimeInfo(String beanId, String beanClassName, ApplicationContext appContext) {
-        Map<String, BeanRuntimeInfo> runtimeInfoMap = getRuntimeInfoMap(appContext);
-
-        BeanRuntimeInfo beanRuntimeInfo = runtimeInfoMap.get(beanId);
+        BeanRuntimeInfoTable beanRuntimeInfoTable = BeanRuntimeInfoTable.getInstance(appContext);
+        BeanRuntimeInfo beanRuntimeInfo = beanRuntimeInfoTable.get(beanId);
 
         if (beanRuntimeInfo == null) {
-            beanRuntimeInfo = new BeanRuntimeInfo(beanClassName);
-            recordBeanRuntimeInfo(beanId, beanRuntimeInfo, appContext);
+            beanRuntimeInfo = beanRuntimeInfoTable.record(beanId, new BeanRuntimeInfo(beanClassName));
         }
         return beanRuntimeInfo;
     }
@@ -202,16 +190,13 @@ public class BeanRuntimeInfo {
         }
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * @deprecated Use {@link BeanRuntimeInfoTable#getBeanRuntimeInfos()}.  The returned map is modifiable, which
+     * stops the runtime infos being looked up by {@link org.smooks.api.bean.repository.BeanId} index.
+     */
+    @Deprecated
     protected static Map<String, BeanRuntimeInfo> getRuntimeInfoMap(ApplicationContext appContext) {
-        Map<String, BeanRuntimeInfo> runtimeInfoMap = (Map<String, BeanRuntimeInfo>) appContext.getRegistry().lookup(CONTEXT_KEY);
-
-        if (runtimeInfoMap == null) {
-            runtimeInfoMap = new HashMap<>();
-            appContext.getRegistry().registerObject(CONTEXT_KEY, runtimeInfoMap);
-        }
-
-        return runtimeInfoMap;
+        return BeanRuntimeInfoTable.getInstance(appContext).getMutableBeanRuntimeInfos();
     }
 
     public Class<?> getPopulateType() {
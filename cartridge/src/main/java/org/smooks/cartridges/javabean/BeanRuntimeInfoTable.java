@@ -0,0 +1,220 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean;
+
+import org.smooks.api.ApplicationContext;
+import org.smooks.api.SmooksConfigException;
+import org.smooks.api.bean.context.BeanIdStore;
+import org.smooks.api.bean.repository.BeanId;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link BeanRuntimeInfo} table of an application context.
+ * <p/>
+ * The bean runtime infos are recorded, by beanId, while the configuration is loaded.  Once all the visitors have
+ * been created, the table is frozen (see {@link #freeze(BeanIdStore)}) into an immutable array indexed by
+ * {@link BeanId#getIndex()}, so that looking up a bean runtime info while filtering is an array read.  A bean
+ * runtime info recorded after the table is frozen (e.g. by a visitor added later on) is published in a new copy
+ * of the array.
+ * <p/>
+ * Beans without a {@link BeanId} in the bean id store when the table is frozen are looked up by beanId name.
+ */
+public final class BeanRuntimeInfoTable {
+
+    private static final String CONTEXT_KEY = BeanRuntimeInfoTable.class.getName() + "#CONTEXT_KEY";
+    private static final Object INSTANCE_LOCK = new Object();
+
+    private final ConcurrentMap<String, BeanRuntimeInfo> beanRuntimeInfos = new ConcurrentHashMap<>();
+    private volatile BeanIdStore beanIdStore;
+    private volatile BeanRuntimeInfo[] table;
+    // The bean runtime infos have been handed out for modification, so they can't be frozen...
+    private boolean mutable;
+
+    private BeanRuntimeInfoTable() {
+    }
+
+    /**
+     * Get the bean runtime info table of an application context.
+     *
+     * @param applicationContext The application context.
+     * @return The bean runtime info table.
+     */
+    public static BeanRuntimeInfoTable getInstance(ApplicationContext applicationContext) {
+        BeanRuntimeInfoTable beanRuntimeInfoTable = (BeanRuntimeInfoTable) applicationContext.getRegistry().lookup(CONTEXT_KEY);
+
+        if (beanRuntimeInfoTable == null) {
+            synchronized (INSTANCE_LOCK) {
+                beanRuntimeInfoTable = (BeanRuntimeInfoTable) applicationContext.getRegistry().lookup(CONTEXT_KEY);
+                if (beanRuntimeInfoTable == null) {
+                    beanRuntimeInfoTable = new BeanRuntimeInfoTable();
+                    applicationContext.getRegistry().registerObject(CONTEXT_KEY, beanRuntimeInfoTable);
+                }
+            }
+        }
+
+        return beanRuntimeInfoTable;
+    }
+
+    /**
+     * Record the runtime info of a bean.
+     *
+     * @param beanId          The beanId.
+     * @param beanRuntimeInfo The bean runtime info.
+     * @return The recorded bean runtime info, which is the bean runtime info already recorded for the beanId if there is one.
+     * @throws SmooksConfigException A different bean runtime info is already recorded for the beanId.
+     */
+    public BeanRuntimeInfo record(String beanId, BeanRuntimeInfo beanRuntimeInfo) throws SmooksConfigException {
+        BeanRuntimeInfo existingBeanRuntimeInfo = beanRuntimeInfos.putIfAbsent(beanId, beanRuntimeInfo);
+
+        if (existingBeanRuntimeInfo != null) {
+            if (!beanRuntimeInfo.equals(existingBeanRuntimeInfo)) {
+                throw new SmooksConfigException("Multiple configurations present with beanId='" + beanId + "', but the bean runtime infos are not equal i.e bean classes etc are different.  Use a different beanId and the 'setOnMethod' config if needed.");
+            }
+            return existingBeanRuntimeInfo;
+        }
+
+        BeanIdStore beanIdStore = this.beanIdStore;
+        if (beanIdStore != null) {
+            // Recorded after the table was frozen...
+            freeze(beanIdStore);
+        }
+
+        return beanRuntimeInfo;
+    }
+
+    /**
+     * Get the runtime info of a bean.
+     *
+     * @param beanId The beanId.
+     * @return The bean runtime info, or <code>null</code> if none is recorded for the beanId.
+     */
+    public BeanRuntimeInfo get(String beanId) {
+        return (beanId != null ? beanRuntimeInfos.get(beanId) : null);
+    }
+
+    /**
+     * Get the runtime info of a bean.
+     * <p/>
+     * An array read once the table is frozen.
+     *
+     * @param beanId The beanId.
+     * @return The bean runtime info, or <code>null</code> if none is recorded for the beanId.
+     */
+    public BeanRuntimeInfo get(BeanId beanId) {
+        if (beanId == null) {
+            return null;
+        }
+
+        BeanRuntimeInfo[] table = this.table;
+        int index = beanId.getIndex();
+        if (table != null && index >= 0 && index < table.length && table[index] != null) {
+            return table[index];
+        }
+
+        return beanRuntimeInfos.get(beanId.getName());
+    }
+
+    /**
+     * Freeze the recorded bean runtime infos into the array indexed by {@link BeanId#getIndex()}.
+     * <p/>
+     * Beans that are not registered in the bean id store are left out of the array.
+     *
+     * @param beanIdStore The application context's bean id store.
+     */
+    public synchronized void freeze(BeanIdStore beanIdStore) {
+        this.beanIdStore = beanIdStore;
+        if (mutable) {
+            return;
+        }
+
+        BeanRuntimeInfo[] newTable = new BeanRuntimeInfo[0];
+        for (Map.Entry<String, BeanRuntimeInfo> beanRuntimeInfo : beanRuntimeInfos.entrySet()) {
+            BeanId beanId = beanIdStore.getBeanId(beanRuntimeInfo.getKey());
+            if (beanId == null) {
+                continue;
+            }
+            if (beanId.getIndex() >= newTable.length) {
+                newTable = Arrays.copyOf(newTable, beanId.getIndex() + 1);
+            }
+            newTable[beanId.getIndex()] = beanRuntimeInfo.getValue();
+        }
+        this.table = newTable;
+    }
+
+    /**
+     * Is the table frozen (see {@link #freeze(BeanIdStore)}).
+     *
+     * @return <code>true</code> if the table is frozen, otherwise <code>false</code>.
+     */
+    public boolean isFrozen() {
+        return table != null;
+    }
+
+    /**
+     * Get the recorded bean runtime infos.
+     *
+     * @return An unmodifiable view of the bean runtime infos, by beanId.
+     */
+    public Map<String, BeanRuntimeInfo> getBeanRuntimeInfos() {
+        return Collections.unmodifiableMap(beanRuntimeInfos);
+    }
+
+    /**
+     * Get the recorded bean runtime infos, for modification.
+     * <p/>
+     * The table is unfrozen for good, i.e. bean runtime infos are looked up by beanId name from then on.
+     *
+     * @return The bean runtime infos, by beanId.
+     */
+    synchronized Map<String, BeanRuntimeInfo> getMutableBeanRuntimeInfos() {
+        mutable = true;
+        table = null;
+
+        return beanRuntimeInfos;
+    }
+}
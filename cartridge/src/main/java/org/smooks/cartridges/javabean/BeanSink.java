@@ -0,0 +1,132 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean;
+
+import org.smooks.api.ExecutionContext;
+import org.smooks.api.io.Sink;
+import org.smooks.assertion.AssertArgument;
+import org.smooks.io.sink.JavaSink;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * {@link JavaSink} handing streamed beans to consumers.
+ * <p/>
+ * Beans configured with <code>stream="true"</code> are not left in the bean context (and so in the result
+ * map of this sink).  Each bean instance is handed to the consumer registered for its beanId once its creating
+ * fragment has been processed, and is then released from the bean context.  This keeps the memory used for
+ * large repeating bean collections constant.
+ * <pre>
+ * BeanSink beanSink = new BeanSink().addConsumer("orderItem", (OrderItem orderItem) -&gt; writer.write(orderItem));
+ *
+ * smooks.filterSource(new StreamSource&lt;&gt;(messageStream), beanSink);
+ * Header header = (Header) beanSink.getBean("header");
+ * </pre>
+ * Other beans are retained in the result map, as for any {@link JavaSink}.
+ */
+public class BeanSink extends JavaSink {
+
+    private final Map<String, Consumer<Object>> consumers = new HashMap<>();
+
+    public BeanSink() {
+    }
+
+    public BeanSink(String beanId, Consumer<?> consumer) {
+        addConsumer(beanId, consumer);
+    }
+
+    /**
+     * Add the consumer for the streamed instances of a bean.
+     *
+     * @param beanId   The beanId of the streamed bean.
+     * @param consumer The bean consumer.
+     * @return This sink.
+     */
+    @SuppressWarnings("unchecked")
+    public BeanSink addConsumer(String beanId, Consumer<?> consumer) {
+        AssertArgument.isNotNullAndNotEmpty(beanId, "beanId");
+        AssertArgument.isNotNull(consumer, "consumer");
+
+        consumers.put(beanId, (Consumer<Object>) consumer);
+        return this;
+    }
+
+    /**
+     * Get the consumer for the streamed instances of a bean.
+     *
+     * @param beanId The beanId of the streamed bean.
+     * @return The bean consumer, or <code>null</code> if there's no consumer for the bean.
+     */
+    public Consumer<Object> getConsumer(String beanId) {
+        return consumers.get(beanId);
+    }
+
+    /**
+     * Hand a streamed bean instance to the consumers of the execution context's {@link BeanSink}s.
+     *
+     * @param beanId           The beanId of the streamed bean.
+     * @param bean             The bean instance.
+     * @param executionContext The execution context.
+     * @return <code>true</code> if the bean was consumed, otherwise <code>false</code>.
+     */
+    public static boolean consume(String beanId, Object bean, ExecutionContext executionContext) {
+        List<Sink> sinks = executionContext.getOrDefault(Sink.SINKS_TYPED_KEY, Collections.emptyList());
+        boolean consumed = false;
+
+        for (Sink sink : sinks) {
+            if (sink instanceof BeanSink) {
+                Consumer<Object> consumer = ((BeanSink) sink).getConsumer(beanId);
+                if (consumer != null) {
+                    consumer.accept(bean);
+                    consumed = true;
+                }
+            }
+        }
+
+        return consumed;
+    }
+}
@@ -0,0 +1,128 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Javabean cartridge trace facility.
+ * <p/>
+ * Tracing is switched on with the <code>org.smooks.cartridges.javabean.trace</code> system property.  The trace
+ * call sites are guarded by the {@link #ENABLED} constant, so with tracing switched off (the default) the JIT
+ * removes them, together with the building of the trace event.
+ * <p/>
+ * Trace events are structured: an event name, the bean id and a list of key/value attributes, logged on the
+ * <code>org.smooks.cartridges.javabean.BeanTrace</code> logger at DEBUG level e.g.
+ * <pre>
+ * bean.created beanId=order class=com.acme.Order
+ * </pre>
+ * The {@link #TRACE_BEAN_IDS} global parameter restricts the traced events to a comma separated list of bean ids.
+ */
+public final class BeanTrace {
+
+    /**
+     * System property switching on tracing.  Default is <code>false</code>.
+     */
+    public static final String TRACE = "org.smooks.cartridges.javabean.trace";
+
+    /**
+     * Global parameter listing the (comma separated) ids of the beans to trace.  All beans are traced by default.
+     */
+    public static final String TRACE_BEAN_IDS = "org.smooks.cartridges.javabean.trace.beanIds";
+
+    public static final boolean ENABLED = Boolean.getBoolean(TRACE);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BeanTrace.class);
+
+    private BeanTrace() {
+    }
+
+    /**
+     * Is the bean traced.
+     *
+     * @param beanId       The bean id.
+     * @param traceBeanIds The {@link #TRACE_BEAN_IDS} global parameter value, or <code>null</code> if not set.
+     * @return True if tracing is switched on and the bean is selected, otherwise false.
+     */
+    public static boolean isTraced(String beanId, String traceBeanIds) {
+        return ENABLED && isSelected(beanId, traceBeanIds);
+    }
+
+    static boolean isSelected(String beanId, String traceBeanIds) {
+        if (traceBeanIds == null || traceBeanIds.trim().isEmpty()) {
+            return true;
+        }
+
+        Set<String> beanIds = new HashSet<>(Arrays.asList(traceBeanIds.trim().split("\\s*,\\s*")));
+        return beanIds.contains(beanId);
+    }
+
+    /**
+     * Trace an event.
+     * <p/>
+     * Call sites must be guarded by {@link #ENABLED} and by whether the bean is traced (see {@link #isTraced(String, String)}).
+     *
+     * @param event      The event name.
+     * @param beanId     The bean id, or <code>null</code> if the event is not bound to a bean.
+     * @param attributes The event attributes, as key/value pairs.
+     */
+    public static void event(String event, String beanId, Object... attributes) {
+        if (!LOGGER.isDebugEnabled()) {
+            return;
+        }
+
+        StringBuilder message = new StringBuilder(event);
+        if (beanId != null) {
+            message.append(" beanId=").append(beanId);
+        }
+        for (int i = 0; i + 1 < attributes.length; i += 2) {
+            message.append(' ').append(attributes[i]).append('=').append(attributes[i + 1]);
+        }
+        LOGGER.debug(message.toString());
+    }
+}
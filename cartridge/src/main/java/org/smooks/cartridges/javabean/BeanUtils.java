@@ -42,14 +42,11 @@
  */
 package org.smooks.cartridges.javabean;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.smooks.api.ExecutionContext;
 import org.smooks.api.SmooksConfigException;
 import org.smooks.assertion.AssertArgument;
 import org.smooks.support.ClassUtils;
 
-import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.util.List;
 
@@ -60,8 +57,6 @@ import java.util.List;
  */
 public final class BeanUtils {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(BeanUtils.class);
-
     private BeanUtils() {
 
     }
@@ -74,14 +69,26 @@ public final class BeanUtils {
      * @return The bean setter method.
      */
     public static Method createSetterMethod(String setterName, Object bean, Class<?> setterParamType) {
-        Method beanSetterMethod = ClassUtils.getSetterMethod(setterName, bean, setterParamType);
+        return createSetterMethod(setterName, bean.getClass(), setterParamType);
+    }
+
+    /**
+     * Create the bean setter method instance for the specified bean class.
+     *
+     * @param setterName      The setter method name.
+     * @param beanClass       The bean class.
+     * @param setterParamType
+     * @return The bean setter method.
+     */
+    public static Method createSetterMethod(String setterName, Class<?> beanClass, Class<?> setterParamType) {
+        Method beanSetterMethod = ClassUtils.getSetterMethod(setterName, beanClass, setterParamType);
 
         // Try it as a list...
         if (beanSetterMethod == null && List.class.isAssignableFrom(setterParamType)) {
             String setterNamePlural = setterName + "s";
 
             // Try it as a List using the plural name...
-            beanSetterMethod = ClassUtils.getSetterMethod(setterNamePlural, bean, setterParamType);
+            beanSetterMethod = ClassUtils.getSetterMethod(setterNamePlural, beanClass, setterParamType);
             if (beanSetterMethod == null) {
                 // Try it as an array using the non-plural name...
             }
@@ -89,33 +96,52 @@ public final class BeanUtils {
 
         // Try it as a primitive...
         if (beanSetterMethod == null && Integer.class.isAssignableFrom(setterParamType)) {
-            beanSetterMethod = ClassUtils.getSetterMethod(setterName, bean, Integer.TYPE);
+            beanSetterMethod = ClassUtils.getSetterMethod(setterName, beanClass, Integer.TYPE);
         }
         if (beanSetterMethod == null && Long.class.isAssignableFrom(setterParamType)) {
-            beanSetterMethod = ClassUtils.getSetterMethod(setterName, bean, Long.TYPE);
+            beanSetterMethod = ClassUtils.getSetterMethod(setterName, beanClass, Long.TYPE);
         }
         if (beanSetterMethod == null && Float.class.isAssignableFrom(setterParamType)) {
-            beanSetterMethod = ClassUtils.getSetterMethod(setterName, bean, Float.TYPE);
+            beanSetterMethod = ClassUtils.getSetterMethod(setterName, beanClass, Float.TYPE);
         }
         if (beanSetterMethod == null && Double.class.isAssignableFrom(setterParamType)) {
-            beanSetterMethod = ClassUtils.getSetterMethod(setterName, bean, Double.TYPE);
+            beanSetterMethod = ClassUtils.getSetterMethod(setterName, beanClass, Double.TYPE);
         }
         if (beanSetterMethod == null && Character.class.isAssignableFrom(setterParamType)) {
-            beanSetterMethod = ClassUtils.getSetterMethod(setterName, bean, Character.TYPE);
+            beanSetterMethod = ClassUtils.getSetterMethod(setterName, beanClass, Character.TYPE);
         }
         if (beanSetterMethod == null && Short.class.isAssignableFrom(setterParamType)) {
-            beanSetterMethod = ClassUtils.getSetterMethod(setterName, bean, Short.TYPE);
+            beanSetterMethod = ClassUtils.getSetterMethod(setterName, beanClass, Short.TYPE);
         }
         if (beanSetterMethod == null && Byte.class.isAssignableFrom(setterParamType)) {
-            beanSetterMethod = ClassUtils.getSetterMethod(setterName, bean, Byte.TYPE);
+            beanSetterMethod = ClassUtils.getSetterMethod(setterName, beanClass, Byte.TYPE);
         }
         if (beanSetterMethod == null && Boolean.class.isAssignableFrom(setterParamType)) {
-            beanSetterMethod = ClassUtils.getSetterMethod(setterName, bean, Boolean.TYPE);
+            beanSetterMethod = ClassUtils.getSetterMethod(setterName, beanClass, Boolean.TYPE);
         }
 
         return beanSetterMethod;
     }
 
+    /**
+     * Is the supplied type visible from the supplied class loader i.e. does the class loader resolve
+     * the type's name to the same type.
+     *
+     * @param type        The type.
+     * @param classLoader The class loader.
+     * @return True if the type is visible from the class loader, otherwise false.
+     */
+    public static boolean isVisibleFrom(Class<?> type, ClassLoader classLoader) {
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, classLoader) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
     /**
      * Get the bean instance on which this populator instance is to set data.
      *
@@ -140,6 +166,8 @@ public final class BeanUtils {
 
     /**
      * Convert the supplied List into an array of the specified array type.
+     * <p/>
+     * If the List is an {@link ArrayAccumulator} for the array type, the array is extracted from it directly.
      *
      * @param list       The List instance to be converted.
      * @param arrayClass The array type.
@@ -149,16 +177,14 @@ public final class BeanUtils {
         AssertArgument.isNotNull(list, "list");
         AssertArgument.isNotNull(arrayClass, "arrayClass");
 
-        int length = list.size();
-        Object arrayObj = Array.newInstance(arrayClass, list.size());
-        for (int i = 0; i < length; i++) {
-            try {
-                Array.set(arrayObj, i, list.get(i));
-            } catch (ClassCastException e) {
-                LOGGER.error("Failed to cast type '" + list.get(i).getClass().getName() + "' to '" + arrayClass.getName() + "'.", e);
-            }
+        if (list instanceof ArrayAccumulator && ((ArrayAccumulator) list).getComponentType() == arrayClass) {
+            return ((ArrayAccumulator) list).toTypedArray();
         }
 
-        return arrayObj;
+        ArrayAccumulator arrayAccumulator = ArrayAccumulator.newArrayAccumulator(arrayClass);
+        arrayAccumulator.ensureCapacity(list.size());
+        arrayAccumulator.addAll(list);
+
+        return arrayAccumulator.toTypedArray();
     }
 }
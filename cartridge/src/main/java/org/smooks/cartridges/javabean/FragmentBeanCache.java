@@ -0,0 +1,136 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean;
+
+import org.smooks.api.ExecutionContext;
+import org.smooks.api.TypedKey;
+import org.smooks.api.bean.context.BeanContext;
+import org.smooks.api.bean.lifecycle.BeanContextLifecycleEvent;
+import org.smooks.api.bean.lifecycle.BeanContextLifecycleObserver;
+import org.smooks.api.bean.lifecycle.BeanLifecycle;
+import org.smooks.api.bean.repository.BeanId;
+import org.w3c.dom.Element;
+
+import java.util.Arrays;
+
+/**
+ * Per execution context cache of the beans bound onto while visiting an element.
+ * <p/>
+ * The bindings configured on the same element typically populate the same bean.  The first of them to visit the
+ * element looks the bean up in the {@link BeanContext} and the others read it from the cache entry of the bean's
+ * {@link BeanId#getIndex() index}.  An entry is only valid for the element it was looked up on, and is dropped when
+ * the bean is added, changed or removed (the cache observes the {@link BeanContext}).
+ * <p/>
+ * Enabled by the {@link BeanInstancePopulator#FRAGMENT_BEAN_CACHE} global parameter.
+ */
+public class FragmentBeanCache implements BeanContextLifecycleObserver {
+
+    protected static final TypedKey<FragmentBeanCache> FRAGMENT_BEAN_CACHE_TYPED_KEY = TypedKey.of();
+
+    protected final BeanContext beanContext;
+    private Element[] elements = new Element[0];
+    private Object[] beans = new Object[0];
+
+    protected FragmentBeanCache(BeanContext beanContext) {
+        this.beanContext = beanContext;
+    }
+
+    /**
+     * Get the bean cache for the execution context's {@link BeanContext}, registering it as a
+     * {@link BeanContext} observer on first use.
+     *
+     * @param executionContext The execution context.
+     * @return The bean cache.
+     */
+    public static FragmentBeanCache getFragmentBeanCache(ExecutionContext executionContext) {
+        FragmentBeanCache fragmentBeanCache = executionContext.get(FRAGMENT_BEAN_CACHE_TYPED_KEY);
+        BeanContext beanContext = executionContext.getBeanContext();
+
+        if (fragmentBeanCache == null || fragmentBeanCache.beanContext != beanContext) {
+            fragmentBeanCache = new FragmentBeanCache(beanContext);
+            beanContext.addObserver(fragmentBeanCache);
+            executionContext.put(FRAGMENT_BEAN_CACHE_TYPED_KEY, fragmentBeanCache);
+        }
+
+        return fragmentBeanCache;
+    }
+
+    /**
+     * Get a bean, looking it up in the {@link BeanContext} if it's not cached for the element.
+     *
+     * @param beanId  The bean id.
+     * @param element The element being visited.
+     * @return The bean, or <code>null</code> if the bean does not exist in the {@link BeanContext}.
+     */
+    public Object getBean(BeanId beanId, Element element) {
+        int index = beanId.getIndex();
+
+        if (index < elements.length && elements[index] == element) {
+            return beans[index];
+        }
+
+        Object bean = beanContext.getBean(beanId);
+        if (index >= elements.length) {
+            int capacity = Math.max(index + 1, elements.length * 2);
+            elements = Arrays.copyOf(elements, capacity);
+            beans = Arrays.copyOf(beans, capacity);
+        }
+        elements[index] = element;
+        beans[index] = bean;
+
+        return bean;
+    }
+
+    @Override
+    public void onBeanLifecycleEvent(BeanContextLifecycleEvent event) {
+        BeanLifecycle lifecycle = event.getLifecycle();
+
+        if (lifecycle == BeanLifecycle.ADD || lifecycle == BeanLifecycle.CHANGE || lifecycle == BeanLifecycle.REMOVE) {
+            int index = event.getBeanId().getIndex();
+            if (index < elements.length) {
+                elements[index] = null;
+                beans[index] = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,337 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean;
+
+import org.smooks.api.ApplicationContext;
+import org.smooks.api.ExecutionContext;
+import org.smooks.api.TypedKey;
+import org.smooks.api.resource.config.ResourceConfig;
+import org.smooks.api.resource.config.xpath.SelectorPath;
+import org.smooks.api.resource.visitor.Visitor;
+import org.smooks.engine.delivery.fragment.NodeFragment;
+import org.smooks.engine.memento.TextAccumulatorMemento;
+import org.smooks.engine.memento.TextAccumulatorVisitorMemento;
+import org.w3c.dom.CharacterData;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Per execution context text accumulator for the visitors binding element text.
+ * <p/>
+ * Each text binding visitor is assigned a {@link Slot} at configuration time (see
+ * {@link #allocateSlot(ApplicationContext, ResourceConfig, Visitor)}).  The slot holds the text of the element
+ * currently being visited: a leaf element's single text chunk is held as is, so binding it needs no intermediate
+ * objects, and further chunks are appended to a buffer reused across elements.
+ * <p/>
+ * Visitors configured on the same selector (and namespaces and profile, without a condition) share a slot.  Each
+ * text chunk is then only captured once, by the first of them to visit it, and the element text is read by all of
+ * them.  The decoded text can be shared too (see {@link #decode(Slot, Element, String, Object, Function)}).
+ * <p/>
+ * Text of an element nested in an element whose text is already being held by the slot (i.e. the selector
+ * matches both elements) falls back to a {@link TextAccumulatorVisitorMemento}.
+ */
+public class TextAccumulator {
+
+    protected static final TypedKey<TextAccumulator> TEXT_ACCUMULATOR_TYPED_KEY = TypedKey.of();
+    protected static final String SLOTS_KEY = TextAccumulator.class.getName() + "#SLOTS_KEY";
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(String.class, Boolean.class, Character.class,
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class));
+
+    private Node[] elements = new Node[0];
+    private CharacterData[] chunks = new CharacterData[0];
+    private String[] texts = new String[0];
+    private StringBuilder[] buffers = new StringBuilder[0];
+    private boolean[] closed = new boolean[0];
+    private boolean[] spilled = new boolean[0];
+    // Decoder and decoded value pairs...
+    private Object[][] decodings = new Object[0][];
+    private int[] decodingCounts = new int[0];
+
+    protected TextAccumulator() {
+    }
+
+    /**
+     * Allocate the text slot of a visitor.
+     * <p/>
+     * The visitor joins the slot of the visitors already configured on the same selector.
+     *
+     * @param applicationContext The application context.
+     * @param resourceConfig     The visitor's resource configuration, or <code>null</code> if the slot is not to be shared.
+     * @param visitor            The visitor.
+     * @return The slot.
+     */
+    public static Slot allocateSlot(ApplicationContext applicationContext, ResourceConfig resourceConfig, Visitor visitor) {
+        @SuppressWarnings("unchecked")
+        Map<String, Slot> slots = (Map<String, Slot>) applicationContext.getRegistry().lookup(SLOTS_KEY);
+
+        if (slots == null) {
+            slots = new HashMap<>();
+            applicationContext.getRegistry().registerObject(SLOTS_KEY, slots);
+        }
+
+        synchronized (slots) {
+            String slotKey = getSlotKey(resourceConfig);
+            Slot slot = (slotKey != null ? slots.get(slotKey) : null);
+
+            if (slot != null) {
+                slot.shared = true;
+            } else {
+                slot = new Slot(slots.size(), visitor);
+                slots.put(slotKey != null ? slotKey : String.valueOf(slot.index), slot);
+            }
+
+            return slot;
+        }
+    }
+
+    private static String getSlotKey(ResourceConfig resourceConfig) {
+        SelectorPath selectorPath = (resourceConfig != null ? resourceConfig.getSelectorPath() : null);
+
+        if (selectorPath == null || selectorPath.getConditionEvaluator() != null) {
+            return null;
+        }
+
+        return selectorPath.getSelector() + "#" + selectorPath.getNamespaces() + "#" + resourceConfig.getProfile();
+    }
+
+    /**
+     * Get the text accumulator of the execution context.
+     *
+     * @param executionContext The execution context.
+     * @return The text accumulator.
+     */
+    public static TextAccumulator getTextAccumulator(ExecutionContext executionContext) {
+        TextAccumulator textAccumulator = executionContext.get(TEXT_ACCUMULATOR_TYPED_KEY);
+
+        if (textAccumulator == null) {
+            textAccumulator = new TextAccumulator();
+            executionContext.put(TEXT_ACCUMULATOR_TYPED_KEY, textAccumulator);
+        }
+
+        return textAccumulator;
+    }
+
+    /**
+     * Accumulate a text chunk of an element.
+     * <p/>
+     * A chunk already accumulated by another visitor sharing the slot is ignored.
+     *
+     * @param slot             The visitor's slot.
+     * @param characterData    The text chunk.
+     * @param executionContext The execution context.
+     */
+    public void accumulate(Slot slot, CharacterData characterData, ExecutionContext executionContext) {
+        int index = slot.index;
+        Node element = characterData.getParentNode();
+
+        ensureCapacity(index);
+        if (chunks[index] == characterData) {
+            return;
+        }
+        chunks[index] = characterData;
+
+        if (elements[index] == null || closed[index]) {
+            elements[index] = element;
+            texts[index] = characterData.getData();
+            closed[index] = false;
+            spilled[index] = false;
+            if (decodingCounts[index] > 0) {
+                Arrays.fill(decodings[index], 0, decodingCounts[index], null);
+                decodingCounts[index] = 0;
+            }
+        } else if (elements[index] == element) {
+            StringBuilder buffer = buffers[index];
+            if (buffer == null) {
+                buffer = new StringBuilder();
+                buffers[index] = buffer;
+            }
+            if (texts[index] != null) {
+                buffer.setLength(0);
+                buffer.append(texts[index]);
+                texts[index] = null;
+            }
+            buffer.append(characterData.getData());
+        } else {
+            spilled[index] = true;
+            TextAccumulatorMemento textAccumulatorMemento = new TextAccumulatorVisitorMemento(new NodeFragment(element), slot.anchor);
+            executionContext.getMementoCaretaker().restore(textAccumulatorMemento);
+            textAccumulatorMemento.accumulateText(characterData.getData());
+            executionContext.getMementoCaretaker().capture(textAccumulatorMemento);
+        }
+    }
+
+    /**
+     * Get the accumulated text of an element.
+     * <p/>
+     * The text is released once read.  If the slot is shared, it remains readable by the other visitors of the
+     * slot until the text of another element is accumulated.
+     *
+     * @param slot             The visitor's slot.
+     * @param element          The element.
+     * @param executionContext The execution context.
+     * @return The element text.  An empty string if the element has no text.
+     */
+    public String getText(Slot slot, Element element, ExecutionContext executionContext) {
+        int index = slot.index;
+
+        if (index < elements.length) {
+            if (elements[index] == element) {
+                String text = texts[index];
+                if (text == null) {
+                    text = buffers[index].toString();
+                    texts[index] = text;
+                }
+                if (slot.shared) {
+                    closed[index] = true;
+                } else {
+                    elements[index] = null;
+                    texts[index] = null;
+                    chunks[index] = null;
+                    // Nested element text has been read by now...
+                    spilled[index] = false;
+                }
+                return text;
+            } else if (spilled[index]) {
+                TextAccumulatorMemento textAccumulatorMemento = new TextAccumulatorVisitorMemento(new NodeFragment(element), slot.anchor);
+                executionContext.getMementoCaretaker().restore(textAccumulatorMemento);
+                return textAccumulatorMemento.getText();
+            }
+        }
+
+        return "";
+    }
+
+    /**
+     * Decode the text of an element, sharing the decoded value with the other visitors of the slot decoding the
+     * same text with the same decoder.
+     * <p/>
+     * Only immutable values (strings, primitive wrappers, {@link BigDecimal}/{@link BigInteger}, enums and
+     * <code>java.time</code> values) are shared.
+     *
+     * @param slot    The visitor's slot.
+     * @param element The element.
+     * @param text    The element text, as returned by {@link #getText(Slot, Element, ExecutionContext)}.
+     * @param decoder The decoder identity (e.g. the type converter factory), or <code>null</code> if the value is not to be shared.
+     * @param decode  The decoding function.
+     * @return The decoded value.
+     */
+    public Object decode(Slot slot, Element element, String text, Object decoder, Function<String, Object> decode) {
+        int index = slot.index;
+
+        if (!slot.shared || decoder == null || index >= elements.length || elements[index] != element) {
+            return decode.apply(text);
+        }
+        Object[] pairs = decodings[index];
+        int count = decodingCounts[index];
+        for (int i = 0; i < count; i += 2) {
+            if (pairs[i] == decoder) {
+                return pairs[i + 1];
+            }
+        }
+
+        Object decodedValue = decode.apply(text);
+        if (isImmutable(decodedValue)) {
+            if (pairs == null || count == pairs.length) {
+                pairs = (pairs == null ? new Object[4] : Arrays.copyOf(pairs, count * 2));
+                decodings[index] = pairs;
+            }
+            pairs[count] = decoder;
+            pairs[count + 1] = decodedValue;
+            decodingCounts[index] = count + 2;
+        }
+
+        return decodedValue;
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value != null && (IMMUTABLE_TYPES.contains(value.getClass()) || value instanceof Enum || value.getClass().getName().startsWith("java.time."));
+    }
+
+    private void ensureCapacity(int index) {
+        if (index >= elements.length) {
+            int capacity = Math.max(index + 1, elements.length * 2);
+            elements = Arrays.copyOf(elements, capacity);
+            chunks = Arrays.copyOf(chunks, capacity);
+            texts = Arrays.copyOf(texts, capacity);
+            buffers = Arrays.copyOf(buffers, capacity);
+            closed = Arrays.copyOf(closed, capacity);
+            spilled = Arrays.copyOf(spilled, capacity);
+            decodings = Arrays.copyOf(decodings, capacity);
+            decodingCounts = Arrays.copyOf(decodingCounts, capacity);
+        }
+    }
+
+    /**
+     * Text slot of one or more visitors.
+     */
+    public static final class Slot {
+
+        private final int index;
+        // Anchors the mementos of nested element text...
+        private final Visitor anchor;
+        private volatile boolean shared;
+
+        private Slot(int index, Visitor anchor) {
+            this.index = index;
+            this.anchor = anchor;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public boolean isShared() {
+            return shared;
+        }
+    }
+}
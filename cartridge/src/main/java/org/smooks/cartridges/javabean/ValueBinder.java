@@ -60,10 +60,14 @@ import org.smooks.api.resource.visitor.VisitBeforeReport;
 import org.smooks.api.resource.visitor.sax.ng.AfterVisitor;
 import org.smooks.api.resource.visitor.sax.ng.BeforeVisitor;
 import org.smooks.api.resource.visitor.sax.ng.ChildrenVisitor;
+import org.smooks.cartridges.javabean.converter.ThreadSafeTypeConverters;
+import org.smooks.cartridges.javabean.instrumentation.BindingInstrumentation;
+import org.smooks.cartridges.javabean.instrumentation.BindingInstrumentation.BindingInstrumentationFactory;
+import org.smooks.cartridges.javabean.instrumentation.BindingProbe;
+import org.smooks.cartridges.javabean.jfr.JfrEvents;
+import org.smooks.cartridges.javabean.jfr.JfrSupport;
 import org.smooks.engine.delivery.fragment.NodeFragment;
 import org.smooks.engine.lookup.converter.NameTypeConverterFactoryLookup;
-import org.smooks.engine.memento.TextAccumulatorMemento;
-import org.smooks.engine.memento.TextAccumulatorVisitorMemento;
 import org.smooks.support.DomUtils;
 import org.w3c.dom.CharacterData;
 import org.w3c.dom.Element;
@@ -158,6 +162,10 @@ public class ValueBinder implements BeforeVisitor, AfterVisitor, ChildrenVisitor
     @Named("type")
     protected String typeAlias = "String";
 
+    @Inject
+    @Named(BindingInstrumentation.GLOBAL_PARAM)
+    protected Optional<String> instrumentationClassName;
+
     protected BeanId beanId;
 
     @Inject
@@ -165,7 +173,12 @@ public class ValueBinder implements BeforeVisitor, AfterVisitor, ChildrenVisitor
 
     protected boolean isAttribute;
 
-    protected TypeConverter<? super String, ?> typeConverter;
+    protected TextAccumulator.Slot textSlot;
+
+    protected volatile TypeConverter<? super String, ?> typeConverter;
+
+    // Null if the binding is not instrumented...
+    protected BindingProbe probe;
 
     /**
      *
@@ -260,6 +273,11 @@ public class ValueBinder implements BeforeVisitor, AfterVisitor, ChildrenVisitor
         isAttribute = valueAttributeName.isPresent();
 
         beanId = applicationContext.getBeanIdStore().register(beanIdName);
+        textSlot = TextAccumulator.allocateSlot(applicationContext, null, this);
+
+        if (instrumentationClassName.isPresent()) {
+            probe = BindingInstrumentationFactory.getInstance(applicationContext, instrumentationClassName.get()).createProbe(beanIdName, null);
+        }
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Value Binder created for [{}]", beanIdName);
@@ -276,14 +294,20 @@ public class ValueBinder implements BeforeVisitor, AfterVisitor, ChildrenVisitor
     @Override
     public void visitAfter(Element element, ExecutionContext executionContext) throws SmooksException {
         if (!isAttribute) {
-            NodeFragment nodeFragment = new NodeFragment(element);
-            TextAccumulatorMemento textAccumulatorMemento = new TextAccumulatorVisitorMemento(nodeFragment, this);
-            executionContext.getMementoCaretaker().restore(textAccumulatorMemento);
-            bindValue(textAccumulatorMemento.getText(), executionContext, nodeFragment);
+            String dataString = TextAccumulator.getTextAccumulator(executionContext).getText(textSlot, element, executionContext);
+            bindValue(dataString, executionContext, new NodeFragment(element));
         }
     }
 
     protected void bindValue(String dataString, ExecutionContext executionContext, Fragment<?> source) {
+        if (probe != null) {
+            probe.measure(() -> setValue(dataString, executionContext, source));
+        } else {
+            setValue(dataString, executionContext, source);
+        }
+    }
+
+    protected void setValue(String dataString, ExecutionContext executionContext, Fragment<?> source) {
         Object valueObj = decodeDataString(dataString, executionContext);
 
         BeanContext beanContext = executionContext.getBeanContext();
@@ -307,9 +331,14 @@ public class ValueBinder implements BeforeVisitor, AfterVisitor, ChildrenVisitor
             dataString = defaultValue.get();
         }
 
+        Object jfrDecodeFailed = (JfrSupport.AVAILABLE ? JfrEvents.beginDecodeFailed() : null);
+
         try {
             return getTypeConverter(executionContext).convert(dataString);
         } catch (TypeConverterException e) {
+            if (jfrDecodeFailed != null) {
+                JfrEvents.decodeFailed(jfrDecodeFailed, beanIdName, null, dataString, e);
+            }
             throw new TypeConverterException("Failed to convert the value '" + dataString + "' for the bean id '" + beanIdName + "'.", e);
         }
     }
@@ -320,11 +349,11 @@ public class ValueBinder implements BeforeVisitor, AfterVisitor, ChildrenVisitor
             List<?> decoders = executionContext.getContentDeliveryRuntime().getContentDeliveryConfig().getObjects("decoder:" + typeAlias);
 
             if (decoders == null || decoders.isEmpty()) {
-                typeConverter = applicationContext.getRegistry().lookup(new NameTypeConverterFactoryLookup<>(typeAlias)).createTypeConverter();
+                typeConverter = ThreadSafeTypeConverters.createTypeConverter(applicationContext.getRegistry().lookup(new NameTypeConverterFactoryLookup<>(typeAlias)));
             } else if (!(decoders.get(0) instanceof TypeConverterFactory)) {
                 throw new TypeConverterException("Configured type converter factory '" + typeAlias + ":" + decoders.get(0).getClass().getName() + "' is not an instance of " + TypeConverterFactory.class.getName());
             } else {
-                typeConverter = ((TypeConverterFactory<String, ?>) decoders.get(0)).createTypeConverter();
+                typeConverter = ThreadSafeTypeConverters.createTypeConverter((TypeConverterFactory<String, ?>) decoders.get(0));
             }
         }
         return typeConverter;
@@ -333,9 +362,7 @@ public class ValueBinder implements BeforeVisitor, AfterVisitor, ChildrenVisitor
     @Override
     public void visitChildText(CharacterData characterData, ExecutionContext executionContext) throws SmooksException {
         if (!isAttribute) {
-            TextAccumulatorMemento textAccumulatorMemento = new TextAccumulatorVisitorMemento(new NodeFragment(characterData.getParentNode()), this);
-            textAccumulatorMemento.accumulateText(characterData.getTextContent());
-            executionContext.getMementoCaretaker().capture(textAccumulatorMemento);
+            TextAccumulator.getTextAccumulator(executionContext).accumulate(textSlot, characterData, executionContext);
         }
     }
 
@@ -0,0 +1,264 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.accumulator;
+
+import org.smooks.api.SmooksException;
+import org.smooks.api.bean.repository.BeanId;
+import org.smooks.api.converter.TypeConverterException;
+import org.smooks.cartridges.javabean.BeanInstancePopulator;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Accumulator binding of a bean property.
+ * <p/>
+ * Created by the {@link BeanInstancePopulator} of the binding at configuration time, and registered with
+ * {@link Accumulators#register(org.smooks.api.ApplicationContext, AccumulatorBinding)}.  The bound values are
+ * accumulated in a <code>long</code>, <code>double</code> or {@link BigDecimal} slot, depending on the
+ * property type, and the result is converted to the property type when written back to the bean.
+ */
+public final class AccumulatorBinding {
+
+    enum SlotType {
+        LONG, DOUBLE, DECIMAL
+    }
+
+    private static final Set<Class<?>> NUMERIC_TYPES = new HashSet<>(Arrays.asList(Integer.class, Long.class, Short.class, Byte.class,
+            Double.class, Float.class, BigInteger.class, BigDecimal.class));
+
+    private final BeanInstancePopulator populator;
+    private final BeanId beanId;
+    private final String property;
+    private final AccumulatorFunction function;
+    private final Class<?> propertyType;
+    private final Method getterMethod;
+    private final boolean negate;
+    private final SlotType slotType;
+    private volatile int index = -1;
+
+    /**
+     * @param populator    The populator writing the result back to the bean.
+     * @param beanId       The bean.
+     * @param property     The bean property.
+     * @param function     The accumulator function.
+     * @param propertyType The property type, or <code>null</code> if unknown (e.g. a {@link Map} entry).
+     * @param getterMethod The property getter, used to read the property's initial value, or <code>null</code>.
+     * @param negate       Negate the bound values (i.e. a <code>-=</code> accumulator).
+     */
+    public AccumulatorBinding(BeanInstancePopulator populator, BeanId beanId, String property, AccumulatorFunction function, Class<?> propertyType, Method getterMethod, boolean negate) {
+        this.populator = populator;
+        this.beanId = beanId;
+        this.property = property;
+        this.function = function;
+        this.propertyType = (propertyType != null ? MethodType.methodType(propertyType).wrap().returnType() : null);
+        this.getterMethod = getterMethod;
+        this.negate = negate;
+        this.slotType = toSlotType(function, this.propertyType);
+    }
+
+    /**
+     * Is the supplied type a numeric property type supported by the accumulators.
+     *
+     * @param type The type.
+     * @return True if the type is a primitive number, a primitive number wrapper, {@link BigInteger} or {@link BigDecimal}.
+     */
+    public static boolean isNumericType(Class<?> type) {
+        return type != null && NUMERIC_TYPES.contains(MethodType.methodType(type).wrap().returnType());
+    }
+
+    private static SlotType toSlotType(AccumulatorFunction function, Class<?> propertyType) {
+        if (function == AccumulatorFunction.COUNT || propertyType == Integer.class || propertyType == Long.class || propertyType == Short.class || propertyType == Byte.class) {
+            return SlotType.LONG;
+        } else if (propertyType == Double.class || propertyType == Float.class) {
+            return SlotType.DOUBLE;
+        } else {
+            return SlotType.DECIMAL;
+        }
+    }
+
+    public BeanInstancePopulator getPopulator() {
+        return populator;
+    }
+
+    public BeanId getBeanId() {
+        return beanId;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public AccumulatorFunction getFunction() {
+        return function;
+    }
+
+    public boolean isNegate() {
+        return negate;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    void setIndex(int index) {
+        this.index = index;
+    }
+
+    SlotType getSlotType() {
+        return slotType;
+    }
+
+    /**
+     * Read the property's initial value (e.g. set by an <code>initVal</code>) from the bean.
+     */
+    Object getInitialValue(Object bean) {
+        if (bean instanceof Map) {
+            return ((Map<?, ?>) bean).get(property);
+        } else if (getterMethod != null) {
+            try {
+                return getterMethod.invoke(bean);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new SmooksException("Error invoking bean getter method [" + getterMethod.getName() + "] on bean instance class type [" + bean.getClass() + "].", e);
+            }
+        } else {
+            return null;
+        }
+    }
+
+    long toLong(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        // Integral properties only accept integral values, as with Integer.parseInt(_VALUE) etc...
+        try {
+            return Long.parseLong(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw newTypeConverterException(value, e);
+        }
+    }
+
+    double toDouble(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        try {
+            return Double.parseDouble(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw newTypeConverterException(value, e);
+        }
+    }
+
+    BigDecimal toDecimal(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            return BigDecimal.valueOf(((Number) value).doubleValue());
+        } else if (value instanceof Number) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        try {
+            return new BigDecimal(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw newTypeConverterException(value, e);
+        }
+    }
+
+    /**
+     * Convert an accumulated result to the property type or, if the property type is unknown, the type of the
+     * bound values.
+     */
+    Object toPropertyValue(Number result, Class<?> valueType) {
+        Class<?> type = (propertyType != null ? propertyType : valueType);
+
+        if (type == Integer.class) {
+            return result.intValue();
+        } else if (type == Long.class) {
+            return result.longValue();
+        } else if (type == Short.class) {
+            return result.shortValue();
+        } else if (type == Byte.class) {
+            return result.byteValue();
+        } else if (type == Double.class) {
+            return result.doubleValue();
+        } else if (type == Float.class) {
+            return result.floatValue();
+        } else if (type == BigInteger.class) {
+            return toDecimal(result).toBigInteger();
+        } else if (type == BigDecimal.class || slotType == SlotType.DECIMAL) {
+            return toDecimal(result);
+        } else {
+            return result;
+        }
+    }
+
+    /**
+     * Average of an accumulated sum.
+     */
+    Number average(Number sum, long count) {
+        if (slotType == SlotType.DOUBLE) {
+            return sum.doubleValue() / count;
+        } else {
+            return toDecimal(sum).divide(BigDecimal.valueOf(count), MathContext.DECIMAL128);
+        }
+    }
+
+    private TypeConverterException newTypeConverterException(Object value, NumberFormatException e) {
+        return new TypeConverterException("Failed to accumulate binding value '" + value + "' for property '" + property + "' on bean '" + beanId.getName() + "'.", e);
+    }
+
+    @Override
+    public String toString() {
+        return beanId.getName() + "." + property + " (" + function + ")";
+    }
+}
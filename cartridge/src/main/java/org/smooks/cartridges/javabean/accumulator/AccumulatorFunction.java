@@ -0,0 +1,99 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.accumulator;
+
+import org.smooks.api.SmooksConfigException;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Accumulator binding function.
+ * <p/>
+ * Selected through the <code>accumulate</code> attribute of a <code>&lt;jb:value&gt;</code> binding e.g.:
+ * <pre>
+ * &lt;jb:value property="total" data="order-item/price" decoder="BigDecimal" accumulate="sum" /&gt;
+ * </pre>
+ */
+public enum AccumulatorFunction {
+
+    /**
+     * Sum of the bound values, added to the property's initial value.
+     */
+    SUM,
+
+    /**
+     * Number of bound values, added to the property's initial value.
+     */
+    COUNT,
+
+    /**
+     * Smallest of the bound values.
+     */
+    MIN,
+
+    /**
+     * Largest of the bound values.
+     */
+    MAX,
+
+    /**
+     * Average of the bound values.  The average of an integral property is truncated.
+     */
+    AVERAGE;
+
+    /**
+     * Get the function by name, ignoring case.
+     *
+     * @param name The function name e.g. "sum".
+     * @return The function.
+     * @throws SmooksConfigException Unknown function name.
+     */
+    public static AccumulatorFunction fromName(String name) throws SmooksConfigException {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new SmooksConfigException("Unknown accumulator function '" + name + "'. Must be one of " + Arrays.toString(values()) + " (case insensitive).", e);
+        }
+    }
+}
@@ -0,0 +1,325 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.accumulator;
+
+import org.smooks.api.ApplicationContext;
+import org.smooks.api.ExecutionContext;
+import org.smooks.api.TypedKey;
+import org.smooks.api.bean.repository.BeanId;
+import org.smooks.api.delivery.fragment.Fragment;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Per execution context accumulator state of the {@link AccumulatorBinding}s.
+ * <p/>
+ * Each accumulator binding is assigned a slot at configuration time (see
+ * {@link #register(ApplicationContext, AccumulatorBinding)}).  The slot accumulates the values bound onto a bean
+ * instance, a sum or count starting from the property's initial value, without touching the bean.  The result is written back to
+ * the bean once, when the bean's fragment ends (see {@link #flush(AccumulatorBinding[], ExecutionContext, Fragment)}),
+ * or when values start being accumulated onto another instance of the bean.
+ */
+public class Accumulators {
+
+    protected static final TypedKey<Accumulators> ACCUMULATORS_TYPED_KEY = TypedKey.of();
+    protected static final String BINDINGS_KEY = Accumulators.class.getName() + "#BINDINGS_KEY";
+
+    private static final AccumulatorBinding[] NO_BINDINGS = new AccumulatorBinding[0];
+
+    // The bean instance each slot is accumulating onto...
+    private Object[] beans = new Object[0];
+    private long[] longs = new long[0];
+    private double[] doubles = new double[0];
+    private BigDecimal[] decimals = new BigDecimal[0];
+    private long[] counts = new long[0];
+    // The type of the bound values, for properties of an unknown type...
+    private Class<?>[] valueTypes = new Class<?>[0];
+
+    protected Accumulators() {
+    }
+
+    /**
+     * Register an accumulator binding, assigning it its slot.
+     *
+     * @param applicationContext The application context.
+     * @param accumulatorBinding The accumulator binding.
+     */
+    public static void register(ApplicationContext applicationContext, AccumulatorBinding accumulatorBinding) {
+        List<AccumulatorBinding> accumulatorBindings = getAccumulatorBindings(applicationContext);
+
+        synchronized (accumulatorBindings) {
+            accumulatorBinding.setIndex(accumulatorBindings.size());
+            accumulatorBindings.add(accumulatorBinding);
+        }
+    }
+
+    /**
+     * Get the accumulator bindings of a bean.
+     *
+     * @param applicationContext The application context.
+     * @param beanId             The bean.
+     * @return The bean's accumulator bindings.  An empty array if the bean has none.
+     */
+    public static AccumulatorBinding[] getAccumulatorBindings(ApplicationContext applicationContext, BeanId beanId) {
+        List<AccumulatorBinding> accumulatorBindings = getAccumulatorBindings(applicationContext);
+        List<AccumulatorBinding> beanAccumulatorBindings = new ArrayList<>();
+
+        synchronized (accumulatorBindings) {
+            for (AccumulatorBinding accumulatorBinding : accumulatorBindings) {
+                if (accumulatorBinding.getBeanId().equals(beanId)) {
+                    beanAccumulatorBindings.add(accumulatorBinding);
+                }
+            }
+        }
+
+        return beanAccumulatorBindings.isEmpty() ? NO_BINDINGS : beanAccumulatorBindings.toArray(NO_BINDINGS);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<AccumulatorBinding> getAccumulatorBindings(ApplicationContext applicationContext) {
+        synchronized (applicationContext) {
+            List<AccumulatorBinding> accumulatorBindings = (List<AccumulatorBinding>) applicationContext.getRegistry().lookup(BINDINGS_KEY);
+            if (accumulatorBindings == null) {
+                accumulatorBindings = new ArrayList<>();
+                applicationContext.getRegistry().registerObject(BINDINGS_KEY, accumulatorBindings);
+            }
+            return accumulatorBindings;
+        }
+    }
+
+    /**
+     * Get the accumulators of the execution context.
+     *
+     * @param executionContext The execution context.
+     * @return The accumulators.
+     */
+    public static Accumulators getAccumulators(ExecutionContext executionContext) {
+        Accumulators accumulators = executionContext.get(ACCUMULATORS_TYPED_KEY);
+
+        if (accumulators == null) {
+            accumulators = new Accumulators();
+            executionContext.put(ACCUMULATORS_TYPED_KEY, accumulators);
+        }
+
+        return accumulators;
+    }
+
+    /**
+     * Write back the results of the supplied accumulator bindings, if any values were accumulated in the
+     * execution context.
+     *
+     * @param accumulatorBindings The accumulator bindings.
+     * @param executionContext    The execution context.
+     * @param source              The fragment ending the accumulation.
+     */
+    public static void flush(AccumulatorBinding[] accumulatorBindings, ExecutionContext executionContext, Fragment source) {
+        Accumulators accumulators = executionContext.get(ACCUMULATORS_TYPED_KEY);
+
+        if (accumulators != null) {
+            for (AccumulatorBinding accumulatorBinding : accumulatorBindings) {
+                accumulators.flush(accumulatorBinding, executionContext, source);
+            }
+        }
+    }
+
+    /**
+     * Accumulate a bound value.
+     * <p/>
+     * <code>null</code> values are ignored, and so are empty values, other than by a {@link AccumulatorFunction#COUNT}.
+     *
+     * @param accumulatorBinding The accumulator binding.
+     * @param bean               The bean instance the value is bound onto.
+     * @param value              The bound value: a {@link Number}, or a {@link String} parsed as a number.
+     * @param executionContext   The execution context.
+     * @param source             The bound fragment.
+     */
+    public void accumulate(AccumulatorBinding accumulatorBinding, Object bean, Object value, ExecutionContext executionContext, Fragment source) {
+        int index = accumulatorBinding.getIndex();
+
+        ensureCapacity(index);
+        if (beans[index] != bean) {
+            if (beans[index] != null) {
+                flush(accumulatorBinding, executionContext, source);
+            }
+            start(accumulatorBinding, bean);
+        }
+
+        if (accumulatorBinding.getFunction() == AccumulatorFunction.COUNT) {
+            if (value != null) {
+                longs[index]++;
+                counts[index]++;
+            }
+        } else if (value != null && !(value instanceof String && ((String) value).trim().isEmpty())) {
+            if (valueTypes[index] == null && value instanceof Number) {
+                valueTypes[index] = value.getClass();
+            }
+            add(accumulatorBinding, value, accumulatorBinding.isNegate());
+        }
+    }
+
+    /**
+     * Write back the result of an accumulator binding, if any values were accumulated.
+     *
+     * @param accumulatorBinding The accumulator binding.
+     * @param executionContext   The execution context.
+     * @param source             The fragment ending the accumulation.
+     */
+    public void flush(AccumulatorBinding accumulatorBinding, ExecutionContext executionContext, Fragment source) {
+        int index = accumulatorBinding.getIndex();
+
+        if (index >= beans.length || beans[index] == null) {
+            return;
+        }
+        Object bean = beans[index];
+        long count = counts[index];
+        Number result = getSlotValue(accumulatorBinding, index);
+        beans[index] = null;
+        decimals[index] = null;
+        if (count == 0) {
+            return;
+        }
+
+        if (accumulatorBinding.getFunction() == AccumulatorFunction.AVERAGE) {
+            result = accumulatorBinding.average(result, count);
+        }
+
+        accumulatorBinding.getPopulator().setPropertyValue(bean, accumulatorBinding.getProperty(), accumulatorBinding.toPropertyValue(result, valueTypes[index]), executionContext, source);
+    }
+
+    private void start(AccumulatorBinding accumulatorBinding, Object bean) {
+        int index = accumulatorBinding.getIndex();
+
+        beans[index] = bean;
+        longs[index] = 0;
+        doubles[index] = 0;
+        decimals[index] = BigDecimal.ZERO;
+        counts[index] = 0;
+        valueTypes[index] = null;
+
+        AccumulatorFunction function = accumulatorBinding.getFunction();
+        if (function == AccumulatorFunction.SUM || function == AccumulatorFunction.COUNT) {
+            // Accumulate onto the property's initial value.  Not so for min/max, as the initial value of a
+            // primitive property is the default 0, not a value...
+            Object initialValue = accumulatorBinding.getInitialValue(bean);
+            if (initialValue != null) {
+                if (initialValue instanceof Number) {
+                    valueTypes[index] = initialValue.getClass();
+                }
+                if (function == AccumulatorFunction.COUNT) {
+                    longs[index] = accumulatorBinding.toLong(initialValue);
+                } else {
+                    add(accumulatorBinding, initialValue, false);
+                }
+            }
+        }
+    }
+
+    private void add(AccumulatorBinding accumulatorBinding, Object value, boolean negate) {
+        int index = accumulatorBinding.getIndex();
+        AccumulatorFunction function = accumulatorBinding.getFunction();
+        boolean first = (counts[index] == 0);
+
+        switch (accumulatorBinding.getSlotType()) {
+            case LONG: {
+                long longValue = (negate ? -accumulatorBinding.toLong(value) : accumulatorBinding.toLong(value));
+                if (function == AccumulatorFunction.MIN) {
+                    longs[index] = (first ? longValue : Math.min(longs[index], longValue));
+                } else if (function == AccumulatorFunction.MAX) {
+                    longs[index] = (first ? longValue : Math.max(longs[index], longValue));
+                } else {
+                    longs[index] += longValue;
+                }
+                break;
+            }
+            case DOUBLE: {
+                double doubleValue = (negate ? -accumulatorBinding.toDouble(value) : accumulatorBinding.toDouble(value));
+                if (function == AccumulatorFunction.MIN) {
+                    doubles[index] = (first ? doubleValue : Math.min(doubles[index], doubleValue));
+                } else if (function == AccumulatorFunction.MAX) {
+                    doubles[index] = (first ? doubleValue : Math.max(doubles[index], doubleValue));
+                } else {
+                    doubles[index] += doubleValue;
+                }
+                break;
+            }
+            default: {
+                BigDecimal decimalValue = (negate ? accumulatorBinding.toDecimal(value).negate() : accumulatorBinding.toDecimal(value));
+                if (function == AccumulatorFunction.MIN) {
+                    decimals[index] = (first ? decimalValue : decimals[index].min(decimalValue));
+                } else if (function == AccumulatorFunction.MAX) {
+                    decimals[index] = (first ? decimalValue : decimals[index].max(decimalValue));
+                } else {
+                    decimals[index] = decimals[index].add(decimalValue);
+                }
+                break;
+            }
+        }
+        counts[index]++;
+    }
+
+    private Number getSlotValue(AccumulatorBinding accumulatorBinding, int index) {
+        switch (accumulatorBinding.getSlotType()) {
+            case LONG:
+                return longs[index];
+            case DOUBLE:
+                return doubles[index];
+            default:
+                return decimals[index];
+        }
+    }
+
+    private void ensureCapacity(int index) {
+        if (index >= beans.length) {
+            int capacity = Math.max(index + 1, beans.length * 2);
+            beans = Arrays.copyOf(beans, capacity);
+            longs = Arrays.copyOf(longs, capacity);
+            doubles = Arrays.copyOf(doubles, capacity);
+            decimals = Arrays.copyOf(decimals, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            valueTypes = Arrays.copyOf(valueTypes, capacity);
+        }
+    }
+}
@@ -45,19 +45,28 @@ package org.smooks.cartridges.javabean.binding;
 import org.smooks.assertion.AssertArgument;
 import org.smooks.cartridges.javabean.binding.model.get.Getter;
 
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
+ * Serialization context.
+ * <p/>
+ * Context objects are looked up by name or, when the context is created with a slot count, by the integer slot
+ * to which a serialization plan has resolved each name.  A slot addressed context can be {@link #reset(Object) reset}
+ * and reused for further serializations.
+ *
  * @author <a href="mailto:tom.fennelly@gmail.com">tom.fennelly@gmail.com</a>
  */
 @SuppressWarnings("unchecked")
 public class SerializationContext {
 
     public static final String ROOT_OBJ = SerializationContext.class.getName() + "#ROOT_OBJ";
+    public static final int ROOT_SLOT = 0;
 
     protected Object rootObject;
     protected Map<String, Object> contextObjects = new LinkedHashMap<>();
+    protected Object[] slots;
     protected int currentDepth;
 
     public SerializationContext(Object rootObject, String rootObjectBeanId) {
@@ -66,6 +75,43 @@ public class SerializationContext {
         addObject(rootObjectBeanId, rootObject);
     }
 
+    /**
+     * Create a slot addressed context.
+     * <p/>
+     * The context must be {@link #reset(Object) reset} with a root object before use.
+     *
+     * @param slotCount The number of context object slots, including the {@link #ROOT_SLOT root object slot}.
+     */
+    public SerializationContext(int slotCount) {
+        this.slots = new Object[Math.max(slotCount, ROOT_SLOT + 1)];
+    }
+
+    /**
+     * Reset the context for the serialization of a new root object.
+     *
+     * @param rootObject The root object.
+     */
+    public void reset(Object rootObject) {
+        AssertArgument.isNotNull(rootObject, "rootObject");
+        reset();
+        this.rootObject = rootObject;
+        if (slots != null) {
+            slots[ROOT_SLOT] = rootObject;
+        }
+    }
+
+    /**
+     * Clear the context, releasing the root and context objects.
+     */
+    public void reset() {
+        rootObject = null;
+        contextObjects.clear();
+        if (slots != null) {
+            Arrays.fill(slots, null);
+        }
+        currentDepth = 0;
+    }
+
     public int getCurrentDepth() {
         return currentDepth;
     }
@@ -86,6 +132,14 @@ public class SerializationContext {
         return contextObjects.remove(name);
     }
 
+    public void setObject(int slot, Object contextObject) {
+        slots[slot] = contextObject;
+    }
+
+    public Object getObject(int slot) {
+        return slots[slot];
+    }
+
     public Object getValue(Getter getter) {
         return getter.get(rootObject);
     }
@@ -45,26 +45,72 @@ package org.smooks.cartridges.javabean.binding.model.get;
 import org.smooks.cartridges.javabean.binding.BeanSerializationException;
 import org.smooks.support.ClassUtils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
 /**
  * Bean getter method.
+ * <p/>
+ * The getter method is invoked through a {@link MethodHandle}, unless the method is not publicly
+ * accessible, in which case it is invoked reflectively.
  *
  * @author <a href="mailto:tom.fennelly@gmail.com">tom.fennelly@gmail.com</a>
  */
 public class BeanGetter<T extends Object> implements Getter<T> {
 
+    private static final MethodHandle INVOKE;
+    private static final MethodHandle FAIL;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            INVOKE = lookup.findVirtual(BeanGetter.class, "invoke", GetterHandles.GETTER_TYPE);
+            FAIL = lookup.findVirtual(BeanGetter.class, "fail", MethodType.methodType(Object.class, Exception.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     protected final Method getterMethod;
+    protected final MethodHandle getterHandle;
 
     public BeanGetter(Class<?> beanClass, String property) {
         getterMethod = ClassUtils.getGetterMethodByProperty(property, beanClass, null);
         if (getterMethod == null) {
             throw new IllegalStateException("Failed to get getter method for property '" + property + "' on bean type '" + beanClass.getName() + "'.");
         }
+        getterHandle = createGetterHandle();
     }
 
     public Object get(final T contextObject) throws BeanSerializationException {
+        try {
+            return getterHandle.invokeExact((Object) contextObject);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            // Checked exceptions are converted by the handle...
+            throw new BeanSerializationException("Error invoking bean getter method '" + getterMethod.getName() + "' on bean type '" + contextObject.getClass().getName() + "'.", t);
+        }
+    }
+
+    @Override
+    public MethodHandle toMethodHandle() {
+        return getterHandle;
+    }
+
+    protected MethodHandle createGetterHandle() {
+        try {
+            MethodHandle handle = MethodHandles.publicLookup().unreflect(getterMethod).asType(GetterHandles.GETTER_TYPE);
+            return MethodHandles.catchException(handle, Exception.class, FAIL.bindTo(this));
+        } catch (IllegalAccessException e) {
+            return INVOKE.bindTo(this);
+        }
+    }
+
+    private Object invoke(Object contextObject) throws BeanSerializationException {
         try {
             return getterMethod.invoke(contextObject);
         } catch (IllegalArgumentException | IllegalAccessException e) {
@@ -73,4 +119,8 @@ public class BeanGetter<T extends Object> implements Getter<T> {
             throw new BeanSerializationException("Error invoking bean getter method '" + getterMethod.getName() + "' on bean type '" + contextObject.getClass().getName() + "'.", e.getCause());
         }
     }
+
+    private Object fail(Exception exception, Object contextObject) throws BeanSerializationException {
+        throw new BeanSerializationException("Error invoking bean getter method '" + getterMethod.getName() + "' on bean type '" + contextObject.getClass().getName() + "'.", exception);
+    }
 }
@@ -44,6 +44,9 @@ package org.smooks.cartridges.javabean.binding.model.get;
 
 import org.smooks.assertion.AssertArgument;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
 /**
  * Constant value getter.
  *
@@ -61,4 +64,9 @@ public class ConstantGetter implements Getter {
     public Object get(final Object contextObject) {
         return value;
     }
+
+    @Override
+    public MethodHandle toMethodHandle() {
+        return MethodHandles.dropArguments(MethodHandles.constant(Object.class, value), 0, Object.class);
+    }
 }
@@ -44,6 +44,8 @@ package org.smooks.cartridges.javabean.binding.model.get;
 
 import org.smooks.cartridges.javabean.binding.BeanSerializationException;
 
+import java.lang.invoke.MethodHandle;
+
 /**
  * Bean ModelSet node getter.
  *
@@ -59,4 +61,16 @@ public interface Getter<T> {
      * @throws BeanSerializationException Exception applying get operation on the context object instance.
      */
     Object get(final T contextObject) throws BeanSerializationException;
+
+    /**
+     * Get a {@link MethodHandle} applying this getter.
+     * <p/>
+     * Used by {@link GetterGraph} to fuse its getters into a single handle.  The default handle
+     * invokes {@link #get(Object)}.
+     *
+     * @return A <code>(Object)Object</code> method handle.
+     */
+    default MethodHandle toMethodHandle() {
+        return GetterHandles.GET.bindTo(this);
+    }
 }
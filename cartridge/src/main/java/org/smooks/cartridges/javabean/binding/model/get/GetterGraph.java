@@ -49,12 +49,17 @@ import org.smooks.cartridges.javabean.binding.model.Bean;
 import org.smooks.cartridges.javabean.binding.model.Binding;
 import org.smooks.cartridges.javabean.binding.model.DataBinding;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Getter Graph.
+ * <p/>
+ * Once the graph is complete, {@link #compile()} fuses its getters into a single {@link MethodHandle},
+ * short-circuiting on the first null value.  Until then, the getters are applied one by one.
  *
  * @author <a href="mailto:tom.fennelly@gmail.com">tom.fennelly@gmail.com</a>
  */
@@ -63,10 +68,22 @@ public class GetterGraph<T> implements Getter<T> {
 
     protected String contextObjectName = SerializationContext.ROOT_OBJ;
     protected List<Getter> graph = new ArrayList<>();
+    protected volatile MethodHandle graphHandle;
 
     public Object get(final T contextObject) throws BeanSerializationException {
         AssertArgument.isNotNull(contextObject, "contextObject");
 
+        MethodHandle graphHandle = this.graphHandle;
+        if (graphHandle != null) {
+            try {
+                return graphHandle.invokeExact((Object) contextObject);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new BeanSerializationException("Error applying getter graph on context object type '" + contextObject.getClass().getName() + "'.", t);
+            }
+        }
+
         Object value = contextObject;
 
         for (Getter getter : graph) {
@@ -79,9 +96,35 @@ public class GetterGraph<T> implements Getter<T> {
         return value;
     }
 
+    /**
+     * Fuse the getters of the graph into a single {@link MethodHandle}.
+     *
+     * @return <code>this</code> instance.
+     */
+    public GetterGraph compile() {
+        MethodHandle handle = MethodHandles.identity(Object.class);
+
+        for (int i = 0; i < graph.size(); i++) {
+            MethodHandle getterHandle = graph.get(i).toMethodHandle();
+            handle = (i == 0 ? getterHandle : GetterHandles.chain(handle, getterHandle));
+        }
+        graphHandle = handle;
+
+        return this;
+    }
+
+    @Override
+    public MethodHandle toMethodHandle() {
+        if (graphHandle == null) {
+            compile();
+        }
+        return graphHandle;
+    }
+
     protected GetterGraph add(Getter getter) {
         // Insert the getter at the start of the graph list...
         graph.add(0, getter);
+        graphHandle = null;
         return this;
     }
 
@@ -0,0 +1,89 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.binding.model.get;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link Getter} {@link MethodHandle} building blocks.
+ * <p/>
+ * All getter handles are of type <code>(Object)Object</code>.
+ */
+final class GetterHandles {
+
+    static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    static final MethodHandle GET;
+    static final MethodHandle MAP_GET;
+    static final MethodHandle IS_NULL;
+    static final MethodHandle NULL = MethodHandles.dropArguments(MethodHandles.constant(Object.class, null), 0, Object.class);
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        try {
+            GET = lookup.findVirtual(Getter.class, "get", GETTER_TYPE);
+            MAP_GET = lookup.findVirtual(Map.class, "get", GETTER_TYPE);
+            IS_NULL = lookup.findStatic(Objects.class, "isNull", MethodType.methodType(boolean.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private GetterHandles() {
+    }
+
+    /**
+     * Apply the next getter to the value returned by the first getter, unless that value is null.
+     *
+     * @param first The first getter handle.
+     * @param next  The next getter handle.
+     * @return The chained getter handle.
+     */
+    static MethodHandle chain(MethodHandle first, MethodHandle next) {
+        return MethodHandles.filterReturnValue(first, MethodHandles.guardWithTest(IS_NULL, NULL, next));
+    }
+}
@@ -44,6 +44,8 @@ package org.smooks.cartridges.javabean.binding.model.get;
 
 import org.smooks.assertion.AssertArgument;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.util.Map;
 
 /**
@@ -66,4 +68,9 @@ public class MapGetter<T extends Map> implements Getter<T> {
     public Object get(final T contextObject) {
         return contextObject.get(property);
     }
+
+    @Override
+    public MethodHandle toMethodHandle() {
+        return MethodHandles.insertArguments(GetterHandles.MAP_GET, 1, property).asType(GetterHandles.GETTER_TYPE);
+    }
 }
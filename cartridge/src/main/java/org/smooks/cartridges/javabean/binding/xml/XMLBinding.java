@@ -46,6 +46,7 @@ import org.smooks.Smooks;
 import org.smooks.api.SmooksConfigException;
 import org.smooks.api.converter.TypeConverter;
 import org.smooks.api.converter.TypeConverterFactory;
+import org.smooks.api.delivery.ContentDeliveryConfig;
 import org.smooks.api.io.Source;
 import org.smooks.api.resource.config.Configurable;
 import org.smooks.api.resource.config.ResourceConfig;
@@ -57,7 +58,6 @@ import org.smooks.cartridges.javabean.BeanInstanceCreator;
 import org.smooks.cartridges.javabean.BeanInstancePopulator;
 import org.smooks.cartridges.javabean.binding.AbstractBinding;
 import org.smooks.cartridges.javabean.binding.BeanSerializationException;
-import org.smooks.cartridges.javabean.binding.SerializationContext;
 import org.smooks.cartridges.javabean.binding.model.Bean;
 import org.smooks.cartridges.javabean.binding.model.Binding;
 import org.smooks.cartridges.javabean.binding.model.DataBinding;
@@ -65,6 +65,7 @@ import org.smooks.cartridges.javabean.binding.model.ModelSet;
 import org.smooks.cartridges.javabean.binding.model.WiredBinding;
 import org.smooks.cartridges.javabean.binding.model.get.ConstantGetter;
 import org.smooks.cartridges.javabean.binding.model.get.GetterGraph;
+import org.smooks.cartridges.javabean.converter.ThreadSafeTypeConverters;
 import org.smooks.engine.lookup.ContentHandlerFactoryLookup;
 import org.smooks.engine.lookup.NamespaceManagerLookup;
 import org.smooks.engine.lookup.converter.SourceTargetTypeConverterFactoryLookup;
@@ -78,11 +79,16 @@ import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.lang.reflect.Method;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -105,11 +111,21 @@ import java.util.Set;
 @SuppressWarnings("unchecked")
 public class XMLBinding extends AbstractBinding {
 
+    private static final char[] XML_DECLARATION = "<?xml version=\"1.0\"?>\n".toCharArray();
+    private static final byte[] ENCODED_XML_DECLARATION = XMLOutput.encode(XML_DECLARATION);
+
     protected ModelSet beanModelSet;
     protected List<XMLElementSerializationNode> graphs;
     protected final Set<QName> rootElementNames = new HashSet<>();
     protected final Map<Class, RootNodeSerializer> serializers = new LinkedHashMap<>();
+    protected final ClassValue<RootNodeSerializer> serializerResolver = new ClassValue<RootNodeSerializer>() {
+        @Override
+        protected RootNodeSerializer computeValue(Class<?> type) {
+            return resolveSerializer(type);
+        }
+    };
     protected boolean omitXMLDeclaration = false;
+    protected ContentDeliveryConfig contentDeliveryConfig;
 
     /**
      * Public constructor.
@@ -157,6 +173,7 @@ public class XMLBinding extends AbstractBinding {
         graphs = createExpandedXMLOutputGraphs(getUserDefinedResourceList());
         createRootSerializers(graphs);
         mergeBeanModelsIntoXMLGraphs();
+        compileSerializationPlans();
 
         return this;
     }
@@ -202,6 +219,8 @@ public class XMLBinding extends AbstractBinding {
 
     /**
      * Write the supplied Object instance to XML.
+     * <p/>
+     * The Object instance can also be an instance of a subclass (e.g. a proxy) of one of the bound types.
      *
      * @param object       The Object instance.
      * @param outputWriter The output writer.
@@ -211,23 +230,63 @@ public class XMLBinding extends AbstractBinding {
      * @throws IOException                Error writing to the supplied Writer instance.
      */
     public <W extends Writer> W toXML(Object object, W outputWriter) throws BeanSerializationException, IOException {
-        AssertArgument.isNotNull(object, "object");
-        assertInitialized();
+        serialize(object, new XMLOutput.WriterXMLOutput(outputWriter));
+        return outputWriter;
+    }
 
-        Class<?> objectClass = object.getClass();
-        RootNodeSerializer rootNodeSerializer = serializers.get(objectClass);
-        if (rootNodeSerializer == null) {
-            throw new BeanSerializationException("No serializer for Java type '" + objectClass.getName() + "'.");
-        }
-        if (!omitXMLDeclaration) {
-            outputWriter.write("<?xml version=\"1.0\"?>\n");
-        }
+    /**
+     * Write the supplied Object instance to XML, UTF-8 encoded.
+     * <p/>
+     * The XML is encoded straight into a reusable byte buffer, without going through a {@link Writer}.
+     *
+     * @param object       The Object instance.
+     * @param outputStream The output stream.
+     * @param <O>          The OutputStream type.
+     * @return The supplied {@link OutputStream} instance.
+     * @throws BeanSerializationException Error serializing the bean.
+     * @throws IOException                Error writing to the supplied OutputStream instance.
+     */
+    public <O extends OutputStream> O toXML(Object object, O outputStream) throws BeanSerializationException, IOException {
+        serialize(object, new XMLOutput.UTF8XMLOutput(outputStream));
+        return outputStream;
+    }
+
+    /**
+     * Write the supplied Object instance to XML, UTF-8 encoded.
+     * <p/>
+     * The XML is encoded straight into a reusable byte buffer, without going through a {@link Writer}.
+     *
+     * @param object  The Object instance.
+     * @param channel The output channel.  Must be in blocking mode.
+     * @param <C>     The WritableByteChannel type.
+     * @return The supplied {@link WritableByteChannel} instance.
+     * @throws BeanSerializationException Error serializing the bean.
+     * @throws IOException                Error writing to the supplied WritableByteChannel instance.
+     */
+    public <C extends WritableByteChannel> C toXML(Object object, C channel) throws BeanSerializationException, IOException {
+        serialize(object, new XMLOutput.UTF8XMLOutput(channel));
+        return channel;
+    }
 
-        XMLElementSerializationNode serializer = rootNodeSerializer.serializer;
-        serializer.serialize(outputWriter, new SerializationContext(object, rootNodeSerializer.beanId));
-        outputWriter.flush();
+    private void serialize(Object object, XMLOutput output) throws BeanSerializationException, IOException {
+        try {
+            AssertArgument.isNotNull(object, "object");
+            assertInitialized();
 
-        return outputWriter;
+            Class<?> objectClass = object.getClass();
+            RootNodeSerializer rootNodeSerializer = serializerResolver.get(objectClass);
+            if (rootNodeSerializer == null) {
+                throw new BeanSerializationException("No serializer for Java type '" + objectClass.getName() + "'.");
+            }
+            if (!omitXMLDeclaration) {
+                output.writeLiteral(XML_DECLARATION, ENCODED_XML_DECLARATION);
+            }
+
+            rootNodeSerializer.plan.serialize(output, object);
+            output.flush();
+        } finally {
+            output.release();
+        }
     }
 
     /**
@@ -267,6 +326,55 @@ public class XMLBinding extends AbstractBinding {
         }
     }
 
+    protected ContentDeliveryConfig getContentDeliveryConfig() {
+        if (contentDeliveryConfig == null) {
+            contentDeliveryConfig = getSmooks().createExecutionContext().getContentDeliveryRuntime().getContentDeliveryConfig();
+        }
+
+        return contentDeliveryConfig;
+    }
+
+    /**
+     * Resolve the serializer of a Java type.
+     * <p/>
+     * The serializer registered for the type itself or, failing that, for its nearest superclass is used.  Failing
+     * that, the serializer registered for the first interface found implemented by the type (or its superclasses)
+     * is used.  This allows subclasses and proxies (e.g. JPA entity proxies) of the bound types to be serialized.
+     * The resolution is cached, per runtime type, by {@link #serializerResolver}.
+     *
+     * @param type The Java type.
+     * @return The serializer, or null if there's no serializer for the type.
+     */
+    protected RootNodeSerializer resolveSerializer(Class<?> type) {
+        for (Class<?> superClass = type; superClass != null; superClass = superClass.getSuperclass()) {
+            RootNodeSerializer rootNodeSerializer = serializers.get(superClass);
+            if (rootNodeSerializer != null) {
+                return rootNodeSerializer;
+            }
+        }
+
+        Deque<Class<?>> interfaces = new ArrayDeque<>();
+        for (Class<?> superClass = type; superClass != null; superClass = superClass.getSuperclass()) {
+            interfaces.addAll(Arrays.asList(superClass.getInterfaces()));
+        }
+        while (!interfaces.isEmpty()) {
+            Class<?> anInterface = interfaces.removeFirst();
+            RootNodeSerializer rootNodeSerializer = serializers.get(anInterface);
+            if (rootNodeSerializer != null) {
+                return rootNodeSerializer;
+            }
+            interfaces.addAll(Arrays.asList(anInterface.getInterfaces()));
+        }
+
+        return null;
+    }
+
+    protected void compileSerializationPlans() {
+        for (RootNodeSerializer rootNodeSerializer : serializers.values()) {
+            rootNodeSerializer.plan = XMLSerializationPlan.compile(rootNodeSerializer.beanId, rootNodeSerializer.serializer);
+        }
+    }
+
     protected void merge(XMLElementSerializationNode serializer, Bean bean) {
         boolean isCollection = bean.isCollection();
 
@@ -278,15 +386,18 @@ public class XMLBinding extends AbstractBinding {
                 if (node != null) {
                     node.setGetter(constructContextualGetter((DataBinding) binding));
                     Method getterMethodByProperty = ClassUtils.getGetterMethodByProperty(binding.getProperty(), bean.getBeanClass(), null);
-                    TypeConverterFactory<?, ?> beanPopulatorTypeConverterFactory = binding.getPopulator().getTypeConverterFactory(getSmooks().createExecutionContext().getContentDeliveryRuntime().getContentDeliveryConfig());
+                    TypeConverterFactory<?, ?> beanPopulatorTypeConverterFactory = binding.getPopulator().getTypeConverterFactory(getContentDeliveryConfig());
                     TypeConverter<?, ?> beanPopulatorTypeConverter = beanPopulatorTypeConverterFactory.createTypeConverter();
-                    TypeConverterFactory<?, ? extends String> xmlBindingTypeFactory = getSmooks().getApplicationContext().getRegistry().lookup(new SourceTargetTypeConverterFactoryLookup<>(getterMethodByProperty.getReturnType(), String.class));
+                    TypeConverterFactory<Object, String> xmlBindingTypeFactory = (TypeConverterFactory<Object, String>) getSmooks().getApplicationContext().getRegistry().lookup(new SourceTargetTypeConverterFactoryLookup<>(getterMethodByProperty.getReturnType(), String.class));
                     if (xmlBindingTypeFactory != null) {
-                        TypeConverter<?, ? extends String> xmlBindingTypeConverter = xmlBindingTypeFactory.createTypeConverter();
-                        if (xmlBindingTypeConverter instanceof Configurable && beanPopulatorTypeConverter instanceof Configurable) {
-                            ((Configurable) xmlBindingTypeConverter).setConfiguration(((Configurable) beanPopulatorTypeConverter).getConfiguration());
-                        }
-                        node.setTypeConverter(xmlBindingTypeConverter);
+                        // The node converter is shared by all threads serializing through this binding...
+                        node.setTypeConverter(ThreadSafeTypeConverters.createTypeConverter(xmlBindingTypeFactory, () -> {
+                            TypeConverter<Object, String> xmlBindingTypeConverter = (TypeConverter<Object, String>) xmlBindingTypeFactory.createTypeConverter();
+                            if (xmlBindingTypeConverter instanceof Configurable && beanPopulatorTypeConverter instanceof Configurable) {
+                                ((Configurable) xmlBindingTypeConverter).setConfiguration(((Configurable) beanPopulatorTypeConverter).getConfiguration());
+                            }
+                            return xmlBindingTypeConverter;
+                        }));
                     }
                 }
             } else if (binding instanceof WiredBinding) {
@@ -424,6 +535,7 @@ public class XMLBinding extends AbstractBinding {
     protected static class RootNodeSerializer {
         protected final String beanId;
         protected final XMLElementSerializationNode serializer;
+        protected XMLSerializationPlan plan;
 
         protected RootNodeSerializer(String beanId, XMLElementSerializationNode serializer) {
             this.beanId = beanId;
@@ -0,0 +1,286 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.binding.xml;
+
+import org.smooks.support.XmlUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Output of an {@link XMLSerializationPlan}.
+ * <p/>
+ * Markup literals are pre-rendered by the plan in both character and UTF-8 encoded form, so that each output
+ * writes whichever form it needs, as is.  Text and attribute values are escaped by the output.
+ */
+abstract class XMLOutput {
+
+    abstract void writeLiteral(char[] literal, byte[] encodedLiteral) throws IOException;
+
+    abstract void writeText(String value) throws IOException;
+
+    abstract void writeAttributeValue(String value) throws IOException;
+
+    abstract void flush() throws IOException;
+
+    /**
+     * Release the resources held by the output.  The output must not be used afterwards.
+     */
+    void release() {
+    }
+
+    static byte[] encode(char[] literal) {
+        return new String(literal).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Character output, written to a {@link Writer}.
+     */
+    static class WriterXMLOutput extends XMLOutput {
+
+        private final Writer writer;
+
+        WriterXMLOutput(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        void writeLiteral(char[] literal, byte[] encodedLiteral) throws IOException {
+            writer.write(literal, 0, literal.length);
+        }
+
+        @Override
+        void writeText(String value) throws IOException {
+            char[] characters = value.toCharArray();
+            XmlUtils.encodeTextValue(characters, 0, characters.length, writer);
+        }
+
+        @Override
+        void writeAttributeValue(String value) throws IOException {
+            char[] characters = value.toCharArray();
+            XmlUtils.encodeAttributeValue(characters, 0, characters.length, writer);
+        }
+
+        @Override
+        void flush() throws IOException {
+            writer.flush();
+        }
+    }
+
+    /**
+     * UTF-8 byte output, written to an {@link OutputStream} or a blocking {@link WritableByteChannel}.
+     * <p/>
+     * Values are escaped and encoded straight into a per thread buffer, which is drained to the target
+     * whenever it fills up.  An output created while the thread's buffer is taken (i.e. a nested serialization,
+     * from within a getter) gets a buffer of its own.  Escaping is the same as that of {@link XmlUtils#encodeTextValue} and
+     * {@link XmlUtils#encodeAttributeValue}.  Unpaired surrogates are encoded as '?', as by the UTF-8
+     * {@link java.io.OutputStreamWriter}.
+     */
+    static class UTF8XMLOutput extends XMLOutput {
+
+        private static final int BUFFER_SIZE = 8192;
+        private static final ThreadLocal<PooledBuffer> BUFFERS = ThreadLocal.withInitial(PooledBuffer::new);
+
+        private static final byte[] LT = {'&', 'l', 't', ';'};
+        private static final byte[] GT = {'&', 'g', 't', ';'};
+        private static final byte[] AMP = {'&', 'a', 'm', 'p', ';'};
+        private static final byte[] APOS = {'&', 'a', 'p', 'o', 's', ';'};
+        private static final byte[] QUOT = {'&', 'q', 'u', 'o', 't', ';'};
+
+        private final OutputStream outputStream;
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer;
+        private PooledBuffer pooledBuffer;
+
+        UTF8XMLOutput(OutputStream outputStream) {
+            this(outputStream, null);
+        }
+
+        UTF8XMLOutput(WritableByteChannel channel) {
+            this(null, channel);
+        }
+
+        private UTF8XMLOutput(OutputStream outputStream, WritableByteChannel channel) {
+            this.outputStream = outputStream;
+            this.channel = channel;
+            PooledBuffer pooledBuffer = BUFFERS.get();
+            if (pooledBuffer.inUse) {
+                this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            } else {
+                pooledBuffer.inUse = true;
+                this.pooledBuffer = pooledBuffer;
+                this.buffer = pooledBuffer.buffer;
+                this.buffer.clear();
+            }
+        }
+
+        @Override
+        void release() {
+            if (pooledBuffer != null) {
+                pooledBuffer.inUse = false;
+                pooledBuffer = null;
+            }
+        }
+
+        @Override
+        void writeLiteral(char[] literal, byte[] encodedLiteral) throws IOException {
+            write(encodedLiteral, 0, encodedLiteral.length);
+        }
+
+        @Override
+        void writeText(String value) throws IOException {
+            write(value, false);
+        }
+
+        @Override
+        void writeAttributeValue(String value) throws IOException {
+            write(value, true);
+        }
+
+        @Override
+        void flush() throws IOException {
+            drain();
+            if (outputStream != null) {
+                outputStream.flush();
+            }
+        }
+
+        private void write(String value, boolean isAttribute) throws IOException {
+            final ByteBuffer buffer = this.buffer;
+
+            for (int i = 0, length = value.length(); i < length; i++) {
+                char c = value.charAt(i);
+
+                if (c < 0x80) {
+                    switch (c) {
+                        case '<':
+                            write(LT, 0, LT.length);
+                            break;
+                        case '>':
+                            write(GT, 0, GT.length);
+                            break;
+                        case '&':
+                            write(AMP, 0, AMP.length);
+                            break;
+                        case '\'':
+                            if (isAttribute) {
+                                write(APOS, 0, APOS.length);
+                            } else {
+                                ensureRemaining(1);
+                                buffer.put((byte) c);
+                            }
+                            break;
+                        case '"':
+                            if (isAttribute) {
+                                write(QUOT, 0, QUOT.length);
+                            } else {
+                                ensureRemaining(1);
+                                buffer.put((byte) c);
+                            }
+                            break;
+                        default:
+                            ensureRemaining(1);
+                            buffer.put((byte) c);
+                    }
+                } else if (c < 0x800) {
+                    ensureRemaining(2);
+                    buffer.put((byte) (0xC0 | (c >> 6)));
+                    buffer.put((byte) (0x80 | (c & 0x3F)));
+                } else if (!Character.isSurrogate(c)) {
+                    ensureRemaining(3);
+                    buffer.put((byte) (0xE0 | (c >> 12)));
+                    buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                    buffer.put((byte) (0x80 | (c & 0x3F)));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    ensureRemaining(4);
+                    buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                    buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                    buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                    buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+                } else {
+                    ensureRemaining(1);
+                    buffer.put((byte) '?');
+                }
+            }
+        }
+
+        private void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > buffer.remaining()) {
+                int chunk = buffer.remaining();
+                buffer.put(bytes, offset, chunk);
+                offset += chunk;
+                length -= chunk;
+                drain();
+            }
+            buffer.put(bytes, offset, length);
+        }
+
+        private void ensureRemaining(int length) throws IOException {
+            if (buffer.remaining() < length) {
+                drain();
+            }
+        }
+
+        private void drain() throws IOException {
+            if (outputStream != null) {
+                outputStream.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+            } else {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            buffer.clear();
+        }
+
+        private static class PooledBuffer {
+            private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            private boolean inUse;
+        }
+    }
+}
@@ -0,0 +1,492 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.binding.xml;
+
+import org.smooks.api.converter.TypeConverter;
+import org.smooks.cartridges.javabean.binding.SerializationContext;
+import org.smooks.cartridges.javabean.binding.model.get.Getter;
+import org.smooks.cartridges.javabean.binding.model.get.GetterGraph;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Serialization plan of an {@link XMLElementSerializationNode} graph.
+ * <p/>
+ * The node graph is compiled, once, into a flat instruction stream run by {@link #serialize(Writer, Object)}:
+ * <ul>
+ *     <li>The markup is pre-rendered into character and UTF-8 encoded literals (e.g. <code>"\n    &lt;prefix:name"</code>), with
+ *     the indentation of the element's depth.</li>
+ *     <li>Each node with a getter owns a value slot.  The getter is evaluated once per element written (or skipped),
+ *     into the slot, from which both the "has data" check and the written value are read.</li>
+ *     <li>Collection elements are bracketed by loop instructions.</li>
+ *     <li>The {@link GetterGraph getter graphs} are {@link GetterGraph#compile() compiled}.</li>
+ * </ul>
+ * The output is the same as that of {@link XMLElementSerializationNode#serialize(Writer, SerializationContext)}.
+ */
+public class XMLSerializationPlan {
+
+    // Write literal: literal index...
+    protected static final int WRITE = 0;
+    // Evaluate node getter into its slot: slot index, context object slot index...
+    protected static final int EVAL = 1;
+    // Jump if all the slots are null: slot count, slot indexes..., jump target...
+    protected static final int JUMP_IF_NO_DATA = 2;
+    // Write attribute, if it has a value: slot index, literal index (" name=\"")...
+    protected static final int ATTRIBUTE = 3;
+    // Write the element value and end tag, or close the empty element: slot index, literal index ("</name>")...
+    protected static final int LEAF = 4;
+    // Start a collection loop, or jump past it if empty: slot index (collection node), jump target, collection
+    // context object slot index, item context object slot index...
+    protected static final int LOOP = 5;
+    // Next collection item, jumping back to the start of the loop body: loop instruction index...
+    protected static final int NEXT = 6;
+
+    // Context object slot of the root object bean id...
+    protected static final int ROOT_BEAN_ID_SLOT = SerializationContext.ROOT_SLOT + 1;
+
+    private static final char[] EMPTY_ELEMENT_END = {'/', '>'};
+    private static final byte[] ENCODED_EMPTY_ELEMENT_END = XMLOutput.encode(EMPTY_ELEMENT_END);
+    private static final char[] START_TAG_END = {'>'};
+    private static final byte[] ENCODED_START_TAG_END = XMLOutput.encode(START_TAG_END);
+    private static final char[] ATTRIBUTE_VALUE_END = {'"'};
+    private static final byte[] ENCODED_ATTRIBUTE_VALUE_END = XMLOutput.encode(ATTRIBUTE_VALUE_END);
+
+    protected final int[] code;
+    protected final char[][] literals;
+    protected final byte[][] encodedLiterals;
+    protected final XMLSerializationNode[] nodes;
+    protected final String[] contextObjectNames;
+    private final ThreadLocal<PlanContext> contexts = ThreadLocal.withInitial(this::newContext);
+
+    protected XMLSerializationPlan(int[] code, char[][] literals, XMLSerializationNode[] nodes, String[] contextObjectNames) {
+        this.code = code;
+        this.literals = literals;
+        this.encodedLiterals = new byte[literals.length][];
+        this.nodes = nodes;
+        this.contextObjectNames = contextObjectNames;
+        for (int i = 0; i < literals.length; i++) {
+            encodedLiterals[i] = XMLOutput.encode(literals[i]);
+        }
+    }
+
+    /**
+     * Compile the plan of a root element node.
+     *
+     * @param rootBeanId The bean id of the root object.
+     * @param root       The root element node.
+     * @return The serialization plan.
+     */
+    public static XMLSerializationPlan compile(String rootBeanId, XMLElementSerializationNode root) {
+        Compiler compiler = new Compiler(rootBeanId);
+        compiler.element(root, 0, true);
+
+        return new XMLSerializationPlan(compiler.toCode(), compiler.literals.toArray(new char[0][]), compiler.nodes.toArray(new XMLSerializationNode[0]), compiler.contextObjectNames.toArray(new String[0]));
+    }
+
+    /**
+     * Serialize the root object.
+     *
+     * @param writer     The output writer.
+     * @param rootObject The root object.
+     * @throws IOException Error writing to the writer.
+     */
+    public void serialize(Writer writer, Object rootObject) throws IOException {
+        serialize(new XMLOutput.WriterXMLOutput(writer), rootObject);
+    }
+
+    void serialize(XMLOutput output, Object rootObject) throws IOException {
+        PlanContext context = contexts.get();
+
+        if (context.inUse) {
+            // Serialization from within a getter, on the same thread...
+            context = newContext();
+        }
+        context.inUse = true;
+        try {
+            context.reset(rootObject);
+            context.setObject(ROOT_BEAN_ID_SLOT, rootObject);
+            serialize(output, context);
+        } finally {
+            // Release the object graph...
+            context.reset();
+            context.inUse = false;
+        }
+    }
+
+    protected void serialize(XMLOutput output, PlanContext context) throws IOException {
+        final int[] code = this.code;
+        final Object[] values = context.values;
+        int loopDepth = -1;
+        int pc = 0;
+
+        while (pc < code.length) {
+            switch (code[pc]) {
+                case WRITE: {
+                    output.writeLiteral(literals[code[pc + 1]], encodedLiterals[code[pc + 1]]);
+                    pc += 2;
+                    break;
+                }
+                case EVAL: {
+                    int slot = code[pc + 1];
+                    values[slot] = nodes[slot].nodeGetter.getter.get(getContextObject(context, code[pc + 2]));
+                    pc += 3;
+                    break;
+                }
+                case JUMP_IF_NO_DATA: {
+                    int slotCount = code[pc + 1];
+                    boolean hasData = false;
+                    for (int i = 0; i < slotCount; i++) {
+                        if (values[code[pc + 2 + i]] != null) {
+                            hasData = true;
+                            break;
+                        }
+                    }
+                    pc = (hasData ? pc + 3 + slotCount : code[pc + 2 + slotCount]);
+                    break;
+                }
+                case ATTRIBUTE: {
+                    int slot = code[pc + 1];
+                    String value = toString(slot, values[slot]);
+                    if (value != null) {
+                        output.writeLiteral(literals[code[pc + 2]], encodedLiterals[code[pc + 2]]);
+                        output.writeAttributeValue(value);
+                        output.writeLiteral(ATTRIBUTE_VALUE_END, ENCODED_ATTRIBUTE_VALUE_END);
+                    }
+                    pc += 3;
+                    break;
+                }
+                case LEAF: {
+                    int slot = code[pc + 1];
+                    String value = (slot >= 0 ? toString(slot, values[slot]) : null);
+                    if (value != null) {
+                        output.writeLiteral(START_TAG_END, ENCODED_START_TAG_END);
+                        output.writeText(value);
+                        output.writeLiteral(literals[code[pc + 2]], encodedLiterals[code[pc + 2]]);
+                    } else {
+                        output.writeLiteral(EMPTY_ELEMENT_END, ENCODED_EMPTY_ELEMENT_END);
+                    }
+                    pc += 3;
+                    break;
+                }
+                case LOOP: {
+                    Getter collectionGetter = nodes[code[pc + 1]].collectionGetter.getter;
+                    List<?> collection = toList(collectionGetter.get(getContextObject(context, code[pc + 3])));
+                    if (collection == null || collection.isEmpty()) {
+                        pc = code[pc + 2];
+                    } else {
+                        loopDepth++;
+                        context.pushLoop(loopDepth, collection);
+                        context.setObject(code[pc + 4], collection.get(0));
+                        pc += 5;
+                    }
+                    break;
+                }
+                case NEXT: {
+                    int loopStart = code[pc + 1];
+                    List<?> collection = context.loopCollections[loopDepth];
+                    int index = context.loopIndexes[loopDepth];
+                    if (index < collection.size()) {
+                        context.loopIndexes[loopDepth] = index + 1;
+                        context.setObject(code[loopStart + 4], collection.get(index));
+                        pc = loopStart + 5;
+                    } else {
+                        context.loopCollections[loopDepth] = null;
+                        loopDepth--;
+                        context.setObject(code[loopStart + 4], null);
+                        pc += 2;
+                    }
+                    break;
+                }
+                default:
+                    throw new IllegalStateException("Unexpected serialization plan instruction " + code[pc] + ".");
+            }
+        }
+    }
+
+    protected Object getContextObject(SerializationContext context, int contextSlot) {
+        Object contextObject = context.getObject(contextSlot);
+
+        if (contextObject == null) {
+            throw new IllegalStateException("Unknown context object name '" + contextObjectNames[contextSlot] + "'.");
+        }
+
+        return contextObject;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected String toString(int slot, Object value) {
+        XMLSerializationNode node = nodes[slot];
+
+        if (value == null) {
+            value = node.defaultVal;
+            if (value == null) {
+                return null;
+            }
+        }
+
+        if (node.typeConverter != null) {
+            return ((TypeConverter<Object, String>) node.typeConverter).convert(value);
+        } else {
+            return value.toString();
+        }
+    }
+
+    protected List<?> toList(Object collectionObject) {
+        if (collectionObject instanceof List) {
+            return (List<?>) collectionObject;
+        } else if (collectionObject instanceof Object[]) {
+            return Arrays.asList((Object[]) collectionObject);
+        } else {
+            return null;
+        }
+    }
+
+    private PlanContext newContext() {
+        return new PlanContext(contextObjectNames.length, nodes.length);
+    }
+
+    /**
+     * Plan execution context, reused by the thread executing the plan.
+     */
+    protected static class PlanContext extends SerializationContext {
+
+        // Getter values, by node slot...
+        private final Object[] values;
+        // Collection loop stack: collection and next item index...
+        private List<?>[] loopCollections = new List<?>[4];
+        private int[] loopIndexes = new int[4];
+        private boolean inUse;
+
+        protected PlanContext(int contextSlotCount, int valueSlotCount) {
+            super(contextSlotCount);
+            values = new Object[valueSlotCount];
+        }
+
+        private void pushLoop(int loopDepth, List<?> collection) {
+            if (loopDepth == loopCollections.length) {
+                loopCollections = Arrays.copyOf(loopCollections, loopDepth * 2);
+                loopIndexes = Arrays.copyOf(loopIndexes, loopDepth * 2);
+            }
+            loopCollections[loopDepth] = collection;
+            loopIndexes[loopDepth] = 1;
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            Arrays.fill(values, null);
+            Arrays.fill(loopCollections, null);
+        }
+    }
+
+    private static class Compiler {
+
+        private int[] code = new int[64];
+        private int size;
+        private final List<char[]> literals = new ArrayList<>();
+        private final List<XMLSerializationNode> nodes = new ArrayList<>();
+        private final List<String> contextObjectNames = new ArrayList<>();
+        private final StringBuilder pendingLiteral = new StringBuilder();
+
+        private Compiler(String rootBeanId) {
+            contextObjectNames.add(SerializationContext.ROOT_OBJ);
+            contextObjectNames.add(rootBeanId);
+        }
+
+        private void element(XMLElementSerializationNode element, int depth, boolean isRoot) {
+            boolean isLeaf = element.elements.isEmpty();
+            List<XMLAttributeSerializationNode> attributes = new ArrayList<>();
+            boolean hasAttributeWithoutGetter = false;
+            int loopStart = -1;
+            int skipJump = -1;
+
+            for (XMLAttributeSerializationNode attribute : element.attributes) {
+                if (attribute.nodeGetter != null) {
+                    attributes.add(attribute);
+                } else {
+                    hasAttributeWithoutGetter = true;
+                }
+            }
+
+            if (element.isCollection && !isRoot) {
+                flush();
+                loopStart = size;
+                Getter collectionGetter = element.collectionGetter.getter;
+                String collectionContextObjectName = (collectionGetter instanceof GetterGraph ? ((GetterGraph<?>) collectionGetter).getContextObjectName() : SerializationContext.ROOT_OBJ);
+                emit(LOOP, slot(element), -1, contextSlot(collectionContextObjectName), contextSlot(element.collectionGetter.contextObjectName));
+            }
+
+            int elementSlot = -1;
+            int[] attributeSlots = new int[attributes.size()];
+            boolean checkData = !isRoot && !element.isCollection;
+            if (element.nodeGetter != null && (isLeaf || checkData)) {
+                elementSlot = slot(element);
+                flush();
+                emit(EVAL, elementSlot, contextSlot(element.nodeGetter.contextObjectName));
+            }
+            for (int i = 0; i < attributes.size(); i++) {
+                attributeSlots[i] = slot(attributes.get(i));
+                flush();
+                emit(EVAL, attributeSlots[i], contextSlot(attributes.get(i).nodeGetter.contextObjectName));
+            }
+            if (checkData && element.nodeGetter != null && !hasAttributeWithoutGetter) {
+                // Skip the element if none of its parts has data...
+                flush();
+                skipJump = size + 2 + attributeSlots.length + 1;
+                emit(JUMP_IF_NO_DATA, attributeSlots.length + 1, elementSlot);
+                for (int attributeSlot : attributeSlots) {
+                    emit(attributeSlot);
+                }
+                emit(-1);
+            }
+
+            if (!isRoot) {
+                pendingLiteral.append('\n');
+            }
+            indent(depth);
+            pendingLiteral.append('<').append(name(element.qName));
+
+            for (int i = 0; i < attributes.size(); i++) {
+                flush();
+                emit(ATTRIBUTE, attributeSlots[i], literal(" " + name(attributes.get(i).qName) + "=\""));
+            }
+
+            if (isLeaf) {
+                if (element.nodeGetter != null) {
+                    flush();
+                    emit(LEAF, elementSlot, literal("</" + name(element.qName) + ">"));
+                } else {
+                    pendingLiteral.append("/>");
+                }
+            } else {
+                pendingLiteral.append('>');
+                for (XMLElementSerializationNode child : element.elements) {
+                    element(child, depth + 1, false);
+                }
+                pendingLiteral.append('\n');
+                indent(depth);
+                pendingLiteral.append("</").append(name(element.qName)).append('>');
+            }
+
+            if (loopStart != -1) {
+                flush();
+                emit(NEXT, loopStart);
+                code[loopStart + 2] = size;
+            }
+            if (skipJump != -1) {
+                flush();
+                code[skipJump] = size;
+            }
+        }
+
+        private int slot(XMLSerializationNode node) {
+            compileGetter(node.nodeGetter);
+            compileGetter(node.collectionGetter);
+            nodes.add(node);
+            return nodes.size() - 1;
+        }
+
+        private int contextSlot(String contextObjectName) {
+            int contextSlot = contextObjectNames.indexOf(contextObjectName);
+            if (contextSlot == -1) {
+                contextObjectNames.add(contextObjectName);
+                contextSlot = contextObjectNames.size() - 1;
+            }
+            return contextSlot;
+        }
+
+        private static void compileGetter(XMLSerializationNode.NodeGetter nodeGetter) {
+            if (nodeGetter != null && nodeGetter.getter instanceof GetterGraph) {
+                ((GetterGraph<?>) nodeGetter.getter).compile();
+            }
+        }
+
+        private int literal(String literal) {
+            literals.add(literal.toCharArray());
+            return literals.size() - 1;
+        }
+
+        private void indent(int depth) {
+            // Indent 4 spaces per level in the hierarchy...
+            int indent = Math.min(depth * 4, XMLElementSerializationNode.INDENT_BUF.length);
+            for (int i = 0; i < indent; i++) {
+                pendingLiteral.append(' ');
+            }
+        }
+
+        private void flush() {
+            if (pendingLiteral.length() > 0) {
+                emit(WRITE, literal(pendingLiteral.toString()));
+                pendingLiteral.setLength(0);
+            }
+        }
+
+        private void emit(int... instruction) {
+            if (size + instruction.length > code.length) {
+                code = Arrays.copyOf(code, Math.max(code.length * 2, size + instruction.length));
+            }
+            System.arraycopy(instruction, 0, code, size, instruction.length);
+            size += instruction.length;
+        }
+
+        private int[] toCode() {
+            flush();
+            return Arrays.copyOf(code, size);
+        }
+
+        private static String name(QName qName) {
+            String prefix = qName.getPrefix();
+
+            if (prefix != null && !prefix.equals(XMLConstants.DEFAULT_NS_PREFIX)) {
+                return prefix + ":" + qName.getLocalPart();
+            }
+            return qName.getLocalPart();
+        }
+    }
+}
@@ -48,13 +48,14 @@ import org.smooks.api.converter.TypeConverter;
 import org.smooks.api.converter.TypeConverterException;
 import org.smooks.api.converter.TypeConverterFactory;
 import org.smooks.api.resource.config.Configurable;
-import org.smooks.engine.expression.MVELExpressionEvaluator;
+import org.smooks.cartridges.javabean.expression.Expression;
+import org.smooks.cartridges.javabean.expression.ExpressionEngine;
+import org.smooks.cartridges.javabean.expression.ExpressionEngine.ExpressionEngineFactory;
+import org.smooks.cartridges.javabean.expression.MVELExpressionEngine;
 import org.smooks.engine.lookup.converter.NameTypeConverterFactoryLookup;
 import org.smooks.support.ClassUtils;
 
 import javax.inject.Inject;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -62,33 +63,48 @@ import java.util.Properties;
  * <p/>
  * Wraps the underlying decoder, allowing you to preprocess the data before
  * passing to the base decoder.
+ * <p/>
+ * The value is made available to the expression as the "data" and "value" variables.  The expression is compiled by an {@link ExpressionEngine}, by default the
+ * {@link MVELExpressionEngine}.
  *
  * @author <a href="mailto:tom.fennelly@gmail.com">tom.fennelly@gmail.com</a>
  */
 public class PreprocessTypeConverter implements TypeConverter<String, Object> {
 
-    protected final MVELExpressionEvaluator expression;
+    // The names under which the value is made available to the expression...
+    static final String[] VARIABLE_NAMES = {"data", "value"};
+
+    protected final Expression expression;
 
     protected final TypeConverter<? super String, ?> delegateTypeConverter;
 
     public PreprocessTypeConverter(String valuePreProcessExpression, TypeConverter<? super String, ?> delegateTypeConverter) {
-        expression = new MVELExpressionEvaluator(valuePreProcessExpression);
-        expression.setToType(String.class);
+        this(ExpressionEngineFactory.compile(new MVELExpressionEngine(), valuePreProcessExpression, String.class, null, VARIABLE_NAMES), delegateTypeConverter);
+    }
+
+    /**
+     * @param valuePreProcessExpression The preprocessing expression, compiled with the "data" and "value" variables.
+     * @param delegateTypeConverter     The converter of the preprocessed value.
+     */
+    public PreprocessTypeConverter(Expression valuePreProcessExpression, TypeConverter<? super String, ?> delegateTypeConverter) {
+        this.expression = valuePreProcessExpression;
         this.delegateTypeConverter = delegateTypeConverter;
     }
 
     @Override
     public Object convert(String value) {
         if (value != null) {
-            Map<String, String> contextObj = new HashMap<>();
-
-            // Make it available under the strings "data" or "value"...
-            contextObj.put("data", value);
-            contextObj.put("value", value);
-
-            return delegateTypeConverter.convert((String) expression.exec(contextObj));
+            return delegateTypeConverter.convert((String) expression.evaluate(null, null, value, value));
         } else {
             return null;
         }
     }
+
+    public Expression getExpression() {
+        return expression;
+    }
+
+    public TypeConverter<? super String, ?> getDelegateTypeConverter() {
+        return delegateTypeConverter;
+    }
 }
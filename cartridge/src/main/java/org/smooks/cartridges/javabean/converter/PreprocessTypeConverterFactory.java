@@ -50,6 +50,11 @@ import org.smooks.api.converter.TypeConverterDescriptor;
 import org.smooks.api.converter.TypeConverterException;
 import org.smooks.api.converter.TypeConverterFactory;
 import org.smooks.api.resource.config.Configurable;
+import org.smooks.cartridges.javabean.expression.Expression;
+import org.smooks.cartridges.javabean.expression.ExpressionEngine;
+import org.smooks.cartridges.javabean.expression.ExpressionEngine.ExpressionEngineFactory;
+import org.smooks.cartridges.javabean.expression.ExpressionEvaluationStrategy;
+import org.smooks.engine.lookup.GlobalParamsLookup;
 import org.smooks.engine.lookup.converter.NameTypeConverterFactoryLookup;
 import org.smooks.support.ClassUtils;
 
@@ -60,6 +65,7 @@ public class PreprocessTypeConverterFactory implements Configurable, TypeConvert
 
     public static final String VALUE_PRE_PROCESSING = "valuePreprocess";
     public static final String DELEGATE_TYPE_CONVERTER_FACTORY = "baseDecoder";
+    public static final String EXPRESSION_EVALUATION_STRATEGY = "expressionEvaluationStrategy";
 
     @Inject
     protected ApplicationContext applicationContext;
@@ -92,7 +98,20 @@ public class PreprocessTypeConverterFactory implements Configurable, TypeConvert
             ((Configurable) delegateTypeConverter).setConfiguration(properties);
         }
 
-        return new PreprocessTypeConverter(properties.getProperty(VALUE_PRE_PROCESSING), delegateTypeConverter);
+        Expression expression = ExpressionEngineFactory.compile(getExpressionEngine(), properties.getProperty(VALUE_PRE_PROCESSING), String.class, null, PreprocessTypeConverter.VARIABLE_NAMES);
+
+        return new PreprocessTypeConverter(expression, delegateTypeConverter);
+    }
+
+    protected ExpressionEngine getExpressionEngine() {
+        String expressionEvaluationStrategy = properties.getProperty(EXPRESSION_EVALUATION_STRATEGY);
+
+        if (expressionEvaluationStrategy == null) {
+            return ExpressionEngineFactory.getInstance(applicationContext);
+        } else {
+            String expressionEngineName = applicationContext.getRegistry().lookup(new GlobalParamsLookup()).getParameterValue(ExpressionEngine.GLOBAL_PARAM, String.class);
+            return ExpressionEngineFactory.getInstance(expressionEngineName, ExpressionEvaluationStrategy.fromParameter(EXPRESSION_EVALUATION_STRATEGY, expressionEvaluationStrategy));
+        }
     }
 
     @Override
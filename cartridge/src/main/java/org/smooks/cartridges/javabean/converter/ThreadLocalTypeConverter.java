@@ -0,0 +1,75 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.converter;
+
+import org.smooks.api.converter.TypeConverter;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link TypeConverter} that confines a non thread-safe converter to the thread using it.
+ * <p/>
+ * Each thread lazily gets its own converter instance, which it then reuses for every value it converts.
+ */
+public class ThreadLocalTypeConverter<S, T> implements TypeConverter<S, T> {
+
+    private final ThreadLocal<TypeConverter<S, T>> typeConverter;
+
+    public ThreadLocalTypeConverter(Supplier<? extends TypeConverter<S, T>> typeConverterSupplier) {
+        typeConverter = ThreadLocal.withInitial(typeConverterSupplier);
+    }
+
+    /**
+     * @param typeConverter         The converter instance for the current thread.
+     * @param typeConverterSupplier Supplies converter instances for the other threads.
+     */
+    public ThreadLocalTypeConverter(TypeConverter<S, T> typeConverter, Supplier<? extends TypeConverter<S, T>> typeConverterSupplier) {
+        this(typeConverterSupplier);
+        this.typeConverter.set(typeConverter);
+    }
+
+    @Override
+    public T convert(S value) {
+        return typeConverter.get().convert(value);
+    }
+}
@@ -0,0 +1,135 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.converter;
+
+import org.smooks.api.converter.TypeConverter;
+import org.smooks.api.converter.TypeConverterFactory;
+import org.smooks.engine.converter.EnumTypeConverterFactory;
+import org.smooks.engine.converter.MappingTypeConverterFactory;
+import org.smooks.engine.converter.NumberToStringConverter;
+import org.smooks.engine.converter.NumberTypeConverter;
+
+import java.util.function.Supplier;
+
+/**
+ * Creates {@link TypeConverter} instances that can be cached by a binding and shared by all the threads
+ * filtering through it.
+ * <p/>
+ * A converter is shared as is if it is known to be thread-safe, i.e., it (or its factory) is annotated with
+ * {@link ThreadSafe}, or it is one of the Smooks converters holding no mutable state. Any other converter, such
+ * as a number converter configured with a {@link java.text.NumberFormat} or a date converter (which uses a
+ * {@link java.text.SimpleDateFormat}), is wrapped in a
+ * {@link ThreadLocalTypeConverter}.
+ */
+public final class ThreadSafeTypeConverters {
+
+    private static final String SMOOKS_CONVERTER_PACKAGE = "org.smooks.engine.converter.";
+
+    private ThreadSafeTypeConverters() {
+    }
+
+    /**
+     * Create a converter that is safe to share between threads.
+     *
+     * @param typeConverterFactory The factory creating the converter.
+     * @return The thread-safe converter.
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, T> TypeConverter<S, T> createTypeConverter(TypeConverterFactory<S, T> typeConverterFactory) {
+        return createTypeConverter(typeConverterFactory, () -> (TypeConverter<S, T>) typeConverterFactory.createTypeConverter());
+    }
+
+    /**
+     * Create a converter that is safe to share between threads.
+     *
+     * @param typeConverterFactory  The factory declaring the converter.
+     * @param typeConverterSupplier Supplies new, fully configured, converter instances.
+     * @return The thread-safe converter.
+     */
+    public static <S, T> TypeConverter<S, T> createTypeConverter(TypeConverterFactory<?, ?> typeConverterFactory, Supplier<? extends TypeConverter<S, T>> typeConverterSupplier) {
+        TypeConverter<S, T> typeConverter = typeConverterSupplier.get();
+        if (isThreadSafe(typeConverterFactory, typeConverter)) {
+            return typeConverter;
+        } else {
+            return new ThreadLocalTypeConverter<>(typeConverter, typeConverterSupplier);
+        }
+    }
+
+    /**
+     * Is the converter safe to share between threads?
+     *
+     * @param typeConverterFactory The factory that created the converter. May be <code>null</code>.
+     * @param typeConverter        The converter.
+     * @return <code>true</code> if the converter is thread-safe, otherwise <code>false</code>.
+     */
+    public static boolean isThreadSafe(TypeConverterFactory<?, ?> typeConverterFactory, TypeConverter<?, ?> typeConverter) {
+        if (typeConverterFactory != null && typeConverterFactory.getClass().isAnnotationPresent(ThreadSafe.class)) {
+            return true;
+        } else if (typeConverter instanceof PreprocessTypeConverter) {
+            PreprocessTypeConverter preprocessTypeConverter = (PreprocessTypeConverter) typeConverter;
+            TypeConverterFactory<?, ?> delegateTypeConverterFactory = typeConverterFactory instanceof PreprocessTypeConverterFactory ? ((PreprocessTypeConverterFactory) typeConverterFactory).getDelegateTypeConverterFactory() : null;
+
+            return isThreadSafe(delegateTypeConverterFactory, preprocessTypeConverter.getDelegateTypeConverter());
+        } else if (typeConverter.getClass().isSynthetic()) {
+            // Lambda converters created by the Smooks factories only capture immutable state...
+            return typeConverterFactory != null && typeConverterFactory.getClass().getName().startsWith(SMOOKS_CONVERTER_PACKAGE);
+        } else {
+            return isThreadSafe(typeConverter);
+        }
+    }
+
+    private static boolean isThreadSafe(TypeConverter<?, ?> typeConverter) {
+        if (typeConverter.getClass().isAnnotationPresent(ThreadSafe.class)) {
+            return true;
+        } else if (typeConverter instanceof NumberToStringConverter) {
+            // Formats with a copy of the NumberFormat...
+            return true;
+        } else if (typeConverter instanceof NumberTypeConverter) {
+            return ((NumberTypeConverter<?, ?>) typeConverter).getNumberFormat() == null;
+        } else {
+            // Date converters are not listed: they parse and format with a SimpleDateFormat...
+            return typeConverter instanceof EnumTypeConverterFactory.EnumTypeConverter ||
+                    typeConverter instanceof MappingTypeConverterFactory.MappingTypeConverter;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.expression;
+
+import org.smooks.api.bean.context.BeanContext;
+import org.smooks.api.expression.ExpressionEvaluationException;
+
+/**
+ * Expression compiled by an {@link ExpressionEngine}.
+ * <p/>
+ * The expression references its variables by name.  The names of the variables supplied by the caller are declared
+ * when the expression is compiled (see {@link ExpressionEngine#compile(String, Class, org.smooks.api.bean.context.BeanIdStore, String...)}),
+ * and the caller then supplies their values, in the same order, on each evaluation.  Any other name is resolved as
+ * a bean id against the {@link BeanContext}.
+ */
+public interface Expression {
+
+    /**
+     * Get the expression string.
+     *
+     * @return The expression string.
+     */
+    String getExpression();
+
+    /**
+     * Evaluate the expression.
+     *
+     * @param contextObject The object the expression is evaluated on (i.e. <code>this</code>), or <code>null</code>.
+     * @param beanContext   The bean context resolving the bean ids referenced by the expression, or <code>null</code>.
+     * @param variables     The values of the variables declared when compiling the expression, in order.
+     * @return The expression value, converted to the type the expression was compiled for.
+     * @throws ExpressionEvaluationException Error evaluating the expression.
+     */
+    Object evaluate(Object contextObject, BeanContext beanContext, Object... variables) throws ExpressionEvaluationException;
+}
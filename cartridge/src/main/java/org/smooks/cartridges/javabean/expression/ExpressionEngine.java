@@ -0,0 +1,243 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.expression;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.smooks.api.ApplicationContext;
+import org.smooks.api.SmooksConfigException;
+import org.smooks.api.bean.context.BeanIdStore;
+import org.smooks.api.resource.config.ResourceConfig;
+import org.smooks.cartridges.javabean.factory.Alias;
+import org.smooks.engine.lookup.GlobalParamsLookup;
+import org.smooks.support.ClassUtils;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Expression language engine for the <code>&lt;jb:expression&gt;</code> bindings, the <code>initValExpression</code>s,
+ * the <code>valuePreprocess</code> decode params and the <code>mvel</code> bean factories.
+ * <p/>
+ * Engines are listed in <code>META-INF/smooks-javabean-expression-engines.inf</code> files and are referenced by their
+ * {@link Alias}, or by class name, through the {@link #GLOBAL_PARAM} global parameter e.g.:
+ * <pre>
+ * &lt;params&gt;
+ *     &lt;param name="org.smooks.cartridges.javabean.expression.engine"&gt;simple&lt;/param&gt;
+ * &lt;/params&gt;
+ * </pre>
+ * The default engine is {@link MVELExpressionEngine}.
+ * <p/>
+ * An {@link ExpressionEngine} must have a public argumentless constructor and must be thread safe.  Whether the
+ * {@link Expression}s it compiles are thread safe is declared by {@link #isThreadSafe()}.
+ */
+public interface ExpressionEngine {
+
+    /**
+     * Global parameter name for configuring the expression engine.
+     */
+    String GLOBAL_PARAM = "org.smooks.cartridges.javabean.expression.engine";
+
+    /**
+     * Compile an expression.
+     *
+     * @param expression    The expression string.
+     * @param toType        The type the expression value is converted to. <code>null</code> if not converted.
+     * @param beanIdStore   The store the bean ids referenced by the expression can be resolved up front against,
+     *                      or <code>null</code> if they are resolved by name on evaluation.
+     * @param variableNames The names of the variables the caller supplies on evaluation.
+     * @return The compiled expression.
+     * @throws SmooksConfigException The expression is invalid.
+     */
+    Expression compile(String expression, Class<?> toType, BeanIdStore beanIdStore, String... variableNames) throws SmooksConfigException;
+
+    /**
+     * Are the compiled expressions thread safe?
+     *
+     * @return <code>true</code> if an {@link Expression} compiled by this engine can be shared across threads, and
+     * so across executions, otherwise <code>false</code>, in which case each thread compiles its own.
+     */
+    boolean isThreadSafe();
+
+    class ExpressionEngineFactory {
+
+        private static final Logger LOGGER = LoggerFactory.getLogger(ExpressionEngineFactory.class);
+
+        public static final String DEFAULT_ALIAS = "mvel";
+
+        private static final Map<ExpressionEvaluationStrategy, MVELExpressionEngine> MVEL_EXPRESSION_ENGINES = new EnumMap<>(ExpressionEvaluationStrategy.class);
+
+        static {
+            for (ExpressionEvaluationStrategy strategy : ExpressionEvaluationStrategy.values()) {
+                MVEL_EXPRESSION_ENGINES.put(strategy, new MVELExpressionEngine(strategy));
+            }
+        }
+
+        private static final ConcurrentMap<String, ExpressionEngine> instances = new ConcurrentHashMap<>();
+
+        private static volatile Map<String, Class<? extends ExpressionEngine>> aliasToClassMap;
+
+        private ExpressionEngineFactory() {
+        }
+
+        /**
+         * Get the expression engine configured through the global parameters.
+         *
+         * @param applicationContext The application context.
+         * @return The expression engine.
+         */
+        public static ExpressionEngine getInstance(ApplicationContext applicationContext) {
+            ResourceConfig globalParams = applicationContext.getRegistry().lookup(new GlobalParamsLookup());
+            String strategy = globalParams.getParameterValue(ExpressionEvaluationStrategy.GLOBAL_PARAM, String.class);
+
+            return getInstance(globalParams.getParameterValue(GLOBAL_PARAM, String.class), strategy != null ? ExpressionEvaluationStrategy.fromParameter(ExpressionEvaluationStrategy.GLOBAL_PARAM, strategy) : ExpressionEvaluationStrategy.COMPILED);
+        }
+
+        /**
+         * Get an expression engine.
+         *
+         * @param alias    The engine alias or class name.  <code>null</code> for the default engine.
+         * @param strategy The evaluation strategy of the {@link MVELExpressionEngine}.
+         * @return The expression engine.
+         */
+        public static ExpressionEngine getInstance(String alias, ExpressionEvaluationStrategy strategy) {
+            Class<? extends ExpressionEngine> expressionEngineClass = getExpressionEngineClass(alias == null || alias.trim().isEmpty() ? DEFAULT_ALIAS : alias.trim());
+
+            if (expressionEngineClass == MVELExpressionEngine.class) {
+                return MVEL_EXPRESSION_ENGINES.get(strategy);
+            }
+
+            return instances.computeIfAbsent(expressionEngineClass.getName(), className -> {
+                try {
+                    return expressionEngineClass.newInstance();
+                } catch (InstantiationException | IllegalAccessException e) {
+                    throw new SmooksConfigException("The ExpressionEngine class '" + className + "' can't be instantiated. The ExpressionEngine class must have a argumentless public constructor.", e);
+                }
+            });
+        }
+
+        /**
+         * Compile an expression, confining it to the thread using it if the engine's expressions are not thread safe.
+         *
+         * @param expressionEngine The expression engine.
+         * @param expression       The expression string.
+         * @param toType           The type the expression value is converted to. <code>null</code> if not converted.
+         * @param beanIdStore      The bean id store, or <code>null</code>.
+         * @param variableNames    The names of the variables the caller supplies on evaluation.
+         * @return The thread-safe compiled expression.
+         */
+        public static Expression compile(ExpressionEngine expressionEngine, String expression, Class<?> toType, BeanIdStore beanIdStore, String... variableNames) {
+            Expression compiledExpression = expressionEngine.compile(expression, toType, beanIdStore, variableNames);
+            if (expressionEngine.isThreadSafe()) {
+                return compiledExpression;
+            } else {
+                return new ThreadLocalExpression(compiledExpression, () -> expressionEngine.compile(expression, toType, beanIdStore, variableNames));
+            }
+        }
+
+        public static Map<String, Class<? extends ExpressionEngine>> getAliasToClassMap() {
+            loadAliasToClassMap();
+
+            return Collections.unmodifiableMap(aliasToClassMap);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Class<? extends ExpressionEngine> getExpressionEngineClass(String alias) {
+            loadAliasToClassMap();
+
+            Class<? extends ExpressionEngine> expressionEngineClass = aliasToClassMap.get(alias);
+            if (expressionEngineClass == null) {
+                // Maybe the alias is a class name...
+                try {
+                    expressionEngineClass = (Class<? extends ExpressionEngine>) ClassUtils.forName(alias, ExpressionEngine.class);
+                } catch (ClassNotFoundException e) {
+                    throw new SmooksConfigException("The ExpressionEngine alias '" + alias + "' can't be found and doesn't seem to be a classname.", e);
+                }
+                if (!ExpressionEngine.class.isAssignableFrom(expressionEngineClass)) {
+                    throw new SmooksConfigException("Class '" + alias + "' is not an instance of " + ExpressionEngine.class.getName());
+                }
+            }
+
+            return expressionEngineClass;
+        }
+
+        private static void loadAliasToClassMap() {
+            if (aliasToClassMap == null) {
+                synchronized (ExpressionEngineFactory.class) {
+                    if (aliasToClassMap == null) {
+                        List<Class<ExpressionEngine>> expressionEngines = ClassUtils.getClasses("META-INF/smooks-javabean-expression-engines.inf", ExpressionEngine.class);
+
+                        Set<String> toRemove = new HashSet<>();
+                        Map<String, Class<? extends ExpressionEngine>> newAliasToClassMap = new HashMap<>();
+                        for (Class<? extends ExpressionEngine> expressionEngine : expressionEngines) {
+                            Alias alias = expressionEngine.getAnnotation(Alias.class);
+                            if (alias != null) {
+                                for (String name : alias.value()) {
+                                    Class<? extends ExpressionEngine> prevClass = newAliasToClassMap.put(name, expressionEngine);
+                                    if (prevClass != null && prevClass != expressionEngine) {
+                                        LOGGER.warn("More than one ExpressionEngine has the alias '" + name + "' on the classpath. Previous: '" + prevClass.getName() + "'. Current '" + expressionEngine.getName() + "'. To use one of these engines you will have to declare the complete class name as alias.");
+                                        toRemove.add(name);
+                                    }
+                                }
+                            }
+                        }
+                        for (String name : toRemove) {
+                            newAliasToClassMap.remove(name);
+                        }
+                        // The default engine can't be shadowed...
+                        newAliasToClassMap.put(DEFAULT_ALIAS, MVELExpressionEngine.class);
+
+                        aliasToClassMap = newAliasToClassMap;
+                    }
+                }
+            }
+        }
+    }
+}
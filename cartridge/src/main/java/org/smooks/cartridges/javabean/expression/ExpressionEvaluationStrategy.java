@@ -0,0 +1,136 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.expression;
+
+import org.mvel2.optimizers.AccessorOptimizer;
+import org.mvel2.optimizers.OptimizerFactory;
+import org.smooks.api.SmooksConfigException;
+
+import java.util.Arrays;
+
+/**
+ * Binding expression evaluation strategy.
+ * <p/>
+ * Selects how the <code>&lt;jb:expression&gt;</code> bindings are evaluated.  The strategy is configured
+ * through the {@link #GLOBAL_PARAM} global parameter e.g.:
+ * <pre>
+ * &lt;params&gt;
+ *     &lt;param name="org.smooks.cartridges.javabean.expression.evaluation.strategy"&gt;COMPILED_ASM&lt;/param&gt;
+ * &lt;/params&gt;
+ * </pre>
+ * The compiled strategies evaluate the expression against a {@link FrameExpression} variable frame.  Expressions
+ * that cannot be evaluated against a frame (e.g. expressions declaring variables) are evaluated against the bean
+ * map, as with {@link #BEAN_MAP}.
+ */
+public enum ExpressionEvaluationStrategy {
+
+    /**
+     * Evaluate the expression against the bean map of the execution context, with a new variable map per evaluation.
+     */
+    BEAN_MAP(null),
+
+    /**
+     * Evaluate the expression against a reusable variable frame, optimized with MVEL's default optimizer.
+     */
+    COMPILED(null),
+
+    /**
+     * Evaluate the expression against a reusable variable frame, optimized with MVEL's ASM (bytecode) optimizer.
+     */
+    COMPILED_ASM("ASM"),
+
+    /**
+     * Evaluate the expression against a reusable variable frame, optimized with MVEL's reflective optimizer.
+     */
+    COMPILED_REFLECTIVE(OptimizerFactory.SAFE_REFLECTIVE);
+
+    /**
+     * Global parameter name for configuring the expression evaluation strategy.
+     */
+    public static final String GLOBAL_PARAM = "org.smooks.cartridges.javabean.expression.evaluation.strategy";
+
+    private final String optimizer;
+
+    ExpressionEvaluationStrategy(String optimizer) {
+        this.optimizer = optimizer;
+    }
+
+    /**
+     * Get the strategy configured by a parameter.
+     *
+     * @param parameterName The name of the parameter configuring the strategy.
+     * @param value         The parameter value.
+     * @return The strategy.
+     * @throws SmooksConfigException The parameter value is not a strategy name.
+     */
+    public static ExpressionEvaluationStrategy fromParameter(String parameterName, String value) throws SmooksConfigException {
+        try {
+            return valueOf(value.trim());
+        } catch (IllegalArgumentException e) {
+            throw new SmooksConfigException("Invalid '" + parameterName + "' parameter value '" + value + "'.  Must be one of " + Arrays.toString(values()) + ".", e);
+        }
+    }
+
+    /**
+     * Is the expression evaluated against a variable frame?
+     *
+     * @return <code>true</code> if the expression is evaluated against a {@link FrameExpression} variable frame,
+     * otherwise <code>false</code>.
+     */
+    public boolean isCompiled() {
+        return this != BEAN_MAP;
+    }
+
+    /**
+     * Get the MVEL accessor optimizer explicitly selected by this strategy.
+     *
+     * @return The optimizer class, or <code>null</code> if MVEL's default optimizer is used.
+     */
+    public Class<? extends AccessorOptimizer> getAccessorOptimizer() {
+        if (optimizer == null) {
+            return null;
+        }
+
+        return OptimizerFactory.getAccessorCompiler(optimizer).getClass();
+    }
+}
@@ -0,0 +1,234 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.expression;
+
+import org.mvel2.MVEL;
+import org.mvel2.ParserContext;
+import org.mvel2.integration.impl.IndexedVariableResolverFactory;
+import org.mvel2.optimizers.AccessorOptimizer;
+import org.mvel2.optimizers.OptimizerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * MVEL expression evaluated against a fixed variable frame.
+ * <p/>
+ * Every variable referenced by the expression is resolved to a frame slot when the expression is compiled.  The
+ * leading slots hold the variables supplied by the caller (see {@link #compile(String, Class, ExpressionEvaluationStrategy, String...)}),
+ * followed by the slots of the other variables referenced by the expression, typically bean ids.  Evaluating the
+ * expression then needs no variable maps: the caller fills the slots of a {@link Frame} and executes it.  Each
+ * thread reuses its own frame.
+ * <p/>
+ * Instances are thread safe.
+ */
+public class FrameExpression {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FrameExpression.class);
+
+    private final String expression;
+    private final Serializable compiledExpression;
+    private final Class<?> toType;
+    private final Class<? extends AccessorOptimizer> accessorOptimizer;
+    private final String[] slotNames;
+    private final int variableCount;
+    private final ThreadLocal<Frame> frames = ThreadLocal.withInitial(Frame::new);
+
+    protected FrameExpression(String expression, Class<?> toType, ExpressionEvaluationStrategy strategy, String[] slotNames, int variableCount) {
+        this.expression = expression;
+        this.compiledExpression = MVEL.compileExpression(expression);
+        this.toType = toType;
+        this.accessorOptimizer = strategy.getAccessorOptimizer();
+        this.slotNames = slotNames;
+        this.variableCount = variableCount;
+    }
+
+    /**
+     * Compile an expression for evaluation against a variable frame.
+     *
+     * @param expression    The MVEL expression.
+     * @param toType        The type the expression value is converted to. <code>null</code> if not converted.
+     * @param strategy      The evaluation strategy.  Must be a compiled strategy.
+     * @param variableNames The names of the variables supplied by the caller.  They are assigned the leading frame
+     *                      slots, in order, whether or not the expression references them.
+     * @return The frame expression, or <code>null</code> if the expression cannot be evaluated against a frame
+     * i.e. it doesn't compile, or it declares variables of its own.
+     */
+    public static FrameExpression compile(String expression, Class<?> toType, ExpressionEvaluationStrategy strategy, String... variableNames) {
+        if (!strategy.isCompiled()) {
+            throw new IllegalArgumentException("Expression evaluation strategy '" + strategy + "' is not a compiled strategy.");
+        }
+
+        ParserContext parserContext = new ParserContext();
+        try {
+            MVEL.analysisCompile(expression, parserContext);
+        } catch (RuntimeException e) {
+            LOGGER.debug("Unable to analyse expression [{}]. Not evaluating it against a variable frame.", expression, e);
+            return null;
+        }
+
+        if (parserContext.getVariables() != null && !parserContext.getVariables().isEmpty()) {
+            // Declared variables would be created in the reused frame...
+            LOGGER.debug("Expression [{}] declares variables. Not evaluating it against a variable frame.", expression);
+            return null;
+        }
+
+        List<String> slotNames = new ArrayList<>(Arrays.asList(variableNames));
+        if (parserContext.getInputs() != null) {
+            for (String input : parserContext.getInputs().keySet()) {
+                if (!slotNames.contains(input)) {
+                    slotNames.add(input);
+                }
+            }
+        }
+
+        return new FrameExpression(expression, toType, strategy, slotNames.toArray(new String[0]), variableNames.length);
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * Get the frame slot names.
+     *
+     * @return The slot names.  The caller supplied variables first, followed by the other variables referenced
+     * by the expression.
+     */
+    public String[] getSlotNames() {
+        return slotNames.clone();
+    }
+
+    /**
+     * Get the number of caller supplied variables.
+     *
+     * @return The number of leading frame slots holding the caller supplied variables.
+     */
+    public int getVariableCount() {
+        return variableCount;
+    }
+
+    /**
+     * Get a frame for evaluating the expression.
+     * <p/>
+     * The frame must be either executed or released by the calling thread.
+     *
+     * @return The calling thread's frame, or a new frame if the thread's frame is in use.
+     */
+    public Frame getFrame() {
+        Frame frame = frames.get();
+        if (frame.inUse) {
+            // Evaluation re-entered on the same thread...
+            frame = new Frame();
+        }
+        frame.inUse = true;
+
+        return frame;
+    }
+
+    /**
+     * Variable frame of a {@link FrameExpression}.
+     */
+    public final class Frame {
+
+        private final Object[] values = new Object[slotNames.length];
+        private final IndexedVariableResolverFactory variableResolverFactory = new IndexedVariableResolverFactory(slotNames, values);
+        private boolean inUse;
+
+        private Frame() {
+        }
+
+        /**
+         * Set the value of a frame slot.
+         *
+         * @param slot  The slot index.
+         * @param value The value.
+         */
+        public void set(int slot, Object value) {
+            values[slot] = value;
+        }
+
+        /**
+         * Evaluate the expression against the frame, and release the frame.
+         *
+         * @return The expression value.
+         */
+        public Object exec() {
+            try {
+                if (accessorOptimizer != null) {
+                    OptimizerFactory.setThreadAccessorOptimizer(accessorOptimizer);
+                    try {
+                        return execExpression();
+                    } finally {
+                        OptimizerFactory.clearThreadAccessorOptimizer();
+                    }
+                } else {
+                    return execExpression();
+                }
+            } finally {
+                release();
+            }
+        }
+
+        private Object execExpression() {
+            if (toType != null) {
+                return MVEL.executeExpression(compiledExpression, null, variableResolverFactory, toType);
+            } else {
+                return MVEL.executeExpression(compiledExpression, null, variableResolverFactory);
+            }
+        }
+
+        /**
+         * Release the frame without evaluating the expression.
+         */
+        public void release() {
+            // Don't hold on to the values beyond the evaluation...
+            Arrays.fill(values, null);
+            inUse = false;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.expression;
+
+import org.smooks.api.bean.context.BeanContext;
+import org.smooks.api.bean.repository.BeanId;
+import org.smooks.engine.expression.MVELExpressionEvaluator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <a href="http://mvel.documentnode.com/">MVEL</a> {@link Expression}.
+ * <p/>
+ * Evaluated against its {@link FrameExpression} variable frame if it has one, otherwise against a variable map
+ * (see {@link ExpressionEvaluationStrategy}).
+ */
+public class MVELExpression implements Expression {
+
+    private final MVELExpressionEvaluator expressionEvaluator;
+    private final FrameExpression frameExpression;
+    private final String[] variableNames;
+    // The beans in the frame slots following the variables. Null (or a null entry) if resolved by name...
+    private final BeanId[] beanIds;
+    private final String[] slotNames;
+
+    public MVELExpression(MVELExpressionEvaluator expressionEvaluator, String... variableNames) {
+        this(expressionEvaluator, null, null, variableNames);
+    }
+
+    public MVELExpression(MVELExpressionEvaluator expressionEvaluator, FrameExpression frameExpression, BeanId[] beanIds, String... variableNames) {
+        this.expressionEvaluator = expressionEvaluator;
+        this.frameExpression = frameExpression;
+        this.beanIds = beanIds;
+        this.slotNames = (frameExpression != null ? frameExpression.getSlotNames() : null);
+        this.variableNames = variableNames;
+    }
+
+    @Override
+    public String getExpression() {
+        return expressionEvaluator.getExpression();
+    }
+
+    public MVELExpressionEvaluator getExpressionEvaluator() {
+        return expressionEvaluator;
+    }
+
+    public FrameExpression getFrameExpression() {
+        return frameExpression;
+    }
+
+    @Override
+    public Object evaluate(Object contextObject, BeanContext beanContext, Object... variables) {
+        if (contextObject == null && frameExpression != null) {
+            FrameExpression.Frame frame = frameExpression.getFrame();
+            if (bindFrame(frame, beanContext, variables)) {
+                return frame.exec();
+            }
+        }
+
+        return evaluateOnMap(contextObject, beanContext, variables);
+    }
+
+    /**
+     * Fill the frame slots.
+     *
+     * @return <code>true</code> if the frame is bound, otherwise <code>false</code> i.e. a name referenced by the
+     * expression is not a bean in the bean context (e.g. it's a class name), in which case the frame is released.
+     */
+    private boolean bindFrame(FrameExpression.Frame frame, BeanContext beanContext, Object[] variables) {
+        int variableCount = frameExpression.getVariableCount();
+        for (int i = 0; i < variableCount; i++) {
+            frame.set(i, variables[i]);
+        }
+
+        for (int i = variableCount; i < slotNames.length; i++) {
+            Object bean = null;
+            if (beanContext != null) {
+                BeanId beanId = (beanIds != null ? beanIds[i] : null);
+                bean = (beanId != null ? beanContext.getBean(beanId) : beanContext.getBean(slotNames[i]));
+            }
+            if (bean == null) {
+                frame.release();
+                return false;
+            }
+            frame.set(i, bean);
+        }
+
+        return true;
+    }
+
+    private Object evaluateOnMap(Object contextObject, BeanContext beanContext, Object[] variables) {
+        if (variableNames.length == 0) {
+            if (contextObject != null) {
+                return expressionEvaluator.exec(contextObject);
+            } else if (beanContext != null) {
+                return expressionEvaluator.exec(beanContext.getBeanMap());
+            }
+        }
+
+        Map<String, Object> variableMap = new HashMap<>();
+        for (int i = 0; i < variableNames.length; i++) {
+            variableMap.put(variableNames[i], variables[i]);
+        }
+
+        if (contextObject != null) {
+            return expressionEvaluator.exec(contextObject, variableMap);
+        } else if (beanContext != null) {
+            return expressionEvaluator.exec(beanContext.getBeanMap(), variableMap);
+        } else {
+            return expressionEvaluator.exec(variableMap);
+        }
+    }
+}
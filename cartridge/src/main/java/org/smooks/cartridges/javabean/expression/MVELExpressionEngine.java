@@ -0,0 +1,99 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.expression;
+
+import org.smooks.api.bean.context.BeanIdStore;
+import org.smooks.api.bean.repository.BeanId;
+import org.smooks.cartridges.javabean.factory.Alias;
+import org.smooks.engine.expression.MVELExpressionEvaluator;
+
+/**
+ * <a href="http://mvel.documentnode.com/">MVEL</a> {@link ExpressionEngine}.  The default engine.
+ * <p/>
+ * Expressions are evaluated according to the engine's {@link ExpressionEvaluationStrategy}.
+ */
+@Alias("mvel")
+public class MVELExpressionEngine implements ExpressionEngine {
+
+    private final ExpressionEvaluationStrategy strategy;
+
+    public MVELExpressionEngine() {
+        this(ExpressionEvaluationStrategy.COMPILED);
+    }
+
+    public MVELExpressionEngine(ExpressionEvaluationStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public ExpressionEvaluationStrategy getStrategy() {
+        return strategy;
+    }
+
+    @Override
+    public Expression compile(String expression, Class<?> toType, BeanIdStore beanIdStore, String... variableNames) {
+        MVELExpressionEvaluator expressionEvaluator = new MVELExpressionEvaluator();
+        expressionEvaluator.setExpression(expression);
+        if (toType != null) {
+            expressionEvaluator.setToType(toType);
+        }
+
+        FrameExpression frameExpression = (strategy.isCompiled() ? FrameExpression.compile(expression, toType, strategy, variableNames) : null);
+        BeanId[] beanIds = null;
+        if (frameExpression != null && beanIdStore != null) {
+            // The other names referenced by the expression may be bean ids.  Only the registered bean ids are
+            // bound, the other names (locals, class names, beans registered later etc...) are looked up by name...
+            String[] slotNames = frameExpression.getSlotNames();
+            beanIds = new BeanId[slotNames.length];
+            for (int i = frameExpression.getVariableCount(); i < slotNames.length; i++) {
+                beanIds[i] = beanIdStore.getBeanId(slotNames[i]);
+            }
+        }
+
+        return new MVELExpression(expressionEvaluator, frameExpression, beanIds, variableNames);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+}
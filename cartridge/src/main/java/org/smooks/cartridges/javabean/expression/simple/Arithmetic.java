@@ -0,0 +1,239 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.expression.simple;
+
+import org.smooks.api.expression.ExpressionEvaluationException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Arithmetic and type coercion of the {@link SimpleExpressionEngine} expressions.
+ * <p/>
+ * Operands are promoted as in Java, except that {@link BigDecimal} and {@link BigInteger} operands, and
+ * {@link String} operands (which are parsed as decimal numbers), make it a {@link BigDecimal} operation.
+ */
+final class Arithmetic {
+
+    private static final Map<Class<?>, Class<?>> PRIMITIVE_WRAPPERS = new HashMap<>();
+
+    static {
+        PRIMITIVE_WRAPPERS.put(int.class, Integer.class);
+        PRIMITIVE_WRAPPERS.put(long.class, Long.class);
+        PRIMITIVE_WRAPPERS.put(double.class, Double.class);
+        PRIMITIVE_WRAPPERS.put(float.class, Float.class);
+        PRIMITIVE_WRAPPERS.put(short.class, Short.class);
+        PRIMITIVE_WRAPPERS.put(byte.class, Byte.class);
+        PRIMITIVE_WRAPPERS.put(boolean.class, Boolean.class);
+        PRIMITIVE_WRAPPERS.put(char.class, Character.class);
+    }
+
+    private Arithmetic() {
+    }
+
+    static Object apply(char operator, Object left, Object right) {
+        Number leftNumber = toNumber(left);
+        Number rightNumber = toNumber(right);
+
+        if (isDecimal(leftNumber) || isDecimal(rightNumber)) {
+            BigDecimal leftDecimal = toBigDecimal(leftNumber);
+            BigDecimal rightDecimal = toBigDecimal(rightNumber);
+            switch (operator) {
+                case '+':
+                    return leftDecimal.add(rightDecimal);
+                case '-':
+                    return leftDecimal.subtract(rightDecimal);
+                case '*':
+                    return leftDecimal.multiply(rightDecimal);
+                case '/':
+                    return leftDecimal.divide(rightDecimal, MathContext.DECIMAL128);
+                default:
+                    return leftDecimal.remainder(rightDecimal);
+            }
+        } else if (isFloating(leftNumber) || isFloating(rightNumber)) {
+            double leftDouble = leftNumber.doubleValue();
+            double rightDouble = rightNumber.doubleValue();
+            switch (operator) {
+                case '+':
+                    return leftDouble + rightDouble;
+                case '-':
+                    return leftDouble - rightDouble;
+                case '*':
+                    return leftDouble * rightDouble;
+                case '/':
+                    return leftDouble / rightDouble;
+                default:
+                    return leftDouble % rightDouble;
+            }
+        } else if (leftNumber instanceof Long || rightNumber instanceof Long) {
+            long leftLong = leftNumber.longValue();
+            long rightLong = rightNumber.longValue();
+            switch (operator) {
+                case '+':
+                    return leftLong + rightLong;
+                case '-':
+                    return leftLong - rightLong;
+                case '*':
+                    return leftLong * rightLong;
+                case '/':
+                    return leftLong / rightLong;
+                default:
+                    return leftLong % rightLong;
+            }
+        } else {
+            int leftInt = leftNumber.intValue();
+            int rightInt = rightNumber.intValue();
+            switch (operator) {
+                case '+':
+                    return leftInt + rightInt;
+                case '-':
+                    return leftInt - rightInt;
+                case '*':
+                    return leftInt * rightInt;
+                case '/':
+                    return leftInt / rightInt;
+                default:
+                    return leftInt % rightInt;
+            }
+        }
+    }
+
+    static Object negate(Object value) {
+        Number number = toNumber(value);
+
+        if (isDecimal(number)) {
+            return toBigDecimal(number).negate();
+        } else if (isFloating(number)) {
+            return -number.doubleValue();
+        } else if (number instanceof Long) {
+            return -number.longValue();
+        } else {
+            return -number.intValue();
+        }
+    }
+
+    static Number toNumber(Object value) {
+        if (value instanceof Number) {
+            return (Number) value;
+        } else if (value instanceof String) {
+            try {
+                return new BigDecimal(((String) value).trim());
+            } catch (NumberFormatException e) {
+                throw new ExpressionEvaluationException("Operand '" + value + "' is not a number.", e);
+            }
+        } else if (value == null) {
+            throw new ExpressionEvaluationException("Operand is null.");
+        } else {
+            throw new ExpressionEvaluationException("Operand '" + value + "' (" + value.getClass().getName() + ") is not a number.");
+        }
+    }
+
+    /**
+     * Convert a value to the supplied type, if it is a number, a string or a boolean conversion.  Other values
+     * are returned as they are.
+     */
+    static Object convert(Object value, Class<?> type) {
+        if (value == null || type == null) {
+            return value;
+        }
+
+        Class<?> wrapperType = PRIMITIVE_WRAPPERS.getOrDefault(type, type);
+        if (wrapperType.isInstance(value)) {
+            return value;
+        } else if (wrapperType == String.class) {
+            return value.toString();
+        } else if (wrapperType == Boolean.class && value instanceof String) {
+            return Boolean.valueOf(((String) value).trim());
+        } else if (!(value instanceof Number || value instanceof String) || !(Number.class.isAssignableFrom(wrapperType))) {
+            return value;
+        }
+
+        Number number = toNumber(value);
+        if (wrapperType == Integer.class) {
+            return number.intValue();
+        } else if (wrapperType == Long.class) {
+            return number.longValue();
+        } else if (wrapperType == Double.class) {
+            return number.doubleValue();
+        } else if (wrapperType == Float.class) {
+            return number.floatValue();
+        } else if (wrapperType == Short.class) {
+            return number.shortValue();
+        } else if (wrapperType == Byte.class) {
+            return number.byteValue();
+        } else if (wrapperType == BigDecimal.class) {
+            return toBigDecimal(number);
+        } else if (wrapperType == BigInteger.class) {
+            return toBigDecimal(number).toBigInteger();
+        } else {
+            return value;
+        }
+    }
+
+    static boolean isInstance(Class<?> type, Object value) {
+        return PRIMITIVE_WRAPPERS.getOrDefault(type, type).isInstance(value);
+    }
+
+    private static boolean isDecimal(Number number) {
+        return number instanceof BigDecimal || number instanceof BigInteger;
+    }
+
+    private static boolean isFloating(Number number) {
+        return number instanceof Double || number instanceof Float;
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        } else if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        } else if (isFloating(number)) {
+            return BigDecimal.valueOf(number.doubleValue());
+        } else {
+            return BigDecimal.valueOf(number.longValue());
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.expression.simple;
+
+import org.smooks.api.expression.ExpressionEvaluationException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Property of a {@link SimpleExpressionEngine} property path.
+ * <p/>
+ * Reads and writes {@link Map} entries and bean properties.  The accessor methods are resolved on first access and
+ * cached for the class of the last accessed bean.
+ */
+final class PropertyAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final String name;
+    private final String capitalizedName;
+    private volatile Getter getter;
+    private volatile Setters setters;
+
+    PropertyAccessor(String name) {
+        this.name = name;
+        this.capitalizedName = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    Object get(Object target) {
+        if (target == null) {
+            return null;
+        } else if (target instanceof Map) {
+            return ((Map<?, ?>) target).get(name);
+        }
+
+        Getter getter = this.getter;
+        if (getter == null || getter.type != target.getClass()) {
+            getter = new Getter(target.getClass(), resolveGetterMethod(target.getClass()));
+            this.getter = getter;
+        }
+
+        try {
+            return getter.methodHandle.invokeExact(target);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new ExpressionEvaluationException("Failed to get property '" + name + "' of " + target.getClass().getName() + ".", t);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    void set(Object target, Object value) {
+        if (target == null) {
+            throw new ExpressionEvaluationException("Cannot set property '" + name + "' on a null object.");
+        } else if (target instanceof Map) {
+            ((Map<Object, Object>) target).put(name, value);
+            return;
+        }
+
+        Setters setters = this.setters;
+        if (setters == null || setters.type != target.getClass()) {
+            setters = new Setters(target.getClass(), resolveSetterMethods(target.getClass()));
+            this.setters = setters;
+        }
+
+        Method setterMethod = null;
+        for (Method method : setters.methods) {
+            if (value == null ? !method.getParameterTypes()[0].isPrimitive() : Arithmetic.isInstance(method.getParameterTypes()[0], value)) {
+                setterMethod = method;
+                break;
+            }
+        }
+        if (setterMethod == null) {
+            // Convert the value to the type of the first setter...
+            setterMethod = setters.methods[0];
+            value = Arithmetic.convert(value, setterMethod.getParameterTypes()[0]);
+        }
+
+        try {
+            setterMethod.invoke(target, value);
+        } catch (IllegalAccessException | IllegalArgumentException e) {
+            throw new ExpressionEvaluationException("Failed to set property '" + name + "' of " + target.getClass().getName() + ".", e);
+        } catch (InvocationTargetException e) {
+            throw new ExpressionEvaluationException("Failed to set property '" + name + "' of " + target.getClass().getName() + ".", e.getTargetException());
+        }
+    }
+
+    private MethodHandle resolveGetterMethod(Class<?> type) {
+        for (String methodName : new String[]{"get" + capitalizedName, "is" + capitalizedName, name}) {
+            try {
+                Method method = type.getMethod(methodName);
+                if (method.getReturnType() != void.class && !Modifier.isStatic(method.getModifiers())) {
+                    return toMethodHandle(method);
+                }
+            } catch (NoSuchMethodException e) {
+                // Try the next...
+            }
+        }
+
+        throw new ExpressionEvaluationException("No property '" + name + "' getter on " + type.getName() + ".");
+    }
+
+    private static MethodHandle toMethodHandle(Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            // e.g. public method of a non-public class...
+            method.setAccessible(true);
+            try {
+                return MethodHandles.lookup().unreflect(method).asType(GETTER_TYPE);
+            } catch (IllegalAccessException ex) {
+                throw new ExpressionEvaluationException("Cannot access property getter " + method + ".", ex);
+            }
+        }
+    }
+
+    private Method[] resolveSetterMethods(Class<?> type) {
+        List<Method> setterMethods = new ArrayList<>();
+        for (Method method : type.getMethods()) {
+            if (method.getName().equals("set" + capitalizedName) && method.getParameterCount() == 1 && !Modifier.isStatic(method.getModifiers())) {
+                setterMethods.add(method);
+            }
+        }
+        if (setterMethods.isEmpty()) {
+            throw new ExpressionEvaluationException("No property '" + name + "' setter on " + type.getName() + ".");
+        }
+
+        return setterMethods.toArray(new Method[0]);
+    }
+
+    private static final class Getter {
+        private final Class<?> type;
+        private final MethodHandle methodHandle;
+
+        private Getter(Class<?> type, MethodHandle methodHandle) {
+            this.type = type;
+            this.methodHandle = methodHandle;
+        }
+    }
+
+    private static final class Setters {
+        private final Class<?> type;
+        private final Method[] methods;
+
+        private Setters(Class<?> type, Method[] methods) {
+            this.type = type;
+            this.methods = methods;
+        }
+    }
+}
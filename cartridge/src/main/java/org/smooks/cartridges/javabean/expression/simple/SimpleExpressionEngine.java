@@ -0,0 +1,74 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.expression.simple;
+
+import org.smooks.api.bean.context.BeanIdStore;
+import org.smooks.cartridges.javabean.expression.Expression;
+import org.smooks.cartridges.javabean.expression.ExpressionEngine;
+import org.smooks.cartridges.javabean.factory.Alias;
+
+/**
+ * Built-in arithmetic and property path {@link ExpressionEngine}.
+ * <p/>
+ * Supports numeric, string and boolean literals, property paths (e.g. <code>order.header.total</code>) on beans
+ * and {@link java.util.Map}s, the <code>+ - * / %</code> operators with parentheses, and property path
+ * assignments (e.g. <code>this.total = 0</code>), with statements separated by <code>;</code>.  Decimal literals
+ * are {@link java.math.BigDecimal}s, and {@link String} operands (e.g. <code>_VALUE</code>) are parsed as
+ * {@link java.math.BigDecimal}s.
+ * <p/>
+ * Expressions are compiled to lambdas, so evaluating e.g. an <code>order.total + _VALUE</code> accumulator is a
+ * couple of getter calls and an addition.
+ */
+@Alias("simple")
+public class SimpleExpressionEngine implements ExpressionEngine {
+
+    @Override
+    public Expression compile(String expression, Class<?> toType, BeanIdStore beanIdStore, String... variableNames) {
+        return new SimpleExpression(expression, new SimpleExpressionParser(expression, variableNames, beanIdStore).parse(), toType);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+}
@@ -0,0 +1,360 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.expression.simple;
+
+import org.smooks.api.SmooksConfigException;
+import org.smooks.api.bean.context.BeanIdStore;
+import org.smooks.api.bean.repository.BeanId;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compiles a {@link SimpleExpressionEngine} expression into a tree of {@link Operand} lambdas.
+ * <pre>
+ * statements := statement (';' statement)* [';']
+ * statement  := path '=' sum | sum
+ * sum        := product (('+' | '-') product)*
+ * product    := unary (('*' | '/' | '%') unary)*
+ * unary      := ('-' | '+') unary | primary
+ * primary    := number | string | 'true' | 'false' | 'null' | path | '(' sum ')'
+ * path       := identifier ('.' identifier)*
+ * </pre>
+ */
+final class SimpleExpressionParser {
+
+    private static final String THIS = "this";
+
+    private final String expression;
+    private final List<String> variableNames;
+    private final BeanIdStore beanIdStore;
+    private int position;
+
+    SimpleExpressionParser(String expression, String[] variableNames, BeanIdStore beanIdStore) {
+        this.expression = expression;
+        this.variableNames = Arrays.asList(variableNames);
+        this.beanIdStore = beanIdStore;
+    }
+
+    Operand parse() {
+        List<Operand> statements = new ArrayList<>();
+
+        skipWhitespace();
+        while (position < expression.length()) {
+            statements.add(parseStatement());
+            skipWhitespace();
+            if (position < expression.length()) {
+                expect(';');
+                skipWhitespace();
+            }
+        }
+
+        if (statements.isEmpty()) {
+            throw error("Empty expression");
+        } else if (statements.size() == 1) {
+            return statements.get(0);
+        } else {
+            Operand[] statementOperands = statements.toArray(new Operand[0]);
+            return (contextObject, beanContext, variables) -> {
+                Object value = null;
+                for (Operand statementOperand : statementOperands) {
+                    value = statementOperand.evaluate(contextObject, beanContext, variables);
+                }
+                return value;
+            };
+        }
+    }
+
+    private Operand parseStatement() {
+        int statementPosition = position;
+
+        if (Character.isJavaIdentifierStart(expression.charAt(position))) {
+            List<String> path = parsePath();
+            skipWhitespace();
+            if (path.size() > 1 && peek('=') && !peek(position + 1, '=')) {
+                position++;
+                return assignment(path, parseSum());
+            }
+        }
+
+        position = statementPosition;
+        return parseSum();
+    }
+
+    private Operand parseSum() {
+        Operand operand = parseProduct();
+
+        skipWhitespace();
+        while (peek('+') || peek('-')) {
+            char operator = expression.charAt(position++);
+            operand = binary(operator, operand, parseProduct());
+            skipWhitespace();
+        }
+
+        return operand;
+    }
+
+    private Operand parseProduct() {
+        Operand operand = parseUnary();
+
+        skipWhitespace();
+        while (peek('*') || peek('/') || peek('%')) {
+            char operator = expression.charAt(position++);
+            operand = binary(operator, operand, parseUnary());
+            skipWhitespace();
+        }
+
+        return operand;
+    }
+
+    private Operand parseUnary() {
+        skipWhitespace();
+        if (peek('-')) {
+            position++;
+            Operand operand = parseUnary();
+            if (operand instanceof Operand.Constant) {
+                return new Operand.Constant(Arithmetic.negate(((Operand.Constant) operand).getValue()));
+            }
+            return (contextObject, beanContext, variables) -> Arithmetic.negate(operand.evaluate(contextObject, beanContext, variables));
+        } else if (peek('+')) {
+            position++;
+            return parseUnary();
+        }
+
+        return parsePrimary();
+    }
+
+    private Operand parsePrimary() {
+        skipWhitespace();
+        if (position >= expression.length()) {
+            throw error("Unexpected end of expression");
+        }
+
+        char c = expression.charAt(position);
+        if (c == '(') {
+            position++;
+            Operand operand = parseSum();
+            skipWhitespace();
+            expect(')');
+            return operand;
+        } else if (Character.isDigit(c) || (c == '.' && position + 1 < expression.length() && Character.isDigit(expression.charAt(position + 1)))) {
+            return parseNumber();
+        } else if (c == '\'' || c == '"') {
+            return parseString(c);
+        } else if (Character.isJavaIdentifierStart(c)) {
+            List<String> path = parsePath();
+            if (path.size() == 1) {
+                switch (path.get(0)) {
+                    case "true":
+                        return new Operand.Constant(Boolean.TRUE);
+                    case "false":
+                        return new Operand.Constant(Boolean.FALSE);
+                    case "null":
+                        return new Operand.Constant(null);
+                    default:
+                        break;
+                }
+            }
+            return pathValue(path);
+        }
+
+        throw error("Unexpected character '" + c + "'");
+    }
+
+    private Operand parseNumber() {
+        int start = position;
+        boolean decimal = false;
+
+        while (position < expression.length() && (Character.isDigit(expression.charAt(position)) || expression.charAt(position) == '.')) {
+            decimal |= expression.charAt(position) == '.';
+            position++;
+        }
+        String number = expression.substring(start, position);
+
+        if (peek('L') || peek('l')) {
+            position++;
+            return new Operand.Constant(Long.valueOf(number));
+        } else if (peek('D') || peek('d')) {
+            position++;
+            return new Operand.Constant(Double.valueOf(number));
+        }
+
+        try {
+            if (decimal) {
+                return new Operand.Constant(new BigDecimal(number));
+            }
+            long value = Long.parseLong(number);
+            return new Operand.Constant(value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? (Object) (int) value : (Object) value);
+        } catch (NumberFormatException e) {
+            throw error("Invalid number '" + number + "'");
+        }
+    }
+
+    private Operand parseString(char quote) {
+        StringBuilder string = new StringBuilder();
+
+        position++;
+        while (position < expression.length() && expression.charAt(position) != quote) {
+            char c = expression.charAt(position++);
+            if (c == '\\' && position < expression.length()) {
+                c = expression.charAt(position++);
+            }
+            string.append(c);
+        }
+        expect(quote);
+
+        return new Operand.Constant(string.toString());
+    }
+
+    private List<String> parsePath() {
+        List<String> path = new ArrayList<>();
+
+        path.add(parseIdentifier());
+        while (peek('.')) {
+            position++;
+            path.add(parseIdentifier());
+        }
+
+        return path;
+    }
+
+    private String parseIdentifier() {
+        int start = position;
+
+        if (position >= expression.length() || !Character.isJavaIdentifierStart(expression.charAt(position))) {
+            throw error("Identifier expected");
+        }
+        position++;
+        while (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position))) {
+            position++;
+        }
+
+        return expression.substring(start, position);
+    }
+
+    private Operand binary(char operator, Operand left, Operand right) {
+        if (left instanceof Operand.Constant && right instanceof Operand.Constant) {
+            return new Operand.Constant(Arithmetic.apply(operator, ((Operand.Constant) left).getValue(), ((Operand.Constant) right).getValue()));
+        }
+
+        return (contextObject, beanContext, variables) -> Arithmetic.apply(operator, left.evaluate(contextObject, beanContext, variables), right.evaluate(contextObject, beanContext, variables));
+    }
+
+    private Operand pathValue(List<String> path) {
+        Operand root = root(path.get(0));
+        if (path.size() == 1) {
+            return root;
+        }
+
+        PropertyAccessor[] propertyAccessors = propertyAccessors(path.subList(1, path.size()));
+        return (contextObject, beanContext, variables) -> {
+            Object value = root.evaluate(contextObject, beanContext, variables);
+            for (PropertyAccessor propertyAccessor : propertyAccessors) {
+                value = propertyAccessor.get(value);
+            }
+            return value;
+        };
+    }
+
+    private Operand assignment(List<String> path, Operand valueOperand) {
+        Operand target = pathValue(path.subList(0, path.size() - 1));
+        PropertyAccessor propertyAccessor = new PropertyAccessor(path.get(path.size() - 1));
+
+        return (contextObject, beanContext, variables) -> {
+            Object value = valueOperand.evaluate(contextObject, beanContext, variables);
+            propertyAccessor.set(target.evaluate(contextObject, beanContext, variables), value);
+            return value;
+        };
+    }
+
+    private Operand root(String name) {
+        int variableIndex = variableNames.indexOf(name);
+
+        if (variableIndex != -1) {
+            return (contextObject, beanContext, variables) -> variables[variableIndex];
+        } else if (name.equals(THIS)) {
+            return (contextObject, beanContext, variables) -> contextObject;
+        } else if (beanIdStore != null && beanIdStore.getBeanId(name) != null) {
+            BeanId beanId = beanIdStore.getBeanId(name);
+            return (contextObject, beanContext, variables) -> (beanContext != null ? beanContext.getBean(beanId) : null);
+        } else {
+            // Not a registered bean id (yet), looked up by name...
+            return (contextObject, beanContext, variables) -> (beanContext != null ? beanContext.getBean(name) : null);
+        }
+    }
+
+    private static PropertyAccessor[] propertyAccessors(List<String> names) {
+        PropertyAccessor[] propertyAccessors = new PropertyAccessor[names.size()];
+        for (int i = 0; i < propertyAccessors.length; i++) {
+            propertyAccessors[i] = new PropertyAccessor(names.get(i));
+        }
+        return propertyAccessors;
+    }
+
+    private boolean peek(char c) {
+        return peek(position, c);
+    }
+
+    private boolean peek(int index, char c) {
+        return index < expression.length() && expression.charAt(index) == c;
+    }
+
+    private void expect(char c) {
+        if (!peek(c)) {
+            throw error("'" + c + "' expected");
+        }
+        position++;
+    }
+
+    private void skipWhitespace() {
+        while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+            position++;
+        }
+    }
+
+    private SmooksConfigException error(String message) {
+        return new SmooksConfigException(message + " at position " + position + " of expression '" + expression + "'.");
+    }
+}
@@ -45,7 +45,7 @@ package org.smooks.cartridges.javabean.factory;
 import java.lang.annotation.*;
 
 /**
- * The alias name of a FactoryDefinitionParser
+ * The alias name of a FactoryDefinitionParser or an ExpressionEngine
  *
  * @author <a href="mailto:maurice.zeijen@smies.com">maurice.zeijen@smies.com</a>
  */
@@ -43,16 +43,20 @@
 package org.smooks.cartridges.javabean.factory;
 
 import org.smooks.api.ExecutionContext;
-import org.smooks.cartridges.javabean.BeanMapExpressionEvaluator;
+import org.smooks.cartridges.javabean.expression.Expression;
+import org.smooks.cartridges.javabean.expression.ExpressionEngine.ExpressionEngineFactory;
+import org.smooks.cartridges.javabean.expression.MVELExpressionEngine;
 
 /**
  * The MVELFactory uses MVEL to create the objects using a MVEL expression.
+ * <p>
+ * The expression is evaluated through the {@link MVELExpressionEngine}, against the beans of the execution context.
  *
  * @author <a href="mailto:maurice.zeijen@smies.com">maurice.zeijen@smies.com</a>
  */
 public class MVELFactory<T> implements Factory<T> {
 
-    protected BeanMapExpressionEvaluator expressionEvaluator;
+    protected Expression expression;
 
     /**
      *
@@ -61,7 +65,7 @@ public class MVELFactory<T> implements Factory<T> {
     }
 
     public MVELFactory(String expression) {
-        expressionEvaluator = new BeanMapExpressionEvaluator(expression);
+        this.expression = ExpressionEngineFactory.compile(new MVELExpressionEngine(), expression, null, null);
     }
 
     /* (non-Javadoc)
@@ -70,7 +74,7 @@ public class MVELFactory<T> implements Factory<T> {
 
     public T create(ExecutionContext executionContext) {
         @SuppressWarnings("unchecked")
-        T result = (T) expressionEvaluator.getValue(executionContext);
+        T result = (T) expression.evaluate(null, executionContext.getBeanContext());
 
         return result;
     }
@@ -80,7 +84,7 @@ public class MVELFactory<T> implements Factory<T> {
      */
     @Override
     public String toString() {
-        return String.format("%s[expressionEvaluator=%s]", this, expressionEvaluator);
+        return String.format("%s[expression=%s]", getClass().getSimpleName(), expression.getExpression());
     }
 
 }
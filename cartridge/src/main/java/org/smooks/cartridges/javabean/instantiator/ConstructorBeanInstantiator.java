@@ -0,0 +1,143 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.instantiator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.smooks.api.ExecutionContext;
+import org.smooks.api.SmooksException;
+import org.smooks.cartridges.javabean.BeanUtils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.Supplier;
+
+/**
+ * {@link BeanInstantiator} calling the public default constructor of the bean class.
+ * <p/>
+ * The constructor is bound once, when the instantiator is created, to a {@link Supplier} generated
+ * by the {@link LambdaMetafactory}.  If that's not possible (e.g. the bean class is not visible from
+ * the cartridge class loader), it falls back to a {@link MethodHandle} and then to the reflective
+ * {@link Constructor}.
+ *
+ * @param <T> The bean type.
+ */
+public class ConstructorBeanInstantiator<T> implements BeanInstantiator<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConstructorBeanInstantiator.class);
+
+    private static final MethodType SUPPLIER_TYPE = MethodType.methodType(Supplier.class);
+    private static final MethodType GET_TYPE = MethodType.methodType(Object.class);
+
+    private final Class<T> beanClass;
+    private final Supplier<T> supplier;
+
+    public ConstructorBeanInstantiator(Class<T> beanClass) {
+        this.beanClass = beanClass;
+        this.supplier = createSupplier(beanClass);
+    }
+
+    public Class<T> getBeanClass() {
+        return beanClass;
+    }
+
+    @Override
+    public T newInstance(ExecutionContext executionContext) {
+        return supplier.get();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + beanClass.getName() + "]";
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> createSupplier(Class<T> beanClass) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle constructorHandle;
+
+        try {
+            constructorHandle = lookup.findConstructor(beanClass, MethodType.methodType(void.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            LOGGER.debug("Unable to create constructor MethodHandle for [{}]. Falling back to reflection.", beanClass.getName(), e);
+            return createReflectiveSupplier(beanClass);
+        }
+
+        if (BeanUtils.isVisibleFrom(beanClass, ConstructorBeanInstantiator.class.getClassLoader())) {
+            try {
+                CallSite callSite = LambdaMetafactory.metafactory(lookup, "get", SUPPLIER_TYPE, GET_TYPE, constructorHandle, MethodType.methodType(beanClass));
+                return (Supplier<T>) callSite.getTarget().invokeExact();
+            } catch (Throwable t) {
+                LOGGER.debug("Unable to create constructor Supplier for [{}]. Falling back to MethodHandle.", beanClass.getName(), t);
+            }
+        }
+
+        MethodHandle genericConstructorHandle = constructorHandle.asType(GET_TYPE);
+        return () -> {
+            try {
+                return (T) genericConstructorHandle.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new SmooksException("Failed to create instance of [" + beanClass.getName() + "].", t);
+            }
+        };
+    }
+
+    private static <T> Supplier<T> createReflectiveSupplier(Class<T> beanClass) {
+        return () -> {
+            try {
+                return beanClass.getConstructor().newInstance();
+            } catch (InvocationTargetException e) {
+                throw new SmooksException("Failed to create instance of [" + beanClass.getName() + "].", e.getCause());
+            } catch (ReflectiveOperationException e) {
+                throw new SmooksException("Failed to create instance of [" + beanClass.getName() + "].", e);
+            }
+        };
+    }
+}
@@ -0,0 +1,112 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.instrumentation;
+
+import org.smooks.api.ApplicationContext;
+import org.smooks.api.SmooksConfigException;
+import org.smooks.support.ClassUtils;
+
+/**
+ * Binding instrumentation.
+ * <p/>
+ * Service Provider Interface for measuring the bean creations and the bindings of a configuration.  The
+ * instrumentation is configured through the {@link #GLOBAL_PARAM} global parameter e.g.:
+ * <pre>
+ * &lt;params&gt;
+ *     &lt;param name="org.smooks.cartridges.javabean.instrumentation"&gt;org.smooks.cartridges.javabean.instrumentation.BindingMetricsRegistry&lt;/param&gt;
+ * &lt;/params&gt;
+ * </pre>
+ * An instrumentation must have a public argumentless constructor and must be thread safe.  One instance is created
+ * per application context.  Bean creators and bindings create their {@link BindingProbe} at configuration time.  No
+ * probe is created, and nothing is measured, if the global parameter is not set.
+ */
+public interface BindingInstrumentation {
+
+    /**
+     * Global parameter name for configuring the {@link BindingInstrumentation} class.
+     */
+    String GLOBAL_PARAM = "org.smooks.cartridges.javabean.instrumentation";
+
+    /**
+     * Create the probe of a bean creation or of a binding.
+     *
+     * @param beanId   The bean id.
+     * @param property The bound property (or setter method or selector) of a binding, or <code>null</code> for the
+     *                 creation of the bean.
+     * @return The probe.
+     */
+    BindingProbe createProbe(String beanId, String property);
+
+    class BindingInstrumentationFactory {
+
+        private static final String CONTEXT_KEY = BindingInstrumentation.class.getName() + "#CONTEXT_KEY";
+
+        private BindingInstrumentationFactory() {
+        }
+
+        /**
+         * Get the instrumentation of an application context, creating it on first use.
+         *
+         * @param applicationContext The application context.
+         * @param className          The {@link #GLOBAL_PARAM} global parameter value.
+         * @return The instrumentation.
+         * @throws SmooksConfigException The class name is not that of a {@link BindingInstrumentation}.
+         */
+        public static BindingInstrumentation getInstance(ApplicationContext applicationContext, String className) throws SmooksConfigException {
+            synchronized (applicationContext) {
+                BindingInstrumentation bindingInstrumentation = (BindingInstrumentation) applicationContext.getRegistry().lookup(CONTEXT_KEY);
+
+                if (bindingInstrumentation == null) {
+                    try {
+                        bindingInstrumentation = (BindingInstrumentation) ClassUtils.forName(className.trim(), BindingInstrumentationFactory.class).getConstructor().newInstance();
+                    } catch (ReflectiveOperationException | ClassCastException e) {
+                        throw new SmooksConfigException("Invalid " + GLOBAL_PARAM + " global parameter value '" + className + "'. Must be the name of a " + BindingInstrumentation.class.getName() + " implementation with a public argumentless constructor.", e);
+                    }
+                    applicationContext.getRegistry().registerObject(CONTEXT_KEY, bindingInstrumentation);
+                }
+
+                return bindingInstrumentation;
+            }
+        }
+    }
+}
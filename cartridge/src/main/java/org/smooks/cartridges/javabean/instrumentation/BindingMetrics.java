@@ -0,0 +1,134 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.instrumentation;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory metrics of a bean creation or binding, recorded by the {@link BindingMetricsRegistry}.
+ */
+public class BindingMetrics implements BindingProbe, BindingMetricsMBean {
+
+    private final String beanId;
+    private final String property;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder decodeFailureCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    public BindingMetrics(String beanId, String property) {
+        this.beanId = beanId;
+        this.property = property;
+    }
+
+    @Override
+    public void record(long nanos, long allocatedBytes) {
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+        this.allocatedBytes.add(allocatedBytes);
+    }
+
+    @Override
+    public void recordDecodeFailure() {
+        decodeFailureCount.increment();
+    }
+
+    @Override
+    public String getBeanId() {
+        return beanId;
+    }
+
+    @Override
+    public String getProperty() {
+        return property;
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public long getDecodeFailureCount() {
+        return decodeFailureCount.sum();
+    }
+
+    @Override
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    @Override
+    public long getMeanNanos() {
+        long sampleCount = count.sum();
+        return sampleCount == 0 ? 0 : totalNanos.sum() / sampleCount;
+    }
+
+    @Override
+    public long getAllocatedBytes() {
+        return allocatedBytes.sum();
+    }
+
+    @Override
+    public void reset() {
+        count.reset();
+        decodeFailureCount.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+        allocatedBytes.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[beanId=%s, property=%s, count=%d, decodeFailures=%d, totalNanos=%d, maxNanos=%d, allocatedBytes=%d]",
+                getClass().getSimpleName(), beanId, property, getCount(), getDecodeFailureCount(), getTotalNanos(), getMaxNanos(), getAllocatedBytes());
+    }
+}
@@ -0,0 +1,146 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.instrumentation;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Built-in {@link BindingInstrumentation}, recording the {@link BindingMetrics} of each bean creation and binding
+ * in memory.
+ * <p/>
+ * Each {@link BindingMetrics} is registered on the platform MBean server as
+ * <code>org.smooks.cartridges.javabean:type=BindingMetrics,context=&lt;id&gt;,beanId=&lt;beanId&gt;[,property=&lt;property&gt;]</code>,
+ * where the context id tells apart the registries of different Smooks instances.  The MBeans are unregistered when
+ * the application context is closed.
+ */
+public class BindingMetricsRegistry implements BindingInstrumentation {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BindingMetricsRegistry.class);
+
+    public static final String JMX_DOMAIN = "org.smooks.cartridges.javabean";
+
+    private final ConcurrentMap<String, BindingMetrics> bindingMetrics = new ConcurrentHashMap<>();
+    private final List<ObjectName> objectNames = Collections.synchronizedList(new ArrayList<>());
+    private final String contextId = Integer.toHexString(System.identityHashCode(this));
+
+    @Override
+    public BindingProbe createProbe(String beanId, String property) {
+        String key = (property == null ? beanId : beanId + "#" + property);
+
+        return bindingMetrics.computeIfAbsent(key, k -> {
+            BindingMetrics newBindingMetrics = new BindingMetrics(beanId, property);
+            register(newBindingMetrics);
+            return newBindingMetrics;
+        });
+    }
+
+    /**
+     * Get the metrics recorded so far.
+     *
+     * @return The metrics of the bean creations and bindings.
+     */
+    public Collection<BindingMetrics> getBindingMetrics() {
+        return Collections.unmodifiableCollection(bindingMetrics.values());
+    }
+
+    /**
+     * Get the metrics of a bean creation or binding.
+     *
+     * @param beanId   The bean id.
+     * @param property The bound property, or <code>null</code> for the creation of the bean.
+     * @return The metrics, or <code>null</code> if none are recorded.
+     */
+    public BindingMetrics getBindingMetrics(String beanId, String property) {
+        return bindingMetrics.get(property == null ? beanId : beanId + "#" + property);
+    }
+
+    protected ObjectName getObjectName(BindingMetrics metrics) throws JMException {
+        StringBuilder objectName = new StringBuilder(JMX_DOMAIN).append(":type=BindingMetrics,context=").append(contextId);
+
+        objectName.append(",beanId=").append(ObjectName.quote(metrics.getBeanId()));
+        if (metrics.getProperty() != null) {
+            objectName.append(",property=").append(ObjectName.quote(metrics.getProperty()));
+        }
+
+        return new ObjectName(objectName.toString());
+    }
+
+    protected void register(BindingMetrics metrics) {
+        try {
+            ObjectName objectName = getObjectName(metrics);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, objectName);
+            objectNames.add(objectName);
+        } catch (JMException | SecurityException e) {
+            LOGGER.warn("Unable to register binding metrics MBean for bean [{}] property [{}]. The metrics are only recorded in memory.", metrics.getBeanId(), metrics.getProperty(), e);
+        }
+    }
+
+    @PreDestroy
+    public void preDestroy() {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+        synchronized (objectNames) {
+            for (ObjectName objectName : objectNames) {
+                try {
+                    mBeanServer.unregisterMBean(objectName);
+                } catch (JMException e) {
+                    LOGGER.debug("Unable to unregister binding metrics MBean [{}].", objectName, e);
+                }
+            }
+            objectNames.clear();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.instrumentation;
+
+import org.smooks.api.converter.TypeConverterException;
+
+import java.util.function.Supplier;
+
+/**
+ * Measures a bean creation or a binding (see {@link BindingInstrumentation}).
+ * <p/>
+ * Probes are shared by the threads filtering with the configuration and so must be thread safe.
+ */
+public interface BindingProbe {
+
+    /**
+     * Record a measured bean creation or bind.
+     *
+     * @param nanos          The elapsed time, in nanoseconds.
+     * @param allocatedBytes The bytes allocated by the thread, or <code>0</code> if not supported by the JVM (see {@link ThreadAllocations}).
+     */
+    void record(long nanos, long allocatedBytes);
+
+    /**
+     * Record a bind that failed to decode the bound value.
+     */
+    void recordDecodeFailure();
+
+    /**
+     * Measure a bind.
+     *
+     * @param bind The bind.
+     */
+    default void measure(Runnable bind) {
+        measureAndGet(() -> {
+            bind.run();
+            return null;
+        });
+    }
+
+    /**
+     * Measure a bean creation or bind.
+     *
+     * @param supplier The bean creation or bind.
+     * @return The supplied value.
+     */
+    default <T> T measureAndGet(Supplier<T> supplier) {
+        long startNanos = System.nanoTime();
+        long startAllocatedBytes = ThreadAllocations.getAllocatedBytes();
+        T value;
+
+        try {
+            value = supplier.get();
+        } catch (TypeConverterException e) {
+            recordDecodeFailure();
+            throw e;
+        }
+        record(System.nanoTime() - startNanos, ThreadAllocations.getAllocatedBytes() - startAllocatedBytes);
+
+        return value;
+    }
+}
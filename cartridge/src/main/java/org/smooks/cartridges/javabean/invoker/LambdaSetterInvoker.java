@@ -0,0 +1,105 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.invoker;
+
+import org.smooks.cartridges.javabean.BeanUtils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+
+/**
+ * {@link SetterInvoker} using a {@link BiConsumer} generated by the {@link LambdaMetafactory}.
+ * <p/>
+ * The generated consumer calls the setter method directly, which allows the JIT to inline the
+ * setter call into the binding code.
+ */
+public class LambdaSetterInvoker extends AbstractSetterInvoker {
+
+    private static final MethodType BI_CONSUMER_TYPE = MethodType.methodType(BiConsumer.class);
+    private static final MethodType ACCEPT_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final BiConsumer<Object, Object> consumer;
+
+    public LambdaSetterInvoker(Method method) throws IllegalAccessException, LambdaConversionException {
+        super(method);
+
+        // The generated consumer class resolves the bean and parameter types through the cartridge
+        // class loader, so they must be visible from it...
+        assertVisible(method.getDeclaringClass());
+        assertVisible(parameterType);
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle methodHandle = lookup.unreflect(method);
+        MethodType instantiatedType = MethodType.methodType(void.class, method.getDeclaringClass(), parameterType);
+        CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept", BI_CONSUMER_TYPE, ACCEPT_TYPE, methodHandle, instantiatedType);
+
+        try {
+            consumer = (BiConsumer<Object, Object>) callSite.getTarget().invokeExact();
+        } catch (Throwable t) {
+            throw new LambdaConversionException("Failed to create setter consumer for method [" + method + "].", t);
+        }
+    }
+
+    @Override
+    public void invoke(Object bean, Object value) throws InvocationTargetException {
+        try {
+            consumer.accept(bean, value);
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    private static void assertVisible(Class<?> type) throws LambdaConversionException {
+        ClassLoader classLoader = LambdaSetterInvoker.class.getClassLoader();
+        if (!BeanUtils.isVisibleFrom(type, classLoader)) {
+            throw new LambdaConversionException("Type [" + type.getName() + "] is not visible from class loader [" + classLoader + "].");
+        }
+    }
+}
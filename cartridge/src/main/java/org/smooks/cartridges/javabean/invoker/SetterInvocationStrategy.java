@@ -0,0 +1,121 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.invoker;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.LambdaConversionException;
+import java.lang.reflect.Method;
+
+/**
+ * Bean setter invocation strategy.
+ * <p/>
+ * Selects how a binding invokes the bean setter method resolved for it.  The strategy is configured
+ * through the {@link #GLOBAL_PARAM} global parameter e.g.:
+ * <pre>
+ * &lt;params&gt;
+ *     &lt;param name="org.smooks.cartridges.javabean.setter.invocation.strategy"&gt;LAMBDA&lt;/param&gt;
+ * &lt;/params&gt;
+ * </pre>
+ * Where a setter cannot be invoked using the configured strategy (e.g. the setter's declaring class
+ * is not accessible), the strategy falls back to the next slower strategy.
+ */
+public enum SetterInvocationStrategy {
+
+    /**
+     * Invoke the setter via {@link Method#invoke(Object, Object...)}.
+     */
+    REFLECTION {
+        @Override
+        public SetterInvoker createSetterInvoker(Method setterMethod) {
+            return new ReflectionSetterInvoker(setterMethod);
+        }
+    },
+
+    /**
+     * Invoke the setter via a {@link java.lang.invoke.MethodHandle}.
+     */
+    METHOD_HANDLE {
+        @Override
+        public SetterInvoker createSetterInvoker(Method setterMethod) {
+            try {
+                return new MethodHandleSetterInvoker(setterMethod);
+            } catch (IllegalAccessException e) {
+                LOGGER.debug("Unable to create MethodHandle setter invoker for [{}]. Falling back to {}.", setterMethod, REFLECTION, e);
+                return REFLECTION.createSetterInvoker(setterMethod);
+            }
+        }
+    },
+
+    /**
+     * Invoke the setter via a {@link java.util.function.BiConsumer} generated by the
+     * {@link java.lang.invoke.LambdaMetafactory}.
+     */
+    LAMBDA {
+        @Override
+        public SetterInvoker createSetterInvoker(Method setterMethod) {
+            try {
+                return new LambdaSetterInvoker(setterMethod);
+            } catch (IllegalAccessException | LambdaConversionException e) {
+                LOGGER.debug("Unable to create lambda setter invoker for [{}]. Falling back to {}.", setterMethod, METHOD_HANDLE, e);
+                return METHOD_HANDLE.createSetterInvoker(setterMethod);
+            }
+        }
+    };
+
+    /**
+     * Global parameter name for configuring the setter invocation strategy.
+     */
+    public static final String GLOBAL_PARAM = "org.smooks.cartridges.javabean.setter.invocation.strategy";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SetterInvocationStrategy.class);
+
+    /**
+     * Create a {@link SetterInvoker} for the supplied setter method.
+     *
+     * @param setterMethod The setter method.
+     * @return The setter invoker.
+     */
+    public abstract SetterInvoker createSetterInvoker(Method setterMethod);
+}
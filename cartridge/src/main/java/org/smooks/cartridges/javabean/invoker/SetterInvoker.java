@@ -0,0 +1,80 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.invoker;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Bean setter method invoker.
+ * <p/>
+ * A setter invoker is created once for a binding (see {@link SetterInvocationStrategy}) and is then
+ * used to set every value bound by that binding.  Implementations must be thread safe.
+ */
+public interface SetterInvoker {
+
+    /**
+     * Get the setter method invoked by this invoker.
+     *
+     * @return The setter method.
+     */
+    Method getMethod();
+
+    /**
+     * Is the supplied value assignable to the setter method parameter.
+     *
+     * @param value The value to be set.  Must not be null.
+     * @return True if the setter method accepts the value, otherwise false.
+     */
+    boolean accepts(Object value);
+
+    /**
+     * Invoke the setter method on the supplied bean.
+     *
+     * @param bean  The bean instance.
+     * @param value The value to be set on the bean.
+     * @throws IllegalAccessException    The setter method is not accessible.
+     * @throws InvocationTargetException The setter method threw an exception.
+     */
+    void invoke(Object bean, Object value) throws IllegalAccessException, InvocationTargetException;
+}
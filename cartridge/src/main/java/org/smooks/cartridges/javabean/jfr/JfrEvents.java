@@ -0,0 +1,158 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+
+/**
+ * Emits the JDK Flight Recorder events of the cartridge.
+ * <p/>
+ * Only to be called when {@link JfrSupport#AVAILABLE}.  An event is begun (e.g. {@link #beginBeanCreated()}) before
+ * the work it measures and committed (e.g. {@link #beanCreated(Object, String, Class)}) after it, so that the
+ * event's JFR start time and duration are those of the work, and recording <code>threshold</code> settings apply.
+ * Nothing is allocated when the event is not enabled in the recording.
+ * <p/>
+ * The begun events are handed out as plain objects so that callers don't load any <code>jdk.jfr</code> class.
+ */
+public final class JfrEvents {
+
+    private static final EventType BEAN_CREATED = EventType.getEventType(BeanCreatedEvent.class);
+    private static final EventType PROPERTY_BOUND = EventType.getEventType(PropertyBoundEvent.class);
+    private static final EventType BEAN_WIRED = EventType.getEventType(BeanWiredEvent.class);
+    private static final EventType DECODE_FAILED = EventType.getEventType(DecodeFailedEvent.class);
+    private static final EventType EXPRESSION_EVALUATED = EventType.getEventType(ExpressionEvaluatedEvent.class);
+
+    private JfrEvents() {
+    }
+
+    /**
+     * Begin a BeanCreated event.
+     *
+     * @return The begun event, or <code>null</code> if the event is not enabled.
+     */
+    public static Object beginBeanCreated() {
+        return (BEAN_CREATED.isEnabled() ? begin(new BeanCreatedEvent()) : null);
+    }
+
+    public static void beanCreated(Object begunEvent, String beanId, Class<?> beanClass) {
+        BeanCreatedEvent event = (BeanCreatedEvent) begunEvent;
+        event.beanId = beanId;
+        event.beanClass = beanClass;
+        event.commit();
+    }
+
+    /**
+     * Begin a PropertyBound event.
+     *
+     * @return The begun event, or <code>null</code> if the event is not enabled.
+     */
+    public static Object beginPropertyBound() {
+        return (PROPERTY_BOUND.isEnabled() ? begin(new PropertyBoundEvent()) : null);
+    }
+
+    public static void propertyBound(Object begunEvent, String beanId, String property, Class<?> valueClass) {
+        PropertyBoundEvent event = (PropertyBoundEvent) begunEvent;
+        event.beanId = beanId;
+        event.property = property;
+        event.valueClass = valueClass;
+        event.commit();
+    }
+
+    /**
+     * Begin a BeanWired event.
+     *
+     * @return The begun event, or <code>null</code> if the event is not enabled.
+     */
+    public static Object beginBeanWired() {
+        return (BEAN_WIRED.isEnabled() ? begin(new BeanWiredEvent()) : null);
+    }
+
+    public static void beanWired(Object begunEvent, String beanId, String property, String wiredBeanId) {
+        BeanWiredEvent event = (BeanWiredEvent) begunEvent;
+        event.beanId = beanId;
+        event.property = property;
+        event.wiredBeanId = wiredBeanId;
+        event.commit();
+    }
+
+    /**
+     * Begin a DecodeFailed event.  The event is dropped if the decoding succeeds.
+     *
+     * @return The begun event, or <code>null</code> if the event is not enabled.
+     */
+    public static Object beginDecodeFailed() {
+        return (DECODE_FAILED.isEnabled() ? begin(new DecodeFailedEvent()) : null);
+    }
+
+    public static void decodeFailed(Object begunEvent, String beanId, String property, String value, Throwable failure) {
+        DecodeFailedEvent event = (DecodeFailedEvent) begunEvent;
+        event.beanId = beanId;
+        event.property = property;
+        event.value = value;
+        event.message = failure.getMessage();
+        event.commit();
+    }
+
+    /**
+     * Begin an ExpressionEvaluated event.
+     *
+     * @return The begun event, or <code>null</code> if the event is not enabled.
+     */
+    public static Object beginExpressionEvaluated() {
+        return (EXPRESSION_EVALUATED.isEnabled() ? begin(new ExpressionEvaluatedEvent()) : null);
+    }
+
+    public static void expressionEvaluated(Object begunEvent, String beanId, String property, String expression) {
+        ExpressionEvaluatedEvent event = (ExpressionEvaluatedEvent) begunEvent;
+        event.beanId = beanId;
+        event.property = property;
+        event.expression = expression;
+        event.commit();
+    }
+
+    private static Event begin(Event event) {
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,176 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.observers;
+
+import org.smooks.api.ExecutionContext;
+import org.smooks.api.TypedKey;
+import org.smooks.api.bean.context.BeanContext;
+import org.smooks.api.bean.lifecycle.BeanContextLifecycleEvent;
+import org.smooks.api.bean.lifecycle.BeanContextLifecycleObserver;
+import org.smooks.api.bean.lifecycle.BeanLifecycle;
+import org.smooks.api.bean.repository.BeanId;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link BeanContext} Observer dispatching bean lifecycle events to the pending {@link BeanWiringObserver}s.
+ * <p/>
+ * Instead of registering every wiring as a {@link BeanContext} observer, wirings are registered with the
+ * execution context's dispatcher, which indexes them by the id of the bean they wait for and by the
+ * id of the bean they wire into.  A bean ADD event is then only dispatched to the wirings watching for that
+ * bean, plus the wirings selecting beans by type or annotation.
+ * <p/>
+ * {@link BeanWiringObserver#isCollectionWiring() Collection wirings} take a fast path: the added bean is
+ * appended straight onto the watching Collection/Array bean, without going through the populator.
+ */
+public class BeanWiringDispatcher implements BeanContextLifecycleObserver {
+
+    protected static final TypedKey<BeanWiringDispatcher> BEAN_WIRING_DISPATCHER_TYPED_KEY = TypedKey.of();
+
+    protected final BeanContext beanContext;
+    protected final Map<BeanId, List<BeanWiringObserver>> wiringsByWatchedBeanId = new HashMap<>();
+    protected final Map<BeanId, List<BeanWiringObserver>> wiringsByWatchingBeanId = new HashMap<>();
+    protected final List<BeanWiringObserver> unidentifiedWirings = new ArrayList<>();
+
+    protected BeanWiringDispatcher(BeanContext beanContext) {
+        this.beanContext = beanContext;
+    }
+
+    /**
+     * Get the wiring dispatcher for the execution context's {@link BeanContext}, registering it as a
+     * {@link BeanContext} observer on first use.
+     *
+     * @param executionContext The execution context.
+     * @return The wiring dispatcher.
+     */
+    public static BeanWiringDispatcher getBeanWiringDispatcher(ExecutionContext executionContext) {
+        BeanWiringDispatcher beanWiringDispatcher = executionContext.get(BEAN_WIRING_DISPATCHER_TYPED_KEY);
+        BeanContext beanContext = executionContext.getBeanContext();
+
+        if (beanWiringDispatcher == null || beanWiringDispatcher.beanContext != beanContext) {
+            beanWiringDispatcher = new BeanWiringDispatcher(beanContext);
+            beanContext.addObserver(beanWiringDispatcher);
+            executionContext.put(BEAN_WIRING_DISPATCHER_TYPED_KEY, beanWiringDispatcher);
+        }
+
+        return beanWiringDispatcher;
+    }
+
+    /**
+     * Add a pending wiring.
+     *
+     * @param wiring The wiring.
+     */
+    public void addWiring(BeanWiringObserver wiring) {
+        if (wiring.getWatchedBeanId() != null) {
+            wiringsByWatchedBeanId.computeIfAbsent(wiring.getWatchedBeanId(), k -> new ArrayList<>()).add(wiring);
+        } else {
+            unidentifiedWirings.add(wiring);
+        }
+        wiringsByWatchingBeanId.computeIfAbsent(wiring.getWatchingBeanId(), k -> new ArrayList<>()).add(wiring);
+    }
+
+    /**
+     * Remove a pending wiring.
+     *
+     * @param wiring The wiring.
+     */
+    public void removeWiring(BeanWiringObserver wiring) {
+        if (wiring.getWatchedBeanId() != null) {
+            remove(wiringsByWatchedBeanId, wiring.getWatchedBeanId(), wiring);
+        } else {
+            unidentifiedWirings.remove(wiring);
+        }
+        remove(wiringsByWatchingBeanId, wiring.getWatchingBeanId(), wiring);
+    }
+
+    @Override
+    public void onBeanLifecycleEvent(BeanContextLifecycleEvent event) {
+        BeanLifecycle lifecycle = event.getLifecycle();
+
+        if (lifecycle == BeanLifecycle.ADD) {
+            List<BeanWiringObserver> wirings = wiringsByWatchedBeanId.get(event.getBeanId());
+            if (wirings != null) {
+                wire(wirings, event);
+            }
+            if (!unidentifiedWirings.isEmpty()) {
+                wire(unidentifiedWirings, event);
+            }
+        } else if (lifecycle == BeanLifecycle.REMOVE) {
+            List<BeanWiringObserver> wirings = wiringsByWatchingBeanId.get(event.getBeanId());
+            if (wirings != null) {
+                for (BeanWiringObserver wiring : new ArrayList<>(wirings)) {
+                    removeWiring(wiring);
+                    wiring.release(event);
+                }
+            }
+        }
+    }
+
+    protected void wire(List<BeanWiringObserver> wirings, BeanContextLifecycleEvent event) {
+        // Wirings added while dispatching don't see the event...
+        int wiringCount = wirings.size();
+        for (int i = 0; i < wiringCount && i < wirings.size(); i++) {
+            BeanWiringObserver wiring = wirings.get(i);
+            if (wiring.isCollectionWiring()) {
+                // Indexed by the watched bean id, so no need to check it...
+                wiring.append(beanContext, event.getBean());
+            } else if (wiring.isWatching(event.getBeanId(), event.getBean())) {
+                wiring.wire(event);
+            }
+        }
+    }
+
+    private static void remove(Map<BeanId, List<BeanWiringObserver>> wiringIndex, BeanId beanId, BeanWiringObserver wiring) {
+        List<BeanWiringObserver> wirings = wiringIndex.get(beanId);
+        if (wirings != null) {
+            wirings.remove(wiring);
+            if (wirings.isEmpty()) {
+                wiringIndex.remove(beanId);
+            }
+        }
+    }
+}
@@ -49,8 +49,12 @@ import org.smooks.api.bean.lifecycle.BeanContextLifecycleObserver;
 import org.smooks.api.bean.lifecycle.BeanLifecycle;
 import org.smooks.api.bean.repository.BeanId;
 import org.smooks.cartridges.javabean.BeanInstancePopulator;
+import org.smooks.cartridges.javabean.BeanTrace;
+import org.smooks.cartridges.javabean.jfr.JfrEvents;
+import org.smooks.cartridges.javabean.jfr.JfrSupport;
 
 import java.lang.annotation.Annotation;
+import java.util.Collection;
 
 /**
  * {@link BeanContext} Observer performing bean wiring.
@@ -64,6 +68,7 @@ public class BeanWiringObserver implements BeanContextLifecycleObserver {
     protected Class<? extends Annotation> watchedBeanAnnotation;
     protected BeanId watchingBeanId;
     protected BeanInstancePopulator populator;
+    protected boolean collectionWiring;
 
     public BeanWiringObserver(BeanId watchingBean, BeanInstancePopulator populator) {
         this.watchingBeanId = watchingBean;
@@ -85,6 +90,36 @@ public class BeanWiringObserver implements BeanContextLifecycleObserver {
         return this;
     }
 
+    /**
+     * Mark this observer as a direct collection wiring.  The watched bean is then appended straight onto
+     * the watching Collection/Array bean, bypassing the populator (see {@link #append(BeanContext, Object)}).
+     * Only valid for wirings watching a bean by id.
+     */
+    public BeanWiringObserver collectionWiring(boolean collectionWiring) {
+        this.collectionWiring = collectionWiring;
+        return this;
+    }
+
+    public boolean isCollectionWiring() {
+        return collectionWiring;
+    }
+
+    public BeanId getWatchedBeanId() {
+        return watchedBeanId;
+    }
+
+    public Class<?> getWatchedBeanType() {
+        return watchedBeanType;
+    }
+
+    public Class<? extends Annotation> getWatchedBeanAnnotation() {
+        return watchedBeanAnnotation;
+    }
+
+    public BeanId getWatchingBeanId() {
+        return watchingBeanId;
+    }
+
     /* (non-Javadoc)
      * @see org.smooks.cartridges.javabean.lifecycle.BeanContextLifecycleObserver#onBeanLifecycleEvent(org.smooks.cartridges.javabean.lifecycle.BeanContextLifecycleEvent)
      */
@@ -93,26 +128,95 @@ public class BeanWiringObserver implements BeanContextLifecycleObserver {
         BeanLifecycle lifecycle = event.getLifecycle();
 
         if (lifecycle == BeanLifecycle.ADD) {
-            if (watchedBeanId != null && beanId != watchedBeanId) {
-                return;
+            if (isWatching(beanId, event.getBean())) {
+                wire(event);
             }
+        } else if (beanId == watchingBeanId && lifecycle == BeanLifecycle.REMOVE) {
+            event.getExecutionContext().getBeanContext().removeObserver(this);
+            release(event);
+        }
+    }
 
-            Object bean = event.getBean();
-            if (!isMatchingBean(bean, watchedBeanType, watchedBeanAnnotation)) {
-                return;
-            }
+    /**
+     * Is this observer watching for the supplied bean?
+     *
+     * @param beanId The id of the added bean.
+     * @param bean   The added bean.
+     * @return <code>true</code> if the bean is to be wired into the watching bean, otherwise <code>false</code>.
+     */
+    public boolean isWatching(BeanId beanId, Object bean) {
+        if (watchedBeanId != null && beanId != watchedBeanId) {
+            return false;
+        }
 
-            ExecutionContext executionContext = event.getExecutionContext();
-            populator.populateAndSetPropertyValue(bean, executionContext.getBeanContext(), watchingBeanId, executionContext, event.getSource());
-        } else if (beanId == watchingBeanId && lifecycle == BeanLifecycle.REMOVE) {
-            BeanContext beanContext = event.getExecutionContext().getBeanContext();
+        return isMatchingBean(bean, watchedBeanType, watchedBeanAnnotation);
+    }
 
-            beanContext.removeObserver(this);
-            // Need to remove the watched bean from the bean context too because it's lifecycle is associated
-            // with the lifecycle of the watching bean, which has been removed...
-            if (watchedBeanId != null) {
-                beanContext.removeBean(watchedBeanId, event.getSource());
-            }
+    /**
+     * Wire the added bean into the watching bean.
+     *
+     * @param event The bean ADD event.
+     */
+    public void wire(BeanContextLifecycleEvent event) {
+        ExecutionContext executionContext = event.getExecutionContext();
+        Object jfrBeanWired = beginWiring(event.getBeanId());
+
+        populator.populateAndSetPropertyValue(event.getBean(), executionContext.getBeanContext(), watchingBeanId, executionContext, event.getSource());
+        endWiring(event.getBeanId(), jfrBeanWired);
+    }
+
+    /**
+     * Append the added bean onto the watching Collection/Array bean.
+     *
+     * @param beanContext The bean context.
+     * @param bean        The added bean.
+     */
+    @SuppressWarnings("unchecked")
+    public void append(BeanContext beanContext, Object bean) {
+        Object watchingBean = beanContext.getBean(watchingBeanId);
+        if (watchingBean != null && bean != null) {
+            Object jfrBeanWired = beginWiring(watchedBeanId);
+
+            ((Collection<Object>) watchingBean).add(bean);
+            endWiring(watchedBeanId, jfrBeanWired);
+        }
+    }
+
+    /**
+     * Trace the wiring of a bean into the watching bean.
+     *
+     * @param wiredBeanId The id of the bean being wired.
+     * @return The begun BeanWired JFR event, or <code>null</code> if the event is not enabled.
+     */
+    private Object beginWiring(BeanId wiredBeanId) {
+        if (BeanTrace.ENABLED && populator.isTraced()) {
+            BeanTrace.event("bean.wired", watchingBeanId.getName(), "wiredBeanId", wiredBeanId.getName(), "property", populator.getProperty());
+        }
+        return (JfrSupport.AVAILABLE ? JfrEvents.beginBeanWired() : null);
+    }
+
+    /**
+     * Commit the BeanWired JFR event of a wiring started by {@link #beginWiring(BeanId)}.
+     *
+     * @param wiredBeanId  The id of the wired bean.
+     * @param jfrBeanWired The event returned by {@link #beginWiring(BeanId)}.
+     */
+    private void endWiring(BeanId wiredBeanId, Object jfrBeanWired) {
+        if (jfrBeanWired != null) {
+            JfrEvents.beanWired(jfrBeanWired, watchingBeanId.getName(), populator.getProperty(), wiredBeanId.getName());
+        }
+    }
+
+    /**
+     * Release the watched bean after the watching bean has been removed.
+     *
+     * @param event The watching bean REMOVE event.
+     */
+    public void release(BeanContextLifecycleEvent event) {
+        // Need to remove the watched bean from the bean context too because it's lifecycle is associated
+        // with the lifecycle of the watching bean, which has been removed...
+        if (watchedBeanId != null) {
+            event.getExecutionContext().getBeanContext().removeBean(watchedBeanId, event.getSource());
         }
     }
 
@@ -0,0 +1,112 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ArrayAccumulatorTestCase {
+
+    @Test
+    public void test_primitive_array() {
+        ArrayAccumulator arrayAccumulator = ArrayAccumulator.newArrayAccumulator(Integer.TYPE);
+
+        for (int i = 0; i < 1000; i++) {
+            arrayAccumulator.add(i);
+        }
+        assertEquals(1000, arrayAccumulator.size());
+        assertEquals(999, arrayAccumulator.get(999));
+
+        int[] array = (int[]) arrayAccumulator.toTypedArray();
+        assertEquals(1000, array.length);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, array[i]);
+        }
+    }
+
+    @Test
+    public void test_primitive_widening() {
+        ArrayAccumulator arrayAccumulator = ArrayAccumulator.newArrayAccumulator(Double.TYPE);
+
+        arrayAccumulator.add(1.5d);
+        arrayAccumulator.add(2);
+        arrayAccumulator.add(3L);
+        arrayAccumulator.add(4.5f);
+
+        assertArrayEquals(new double[]{1.5d, 2d, 3d, 4.5d}, (double[]) arrayAccumulator.toTypedArray());
+    }
+
+    @Test
+    public void test_incompatible_element_left_to_default() {
+        ArrayAccumulator arrayAccumulator = ArrayAccumulator.newArrayAccumulator(Integer.TYPE);
+
+        arrayAccumulator.add(1);
+        arrayAccumulator.add("2");
+        arrayAccumulator.add(3L);
+        arrayAccumulator.add(4);
+
+        assertArrayEquals(new int[]{1, 0, 0, 4}, (int[]) arrayAccumulator.toTypedArray());
+    }
+
+    @Test
+    public void test_reference_array() {
+        ArrayAccumulator arrayAccumulator = ArrayAccumulator.newArrayAccumulator(String.class);
+
+        arrayAccumulator.addAll(Arrays.asList("a", "c", "d"));
+        arrayAccumulator.add(1, "b");
+        arrayAccumulator.remove(3);
+        assertEquals(Arrays.asList("a", "b", "c"), arrayAccumulator);
+
+        Object array = arrayAccumulator.toTypedArray();
+        assertTrue(array instanceof String[]);
+        assertArrayEquals(new String[]{"a", "b", "c"}, (String[]) array);
+
+        arrayAccumulator.clear();
+        assertEquals(0, ((String[]) arrayAccumulator.toTypedArray()).length);
+    }
+}
@@ -0,0 +1,179 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.smooks.Smooks;
+import org.smooks.api.delivery.ContentHandlerBinding;
+import org.smooks.engine.delivery.interceptor.AbstractInterceptorVisitor;
+import org.smooks.engine.delivery.sax.ng.SaxNgContentDeliveryConfig;
+import org.smooks.io.sink.JavaSink;
+import org.smooks.io.source.StringSource;
+import org.xml.sax.SAXException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BeanInstancePopulatorConcurrencyTestCase {
+
+    private static final int THREAD_COUNT = 64;
+    private static final int MESSAGES_PER_THREAD = 20;
+
+    private Smooks smooks;
+
+    @BeforeEach
+    public void beforeEach() throws IOException, SAXException {
+        smooks = new Smooks(getClass().getResourceAsStream("populator-concurrency-config.xml"));
+    }
+
+    @AfterEach
+    public void afterEach() {
+        smooks.close();
+    }
+
+    @Test
+    public void test_bind_plan_resolved_up_front() {
+        SaxNgContentDeliveryConfig contentDeliveryConfig = (SaxNgContentDeliveryConfig) smooks.createExecutionContext().getContentDeliveryRuntime().getContentDeliveryConfig();
+
+        List<BeanInstancePopulator> populators = contentDeliveryConfig.getBeforeVisitorIndex().values().stream().flatMap(List::stream).
+                map(BeanInstancePopulatorConcurrencyTestCase::getVisitor).filter(BeanInstancePopulator.class::isInstance).map(BeanInstancePopulator.class::cast).collect(Collectors.toList());
+        assertEquals(14, populators.size());
+        for (BeanInstancePopulator populator : populators) {
+            if (populator.isBeanWiring()) {
+                assertNotNull(populator.wiredBeanRuntimeInfo, populator.getId());
+            } else if (!populator.getConfig().getParameterValue("type", String.class, "").startsWith("_")) {
+                // Only the bindings with decode params need the content delivery config to resolve their decoder...
+                assertNotNull(populator.typeConverter, populator.getId());
+            }
+            if (populator.getBeanId().equals("header")) {
+                assertTrue(populator.propertySetterInvoker.isPresent(), populator.getId());
+            }
+        }
+    }
+
+    @Test
+    public void test_concurrent_filtering() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                final int threadIndex = i;
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    for (int j = 0; j < MESSAGES_PER_THREAD; j++) {
+                        filterAndAssert(threadIndex * MESSAGES_PER_THREAD + j);
+                    }
+                    return null;
+                }));
+            }
+            startLatch.countDown();
+
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static Object getVisitor(ContentHandlerBinding<?> visitorBinding) {
+        Object visitor = visitorBinding.getContentHandler();
+        while (visitor instanceof AbstractInterceptorVisitor) {
+            visitor = ((AbstractInterceptorVisitor) visitor).getTarget().getContentHandler();
+        }
+
+        return visitor;
+    }
+
+    private void filterAndAssert(int messageIndex) {
+        JavaSink sink = new JavaSink();
+        smooks.filterSource(new StringSource(createMessage(messageIndex)), sink);
+
+        Order order = (Order) sink.getBean("order");
+        assertEquals(Long.valueOf(messageIndex), order.getHeader().getCustomerNumber());
+        assertEquals("customer-" + messageIndex, order.getHeader().getCustomerName());
+        assertEquals(Boolean.TRUE, order.getHeader().getPrivatePerson());
+        assertEquals(order, order.getHeader().getOrder());
+        assertEquals("customer-" + messageIndex, ((Map<?, ?>) sink.getBean("headerMap")).get("customer"));
+
+        int itemCount = messageIndex % 5 + 1;
+        assertEquals(itemCount, order.getOrderItems().size());
+        assertEquals(itemCount, order.getOrderItemsArray().length);
+        for (int i = 0; i < itemCount; i++) {
+            OrderItem orderItem = order.getOrderItems().get(i);
+            assertEquals(messageIndex + i, orderItem.getProductId());
+            assertEquals(Integer.valueOf(i + 1), orderItem.getQuantity());
+            assertEquals(Double.valueOf(1000 + messageIndex + i / 100d), orderItem.getPrice());
+            assertEquals(order, orderItem.getOrder());
+        }
+    }
+
+    private String createMessage(int messageIndex) {
+        StringBuilder message = new StringBuilder();
+
+        message.append("<order><header><customer number=\"").append(messageIndex).append("\">customer-").append(messageIndex).append("</customer><privatePerson/></header>");
+        for (int i = 0; i < messageIndex % 5 + 1; i++) {
+            message.append("<order-item><product>").append(messageIndex + i).append("</product><quantity>").append(i + 1).append("</quantity>");
+            message.append("<price>").append(String.format(Locale.ENGLISH, "%,.2f", 1000 + messageIndex + i / 100d)).append("</price></order-item>");
+        }
+        message.append("</order>");
+
+        return message.toString();
+    }
+}
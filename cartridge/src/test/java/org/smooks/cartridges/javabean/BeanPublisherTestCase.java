@@ -0,0 +1,192 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.smooks.Smooks;
+import org.smooks.io.source.StringSource;
+import org.xml.sax.SAXException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BeanPublisherTestCase {
+
+    private static final int ORDER_ITEM_COUNT = 100;
+
+    private Smooks smooks;
+
+    @BeforeEach
+    public void beforeEach() throws IOException, SAXException {
+        smooks = new Smooks(getClass().getResourceAsStream("bean-sink-config.xml"));
+    }
+
+    @AfterEach
+    public void afterEach() {
+        smooks.close();
+    }
+
+    @Test
+    public void test_publish_honours_demand() throws InterruptedException {
+        BeanPublisher<OrderItem> beanPublisher = new BeanPublisher<>(smooks, "orderItem", new StringSource(createMessage()));
+        TestSubscriber subscriber = new TestSubscriber();
+
+        beanPublisher.subscribe(subscriber);
+        subscriber.subscription.request(10);
+        // The filtering thread has to pause after the requested beans...
+        assertTrue(subscriber.awaitOrderItems(10));
+        Thread.sleep(100);
+        assertEquals(10, subscriber.orderItems.size());
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertTrue(subscriber.completed.await(10, TimeUnit.SECONDS));
+        assertNull(subscriber.error);
+        assertEquals(ORDER_ITEM_COUNT, subscriber.orderItems.size());
+        for (int i = 0; i < ORDER_ITEM_COUNT; i++) {
+            assertEquals(i, subscriber.orderItems.get(i).getProductId());
+        }
+    }
+
+    @Test
+    public void test_cancel_stops_publishing() throws InterruptedException {
+        BeanPublisher<OrderItem> beanPublisher = new BeanPublisher<>(smooks, "orderItem", new StringSource(createMessage()));
+        TestSubscriber subscriber = new TestSubscriber();
+
+        beanPublisher.subscribe(subscriber);
+        subscriber.subscription.request(5);
+        assertTrue(subscriber.awaitOrderItems(5));
+        subscriber.subscription.cancel();
+        Thread.sleep(100);
+
+        assertEquals(5, subscriber.orderItems.size());
+        assertEquals(1, subscriber.completed.getCount());
+    }
+
+    @Test
+    public void test_non_positive_request_signals_error() throws InterruptedException {
+        BeanPublisher<OrderItem> beanPublisher = new BeanPublisher<>(smooks, "orderItem", new StringSource(createMessage()));
+        TestSubscriber subscriber = new TestSubscriber();
+
+        beanPublisher.subscribe(subscriber);
+        subscriber.subscription.request(0);
+
+        assertTrue(subscriber.completed.await(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        assertEquals(0, subscriber.orderItems.size());
+    }
+
+    @Test
+    public void test_single_subscriber() throws InterruptedException {
+        BeanPublisher<OrderItem> beanPublisher = new BeanPublisher<>(smooks, "orderItem", new StringSource(createMessage()));
+        beanPublisher.subscribe(new TestSubscriber());
+        TestSubscriber subscriber = new TestSubscriber();
+
+        beanPublisher.subscribe(subscriber);
+
+        assertTrue(subscriber.completed.await(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, subscriber.error);
+    }
+
+    private static String createMessage() {
+        StringBuilder message = new StringBuilder("<order><header><customer number='123'>Joe</customer></header><order-items>");
+        for (int i = 0; i < ORDER_ITEM_COUNT; i++) {
+            message.append("<order-item><product>").append(i).append("</product><quantity>").append(i % 10).append("</quantity></order-item>");
+        }
+        return message.append("</order-items></order>").toString();
+    }
+
+    private static class TestSubscriber implements BeanPublisher.Subscriber<OrderItem> {
+
+        private final List<OrderItem> orderItems = new CopyOnWriteArrayList<>();
+        private final AtomicLong received = new AtomicLong();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile BeanPublisher.Subscription subscription;
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(BeanPublisher.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(OrderItem orderItem) {
+            orderItems.add(orderItem);
+            synchronized (received) {
+                received.incrementAndGet();
+                received.notifyAll();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+
+        private boolean awaitOrderItems(long count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 10000;
+            synchronized (received) {
+                while (received.get() < count && System.currentTimeMillis() < deadline) {
+                    received.wait(100);
+                }
+            }
+            return received.get() >= count;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean;
+
+import org.junit.jupiter.api.Test;
+import org.smooks.Smooks;
+import org.smooks.api.ApplicationContext;
+import org.smooks.api.SmooksConfigException;
+import org.smooks.api.bean.repository.BeanId;
+import org.xml.sax.SAXException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BeanRuntimeInfoTableTestCase {
+
+    @Test
+    public void test_frozen_on_config_load() throws IOException, SAXException {
+        Smooks smooks = new Smooks(getClass().getResourceAsStream("populator-concurrency-config.xml"));
+        try {
+            smooks.createExecutionContext();
+
+            ApplicationContext applicationContext = smooks.getApplicationContext();
+            BeanRuntimeInfoTable beanRuntimeInfoTable = BeanRuntimeInfoTable.getInstance(applicationContext);
+            assertTrue(beanRuntimeInfoTable.isFrozen());
+
+            BeanId orderBeanId = applicationContext.getBeanIdStore().getBeanId("order");
+            assertSame(beanRuntimeInfoTable.get("order"), beanRuntimeInfoTable.get(orderBeanId));
+            assertEquals(Order.class, beanRuntimeInfoTable.get(orderBeanId).getPopulateType());
+        } finally {
+            smooks.close();
+        }
+    }
+
+    @Test
+    public void test_record() {
+        Smooks smooks = new Smooks();
+        try {
+            ApplicationContext applicationContext = smooks.getApplicationContext();
+            BeanRuntimeInfoTable beanRuntimeInfoTable = BeanRuntimeInfoTable.getInstance(applicationContext);
+
+            BeanRuntimeInfo beanRuntimeInfo = new BeanRuntimeInfo(HashMap.class);
+            assertSame(beanRuntimeInfo, beanRuntimeInfoTable.record("a", beanRuntimeInfo));
+            // An equal bean runtime info is the already recorded one...
+            assertSame(beanRuntimeInfo, beanRuntimeInfoTable.record("a", new BeanRuntimeInfo(HashMap.class)));
+            assertThrows(SmooksConfigException.class, () -> beanRuntimeInfoTable.record("a", new BeanRuntimeInfo(ArrayList.class)));
+
+            assertFalse(beanRuntimeInfoTable.isFrozen());
+            applicationContext.getBeanIdStore().register("a");
+            applicationContext.getBeanIdStore().register("b");
+            beanRuntimeInfoTable.freeze(applicationContext.getBeanIdStore());
+            assertSame(beanRuntimeInfo, beanRuntimeInfoTable.get(applicationContext.getBeanIdStore().getBeanId("a")));
+
+            // Recorded after the table was frozen...
+            BeanRuntimeInfo lateBeanRuntimeInfo = beanRuntimeInfoTable.record("b", new BeanRuntimeInfo(ArrayList.class));
+            assertSame(lateBeanRuntimeInfo, beanRuntimeInfoTable.get(applicationContext.getBeanIdStore().getBeanId("b")));
+            assertNull(beanRuntimeInfoTable.get("c"));
+        } finally {
+            smooks.close();
+        }
+    }
+
+    @Test
+    public void test_freeze_does_not_register_bean_ids() {
+        Smooks smooks = new Smooks();
+        try {
+            ApplicationContext applicationContext = smooks.getApplicationContext();
+            BeanRuntimeInfoTable beanRuntimeInfoTable = BeanRuntimeInfoTable.getInstance(applicationContext);
+
+            BeanRuntimeInfo beanRuntimeInfo = beanRuntimeInfoTable.record("a", new BeanRuntimeInfo(HashMap.class));
+            beanRuntimeInfoTable.freeze(applicationContext.getBeanIdStore());
+            assertNull(applicationContext.getBeanIdStore().getBeanId("a"));
+
+            // Registered after the table was frozen...
+            assertSame(beanRuntimeInfo, beanRuntimeInfoTable.get(applicationContext.getBeanIdStore().register("a")));
+        } finally {
+            smooks.close();
+        }
+    }
+
+    @Test
+    public void test_runtime_info_map_modifiable() {
+        Smooks smooks = new Smooks();
+        try {
+            ApplicationContext applicationContext = smooks.getApplicationContext();
+            BeanRuntimeInfoTable beanRuntimeInfoTable = BeanRuntimeInfoTable.getInstance(applicationContext);
+            BeanId beanId = applicationContext.getBeanIdStore().register("a");
+            beanRuntimeInfoTable.record("a", new BeanRuntimeInfo(HashMap.class));
+            beanRuntimeInfoTable.freeze(applicationContext.getBeanIdStore());
+
+            BeanRuntimeInfo beanRuntimeInfo = new BeanRuntimeInfo(ArrayList.class);
+            BeanRuntimeInfo.getRuntimeInfoMap(applicationContext).put("a", beanRuntimeInfo);
+            assertSame(beanRuntimeInfo, beanRuntimeInfoTable.get(beanId));
+            assertSame(beanRuntimeInfo, BeanRuntimeInfo.getBeanRuntimeInfo("a", applicationContext));
+        } finally {
+            smooks.close();
+        }
+    }
+
+    @Test
+    public void test_concurrent_record() throws Exception {
+        Smooks smooks = new Smooks();
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        try {
+            ApplicationContext applicationContext = smooks.getApplicationContext();
+            List<Future<BeanRuntimeInfo>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    return BeanRuntimeInfo.getBeanRuntimeInfo("order", Order.class.getName(), applicationContext);
+                }));
+            }
+            startLatch.countDown();
+
+            BeanRuntimeInfo beanRuntimeInfo = futures.get(0).get();
+            for (Future<BeanRuntimeInfo> future : futures) {
+                assertSame(beanRuntimeInfo, future.get());
+            }
+            assertSame(beanRuntimeInfo, BeanRuntimeInfo.getBeanRuntimeInfo("order", applicationContext));
+            assertEquals(1, BeanRuntimeInfoTable.getInstance(applicationContext).getBeanRuntimeInfos().size());
+        } finally {
+            executorService.shutdownNow();
+            smooks.close();
+        }
+    }
+}
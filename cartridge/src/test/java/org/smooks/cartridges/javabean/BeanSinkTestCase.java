@@ -0,0 +1,152 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.smooks.Smooks;
+import org.smooks.api.SmooksConfigException;
+import org.smooks.api.SmooksException;
+import org.smooks.io.sink.JavaSink;
+import org.smooks.io.source.StringSource;
+import org.xml.sax.SAXException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BeanSinkTestCase {
+
+    private static final int ORDER_ITEM_COUNT = 1000;
+
+    private Smooks smooks;
+
+    @BeforeEach
+    public void beforeEach() throws IOException, SAXException {
+        smooks = new Smooks(getClass().getResourceAsStream("bean-sink-config.xml"));
+    }
+
+    @AfterEach
+    public void afterEach() {
+        smooks.close();
+    }
+
+    @Test
+    public void test_streamed_beans_consumed_and_released() {
+        List<OrderItem> orderItems = new ArrayList<>();
+        BeanSink beanSink = new BeanSink();
+        beanSink.addConsumer("orderItem", (OrderItem orderItem) -> {
+            // Only the current order item is in the bean context...
+            assertSame(orderItem, beanSink.getBean("orderItem"));
+            orderItems.add(orderItem);
+        });
+
+        smooks.filterSource(new StringSource(createMessage()), beanSink);
+
+        assertEquals(ORDER_ITEM_COUNT, orderItems.size());
+        Order order = (Order) beanSink.getBean("order");
+        for (int i = 0; i < ORDER_ITEM_COUNT; i++) {
+            OrderItem orderItem = orderItems.get(i);
+            assertEquals(i, orderItem.getProductId());
+            assertEquals(Integer.valueOf(i % 10), orderItem.getQuantity());
+            assertSame(order, orderItem.getOrder());
+        }
+        assertEquals("Joe", order.getHeader().getCustomerName());
+        assertNull(order.getOrderItems());
+        assertNull(beanSink.getBean("orderItem"));
+    }
+
+    @Test
+    public void test_streamed_beans_released_without_consumer() {
+        JavaSink javaSink = new JavaSink();
+
+        smooks.filterSource(new StringSource(createMessage()), javaSink);
+
+        assertEquals("Joe", ((Order) javaSink.getBean("order")).getHeader().getCustomerName());
+        assertNull(javaSink.getBean("orderItem"));
+    }
+
+    @Test
+    public void test_streamed_bean_wiring_rejected() {
+        String config = "<smooks-resource-list xmlns=\"https://www.smooks.org/xsd/smooks-2.0.xsd\" xmlns:jb=\"https://www.smooks.org/xsd/smooks/javabean-1.6.xsd\">" +
+                "<jb:bean beanId=\"orderItemList\" class=\"java.util.ArrayList\" createOnElement=\"order\">" +
+                "<jb:wiring beanIdRef=\"orderItem\" />" +
+                "</jb:bean>" +
+                "<jb:bean beanId=\"orderItem\" class=\"org.smooks.cartridges.javabean.OrderItem\" createOnElement=\"order-item\" stream=\"true\">" +
+                "<jb:value property=\"productId\" data=\"order-item/product\" decoder=\"Long\" />" +
+                "</jb:bean>" +
+                "</smooks-resource-list>";
+
+        SmooksException e = assertThrows(SmooksException.class, () -> {
+            Smooks streamSmooks = new Smooks(new ByteArrayInputStream(config.getBytes(StandardCharsets.UTF_8)));
+            try {
+                streamSmooks.filterSource(new StringSource(createMessage()), new BeanSink());
+            } finally {
+                streamSmooks.close();
+            }
+        });
+
+        Throwable cause = e;
+        while (cause != null && !(cause instanceof SmooksConfigException && cause.getMessage().contains("cannot be wired"))) {
+            cause = cause.getCause();
+        }
+        assertNotNull(cause, e.toString());
+    }
+
+    private static String createMessage() {
+        StringBuilder message = new StringBuilder("<order><header><customer number='123'>Joe</customer></header><order-items>");
+        for (int i = 0; i < ORDER_ITEM_COUNT; i++) {
+            message.append("<order-item><product>").append(i).append("</product><quantity>").append(i % 10).append("</quantity></order-item>");
+        }
+        return message.append("</order-items></order>").toString();
+    }
+}
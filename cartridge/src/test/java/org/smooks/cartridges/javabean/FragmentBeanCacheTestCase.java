@@ -0,0 +1,141 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.smooks.Smooks;
+import org.smooks.api.ExecutionContext;
+import org.smooks.api.bean.context.BeanContext;
+import org.smooks.api.bean.context.BeanIdStore;
+import org.smooks.api.bean.repository.BeanId;
+import org.smooks.io.sink.JavaSink;
+import org.smooks.io.source.StringSource;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class FragmentBeanCacheTestCase {
+
+    private ExecutionContext executionContext;
+    private BeanContext beanContext;
+    private BeanId orderId;
+    private BeanId orderItemId;
+    private Document document;
+
+    @BeforeEach
+    public void beforeEach() throws ParserConfigurationException {
+        Smooks smooks = new Smooks();
+        BeanIdStore beanIdStore = smooks.getApplicationContext().getBeanIdStore();
+
+        orderId = beanIdStore.register("order");
+        orderItemId = beanIdStore.register("orderItem");
+        executionContext = smooks.createExecutionContext();
+        beanContext = executionContext.getBeanContext();
+        document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+    }
+
+    @Test
+    public void test_bean_cached_for_element() {
+        Element element = document.createElement("order-item");
+        Order order = new Order();
+        OrderItem orderItem = new OrderItem();
+        beanContext.addBean(orderId, order);
+        beanContext.addBean(orderItemId, orderItem);
+
+        FragmentBeanCache fragmentBeanCache = FragmentBeanCache.getFragmentBeanCache(executionContext);
+        assertSame(fragmentBeanCache, FragmentBeanCache.getFragmentBeanCache(executionContext));
+        assertSame(orderItem, fragmentBeanCache.getBean(orderItemId, element));
+        assertSame(order, fragmentBeanCache.getBean(orderId, element));
+
+        // Still the same bean on another element...
+        assertSame(orderItem, fragmentBeanCache.getBean(orderItemId, document.createElement("order-item")));
+    }
+
+    @Test
+    public void test_bean_lifecycle_drops_cached_bean() {
+        Element element = document.createElement("order-item");
+        FragmentBeanCache fragmentBeanCache = FragmentBeanCache.getFragmentBeanCache(executionContext);
+        assertNull(fragmentBeanCache.getBean(orderItemId, element));
+
+        OrderItem orderItem = new OrderItem();
+        beanContext.addBean(orderItemId, orderItem);
+        assertSame(orderItem, fragmentBeanCache.getBean(orderItemId, element));
+
+        OrderItem changedOrderItem = new OrderItem();
+        beanContext.changeBean(orderItemId, changedOrderItem, null);
+        assertSame(changedOrderItem, fragmentBeanCache.getBean(orderItemId, element));
+
+        beanContext.removeBean(orderItemId, null);
+        assertNull(fragmentBeanCache.getBean(orderItemId, element));
+    }
+
+    @Test
+    public void test_filter() throws IOException, SAXException {
+        Smooks smooks = new Smooks(getClass().getResourceAsStream("fragment-bean-cache-config.xml"));
+        try {
+            JavaSink sink = new JavaSink();
+            smooks.filterSource(new StringSource("<order><order-item product=\"1\" quantity=\"2\" price=\"3.5\"/><order-item product=\"4\" quantity=\"5\" price=\"6.5\"/></order>"), sink);
+
+            Order order = (Order) sink.getBean("order");
+            assertEquals(2, order.getOrderItems().size());
+            for (int i = 0; i < 2; i++) {
+                OrderItem orderItem = order.getOrderItems().get(i);
+                assertEquals(i * 3 + 1, orderItem.getProductId());
+                assertEquals(Integer.valueOf(i * 3 + 2), orderItem.getQuantity());
+                assertEquals(Double.valueOf(i * 3 + 3.5), orderItem.getPrice());
+                assertSame(order, orderItem.getOrder());
+            }
+        } finally {
+            smooks.close();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.smooks.Smooks;
+import org.smooks.io.sink.JavaSink;
+import org.smooks.io.source.StringSource;
+import org.xml.sax.SAXException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class TextAccumulatorTestCase {
+
+    private Smooks smooks;
+
+    @BeforeEach
+    public void beforeEach() throws IOException, SAXException {
+        smooks = new Smooks(getClass().getResourceAsStream("text-accumulator-config.xml"));
+    }
+
+    @AfterEach
+    public void afterEach() {
+        smooks.close();
+    }
+
+    @Test
+    public void test_leaf_text() {
+        JavaSink javaSink = filter("<root><header><customer>Joe</customer></header><comment>Hello</comment></root>");
+
+        assertEquals("Joe", ((Header) javaSink.getBean("header")).getCustomerName());
+        assertEquals("Hello", javaSink.getBean("comment"));
+    }
+
+    @Test
+    public void test_multi_chunk_text() {
+        JavaSink javaSink = filter("<root><header><customer>J&amp;<![CDATA[o]]>e</customer></header><comment>Hel&lt;lo<![CDATA[!]]></comment></root>");
+
+        assertEquals("J&oe", ((Header) javaSink.getBean("header")).getCustomerName());
+        assertEquals("Hel<lo!", javaSink.getBean("comment"));
+    }
+
+    @Test
+    public void test_empty_text() {
+        JavaSink javaSink = filter("<root><texts><text/><text>a</text><text></text></texts></root>");
+
+        assertEquals(Arrays.asList("", "a", ""), javaSink.getBean("texts"));
+    }
+
+    @Test
+    public void test_nested_text() {
+        JavaSink javaSink = filter("<root><texts><text>a<text>b<text>c</text>d</text>e</text><text>f</text></texts></root>");
+
+        assertEquals(Arrays.asList("c", "bd", "ae", "f"), javaSink.getBean("texts"));
+    }
+
+    @Test
+    public void test_text_after_nested_text() {
+        JavaSink javaSink = filter("<root><texts><text>a<text>b</text></text><text/><text>c</text></texts></root>");
+
+        assertEquals(Arrays.asList("b", "a", "", "c"), javaSink.getBean("texts"));
+    }
+
+    @Test
+    public void test_text_released_when_bean_does_not_exist() {
+        JavaSink javaSink = filter("<root><customer>Jane</customer><header><customer>Joe</customer></header></root>");
+
+        assertEquals("Joe", ((Header) javaSink.getBean("header")).getCustomerName());
+    }
+
+    @Test
+    public void test_text_shared_across_beans() throws IOException, SAXException {
+        Smooks sharedSmooks = new Smooks(getClass().getResourceAsStream("text-accumulator-shared-config.xml"));
+        try {
+            JavaSink javaSink = new JavaSink();
+            sharedSmooks.filterSource(new StringSource("<order><amount>12.<![CDATA[30]]></amount></order>"), javaSink);
+
+            Map<?, ?> order = (Map<?, ?>) javaSink.getBean("order");
+            Map<?, ?> invoice = (Map<?, ?>) order.get("invoice");
+            Map<?, ?> ledgerEntry = (Map<?, ?>) order.get("ledgerEntry");
+            assertEquals(new BigDecimal("12.30"), order.get("amount"));
+            assertEquals("12.30", order.get("amountText"));
+            // Decoded once...
+            assertSame(order.get("amount"), invoice.get("total"));
+            assertSame(order.get("amount"), ledgerEntry.get("credit"));
+        } finally {
+            sharedSmooks.close();
+        }
+    }
+
+    private JavaSink filter(String message) {
+        JavaSink javaSink = new JavaSink();
+        smooks.filterSource(new StringSource(message), javaSink);
+        return javaSink;
+    }
+}
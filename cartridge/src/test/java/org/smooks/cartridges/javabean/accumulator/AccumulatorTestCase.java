@@ -0,0 +1,175 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.accumulator;
+
+import org.junit.jupiter.api.Test;
+import org.smooks.Smooks;
+import org.smooks.api.SmooksConfigException;
+import org.smooks.api.SmooksException;
+import org.smooks.api.converter.TypeConverterException;
+import org.smooks.io.sink.JavaSink;
+import org.smooks.io.source.StringSource;
+import org.smooks.support.StreamUtils;
+import org.xml.sax.SAXException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AccumulatorTestCase {
+
+    private static final String MESSAGE = "<orders>" +
+            "<order><item><price>10.50</price><quantity>3</quantity><discount>-1.5</discount></item><item><price>2.25</price><quantity>2</quantity><discount>-0.5</discount></item></order>" +
+            "<order><item><price>1.00</price><quantity>5</quantity><discount>-2</discount></item></order>" +
+            "</orders>";
+
+    @Test
+    public void test_accumulators() throws IOException, SAXException {
+        for (boolean nativeAccumulators : new boolean[]{true, false}) {
+            Smooks smooks = new Smooks(getConfig(nativeAccumulators));
+            try {
+                JavaSink sink = new JavaSink();
+                smooks.filterSource(new StringSource(MESSAGE), sink);
+
+                List<?> orders = (List<?>) sink.getBean("orders");
+                assertEquals(2, orders.size());
+
+                OrderTotals first = (OrderTotals) orders.get(0);
+                assertEquals(0, new BigDecimal("12.75").compareTo(first.getTotal()));
+                assertEquals(2, first.getItemCount());
+                assertEquals(2, (int) first.getMinQuantity());
+                assertEquals(10.5d, first.getMaxPrice());
+                assertEquals(2.5d, first.getAverageQuantity());
+                // Primitive properties, so not starting from their default 0...
+                assertEquals(2, first.getSmallestQuantity());
+                assertEquals(-0.5d, first.getLargestDiscount());
+                assertEquals(95, (int) first.getQuantity(), "native=" + nativeAccumulators);
+                assertEquals(2, first.getLines(), "native=" + nativeAccumulators);
+
+                OrderTotals second = (OrderTotals) orders.get(1);
+                assertEquals(0, new BigDecimal("1.00").compareTo(second.getTotal()));
+                assertEquals(1, second.getItemCount());
+                assertEquals(5, (int) second.getMinQuantity());
+                assertEquals(1.0d, second.getMaxPrice());
+                assertEquals(5.0d, second.getAverageQuantity());
+                assertEquals(5, second.getSmallestQuantity());
+                assertEquals(-2.0d, second.getLargestDiscount());
+                assertEquals(95, (int) second.getQuantity(), "native=" + nativeAccumulators);
+                assertEquals(1, second.getLines(), "native=" + nativeAccumulators);
+
+                // The last order's summary...
+                Map<?, ?> summary = (Map<?, ?>) sink.getBean("summary");
+                assertEquals(5, summary.get("quantity"));
+                assertEquals(1L, summary.get("items"));
+            } finally {
+                smooks.close();
+            }
+        }
+    }
+
+    @Test
+    public void test_non_numeric_property() {
+        String config = "<smooks-resource-list xmlns=\"https://www.smooks.org/xsd/smooks-2.0.xsd\" xmlns:jb=\"https://www.smooks.org/xsd/smooks/javabean-1.6.xsd\">" +
+                "<jb:bean beanId=\"total\" class=\"org.smooks.cartridges.javabean.expressionbinding.Total\" createOnElement=\"numbers\">" +
+                "<jb:value property=\"csv\" data=\"number\" accumulate=\"sum\" />" +
+                "</jb:bean>" +
+                "</smooks-resource-list>";
+
+        SmooksException e = assertThrows(SmooksException.class, () -> {
+            Smooks smooks = new Smooks(new ByteArrayInputStream(config.getBytes(StandardCharsets.UTF_8)));
+            try {
+                smooks.filterSource(new StringSource("<numbers><number>1</number></numbers>"), new JavaSink());
+            } finally {
+                smooks.close();
+            }
+        });
+        assertTrue(hasCause(e, SmooksConfigException.class, "is not a numeric property"), e.toString());
+    }
+
+    @Test
+    public void test_native_accumulator_rejects_decimal_for_integral_property() {
+        String config = "<smooks-resource-list xmlns=\"https://www.smooks.org/xsd/smooks-2.0.xsd\" xmlns:jb=\"https://www.smooks.org/xsd/smooks/javabean-1.6.xsd\">" +
+                "<params><param name=\"org.smooks.cartridges.javabean.native.accumulators\">true</param></params>" +
+                "<jb:bean beanId=\"total\" class=\"org.smooks.cartridges.javabean.expressionbinding.Total\" createOnElement=\"numbers\">" +
+                "<jb:expression property=\"total\" execOnElement=\"number\" initVal=\"0\">+= Integer.parseInt(_VALUE)</jb:expression>" +
+                "</jb:bean>" +
+                "</smooks-resource-list>";
+
+        SmooksException e = assertThrows(SmooksException.class, () -> {
+            Smooks smooks = new Smooks(new ByteArrayInputStream(config.getBytes(StandardCharsets.UTF_8)));
+            try {
+                smooks.filterSource(new StringSource("<numbers><number>1</number><number>1.5</number></numbers>"), new JavaSink());
+            } finally {
+                smooks.close();
+            }
+        });
+        assertTrue(hasCause(e, TypeConverterException.class, "Failed to accumulate binding value '1.5'"), e.toString());
+    }
+
+    @Test
+    public void test_function_names() {
+        assertEquals(AccumulatorFunction.AVERAGE, AccumulatorFunction.fromName(" Average"));
+        assertThrows(SmooksConfigException.class, () -> AccumulatorFunction.fromName("median"));
+    }
+
+    private static boolean hasCause(Throwable throwable, Class<? extends Throwable> type, String message) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause) && cause.getMessage() != null && cause.getMessage().contains(message)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ByteArrayInputStream getConfig(boolean nativeAccumulators) throws IOException {
+        String config = StreamUtils.readStreamAsString(getClass().getResourceAsStream("accumulator-config.xml"), "UTF-8");
+        return new ByteArrayInputStream(config.replace("${native}", String.valueOf(nativeAccumulators)).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -46,16 +46,23 @@ import org.junit.jupiter.api.Test;
 import org.smooks.Smooks;
 import org.smooks.cartridges.javabean.binding.config5.Person;
 import org.smooks.cartridges.javabean.binding.model.ModelSet;
+import org.smooks.cartridges.javabean.binding.ordermodel.Header;
 import org.smooks.cartridges.javabean.binding.ordermodel.Order;
 import org.smooks.cartridges.javabean.binding.xml.XMLBinding;
 import org.smooks.support.StreamUtils;
 import org.xml.sax.SAXException;
 import org.xmlunit.builder.DiffBuilder;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -108,6 +115,77 @@ public class XMLBindingTestCase {
         test_post_created_Smooks("config6");
     }
 
+    @Test
+    public void test_toXML_UTF8() throws IOException {
+        String inputXML = StreamUtils.readStreamAsString(getClass().getResourceAsStream("config1/order.xml"), "UTF-8");
+        XMLBinding xmlBinding = new XMLBinding().add(getClass().getResourceAsStream("config1/order-binding-config.xml"));
+        xmlBinding.initialise();
+
+        Order order = xmlBinding.fromXML(inputXML, Order.class);
+        StringBuilder customerName = new StringBuilder("J\u00f6e & \"Ray\" <\u20ac\ud834\udd1e\ud834>");
+        while (customerName.length() < 10000) {
+            customerName.append(" & 'Ray'");
+        }
+        order.getHeader().setCustomerName(customerName.toString());
+
+        byte[] expected = xmlBinding.toXML(order).getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(expected, xmlBinding.toXML(order, new ByteArrayOutputStream()).toByteArray());
+
+        ByteArrayOutputStream channelOutput = new ByteArrayOutputStream();
+        xmlBinding.toXML(order, Channels.newChannel(channelOutput));
+        assertArrayEquals(expected, channelOutput.toByteArray());
+    }
+
+    @Test
+    public void test_toXML_UTF8_nested() throws IOException {
+        String inputXML = StreamUtils.readStreamAsString(getClass().getResourceAsStream("config1/order.xml"), "UTF-8");
+        XMLBinding xmlBinding = new XMLBinding().add(getClass().getResourceAsStream("config1/order-binding-config.xml"));
+        xmlBinding.initialise();
+
+        Order order = xmlBinding.fromXML(inputXML, Order.class);
+        ByteArrayOutputStream nestedOutput = new ByteArrayOutputStream();
+        Header header = new Header() {
+            @Override
+            public String getCustomerName() {
+                // Serialize to a stream from within the outer serialization...
+                try {
+                    nestedOutput.reset();
+                    xmlBinding.toXML(order, nestedOutput);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return super.getCustomerName();
+            }
+        };
+        header.setDate(order.getHeader().getDate());
+        header.setCustomerNumber(order.getHeader().getCustomerNumber());
+        header.setCustomerName(order.getHeader().getCustomerName());
+        Order outerOrder = new Order();
+        outerOrder.setHeader(header);
+        outerOrder.setOrderItems(order.getOrderItems());
+
+        byte[] expected = xmlBinding.toXML(outerOrder).getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(expected, xmlBinding.toXML(outerOrder, new ByteArrayOutputStream()).toByteArray());
+        assertArrayEquals(xmlBinding.toXML(order).getBytes(StandardCharsets.UTF_8), nestedOutput.toByteArray());
+        assertArrayEquals(expected, xmlBinding.toXML(outerOrder, new ByteArrayOutputStream()).toByteArray());
+    }
+
+    @Test
+    public void test_toXML_subclass() throws IOException {
+        String inputXML = StreamUtils.readStreamAsString(getClass().getResourceAsStream("config1/order.xml"), "UTF-8");
+        XMLBinding xmlBinding = new XMLBinding().add(getClass().getResourceAsStream("config1/order-binding-config.xml"));
+        xmlBinding.initialise();
+
+        Order order = xmlBinding.fromXML(inputXML, Order.class);
+        Order orderProxy = new Order() {
+        };
+        orderProxy.setHeader(order.getHeader());
+        orderProxy.setOrderItems(order.getOrderItems());
+
+        assertEquals(xmlBinding.toXML(order), xmlBinding.toXML(orderProxy));
+        assertThrows(BeanSerializationException.class, () -> xmlBinding.toXML(new Object()));
+    }
+
     @Test
     public void test_add_fails_after_smooks_constructed() throws IOException, SAXException {
         Smooks smooks = new Smooks(getClass().getResourceAsStream("config1/order-binding-config.xml"));
@@ -0,0 +1,114 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.binding.model.get;
+
+import org.junit.jupiter.api.Test;
+import org.smooks.cartridges.javabean.binding.BeanSerializationException;
+import org.smooks.cartridges.javabean.binding.ordermodel.Header;
+import org.smooks.cartridges.javabean.binding.ordermodel.Order;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GetterGraphTestCase {
+
+    @Test
+    public void test_compiled_graph() {
+        GetterGraph<Order> getterGraph = new GetterGraph<>();
+        getterGraph.add(new BeanGetter<>(Header.class, "customerName"));
+        getterGraph.add(new BeanGetter<>(Order.class, "header"));
+
+        Order order = new Order();
+        order.setHeader(new Header());
+        order.getHeader().setCustomerName("Joe");
+
+        assertEquals("Joe", getterGraph.get(order));
+        getterGraph.compile();
+        assertEquals("Joe", getterGraph.get(order));
+
+        // Short-circuits on the null header...
+        order.setHeader(null);
+        assertNull(getterGraph.get(order));
+    }
+
+    @Test
+    public void test_compiled_graph_with_map_and_constant() {
+        GetterGraph<Map<String, Object>> getterGraph = new GetterGraph<>();
+        getterGraph.add(new ConstantGetter("constant"));
+        getterGraph.add(new MapGetter<>("key"));
+        getterGraph.compile();
+
+        Map<String, Object> map = new HashMap<>();
+        assertNull(getterGraph.get(map));
+        map.put("key", "value");
+        assertEquals("constant", getterGraph.get(map));
+    }
+
+    @Test
+    public void test_compiled_empty_graph() {
+        Order order = new Order();
+        assertSame(order, new GetterGraph<Order>().compile().get(order));
+    }
+
+    @Test
+    public void test_getter_exception() {
+        GetterGraph<FailingBean> getterGraph = new GetterGraph<>();
+        getterGraph.add(new BeanGetter<>(FailingBean.class, "value"));
+        getterGraph.compile();
+
+        BeanSerializationException exception = assertThrows(BeanSerializationException.class, () -> getterGraph.get(new FailingBean()));
+        assertEquals("Error invoking bean getter method 'getValue' on bean type '" + FailingBean.class.getName() + "'.", exception.getMessage());
+        assertEquals("Failed", exception.getCause().getMessage());
+    }
+
+    public static class FailingBean {
+        public String getValue() throws Exception {
+            throw new Exception("Failed");
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.binding.xml;
+
+import org.junit.jupiter.api.Test;
+import org.smooks.cartridges.javabean.binding.SerializationContext;
+import org.smooks.cartridges.javabean.binding.ordermodel.Header;
+import org.smooks.cartridges.javabean.binding.ordermodel.Order;
+import org.smooks.support.StreamUtils;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class XMLSerializationPlanTestCase {
+
+    @Test
+    public void test_plan_output_same_as_graph_output() throws IOException {
+        for (String config : new String[]{"config1", "config2", "config3", "config4", "config6"}) {
+            XMLBinding xmlBinding = createXMLBinding(config);
+            String inputXML = StreamUtils.readStreamAsString(getClass().getResourceAsStream("/org/smooks/cartridges/javabean/binding/" + config + "/order.xml"), "UTF-8");
+
+            assertSameOutput(xmlBinding, xmlBinding.fromXML(inputXML, Order.class));
+        }
+    }
+
+    @Test
+    public void test_plan_skips_elements_without_data() throws IOException {
+        for (String config : new String[]{"config1", "config2", "config3", "config4", "config6"}) {
+            XMLBinding xmlBinding = createXMLBinding(config);
+            Order order = new Order();
+
+            assertSameOutput(xmlBinding, order);
+            order.setHeader(new Header());
+            assertSameOutput(xmlBinding, order);
+            order.setOrderItems(new ArrayList<>());
+            assertSameOutput(xmlBinding, order);
+        }
+    }
+
+    private XMLBinding createXMLBinding(String config) {
+        XMLBinding xmlBinding = new XMLBinding().add(getClass().getResourceAsStream("/org/smooks/cartridges/javabean/binding/" + config + "/order-binding-config.xml"));
+        return xmlBinding.initialise();
+    }
+
+    private void assertSameOutput(XMLBinding xmlBinding, Object object) throws IOException {
+        XMLBinding.RootNodeSerializer rootNodeSerializer = xmlBinding.serializers.get(object.getClass());
+        StringWriter graphOutput = new StringWriter();
+        StringWriter planOutput = new StringWriter();
+
+        rootNodeSerializer.serializer.serialize(graphOutput, new SerializationContext(object, rootNodeSerializer.beanId));
+        rootNodeSerializer.plan.serialize(planOutput, object);
+
+        assertEquals(graphOutput.toString(), planOutput.toString());
+    }
+}
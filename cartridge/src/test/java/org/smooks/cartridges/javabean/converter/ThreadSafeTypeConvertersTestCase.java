@@ -0,0 +1,191 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.converter;
+
+import org.junit.jupiter.api.Test;
+import org.smooks.Smooks;
+import org.smooks.api.converter.TypeConverter;
+import org.smooks.api.converter.TypeConverterDescriptor;
+import org.smooks.api.converter.TypeConverterFactory;
+import org.smooks.cartridges.javabean.Bean;
+import org.smooks.cartridges.javabean.TypePopCheckBean;
+import org.smooks.engine.converter.StringToDateConverterFactory;
+import org.smooks.engine.converter.StringToIntegerConverterFactory;
+import org.smooks.io.sink.JavaSink;
+import org.smooks.io.source.StringSource;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThreadSafeTypeConvertersTestCase {
+
+    @Test
+    public void test_stateless_smooks_converters_are_shared() {
+        StringToIntegerConverterFactory integerConverterFactory = new StringToIntegerConverterFactory();
+        assertTrue(ThreadSafeTypeConverters.isThreadSafe(integerConverterFactory, integerConverterFactory.createTypeConverter()));
+
+    }
+
+    @Test
+    public void test_date_converter_is_thread_confined() throws InterruptedException {
+        StringToDateConverterFactory dateConverterFactory = new StringToDateConverterFactory();
+        Properties properties = new Properties();
+        properties.setProperty("format", "yyyy-MM-dd");
+        dateConverterFactory.setConfiguration(properties);
+        assertFalse(ThreadSafeTypeConverters.isThreadSafe(dateConverterFactory, dateConverterFactory.createTypeConverter()));
+
+        List<TypeConverter<String, Date>> createdTypeConverters = new CopyOnWriteArrayList<>();
+        TypeConverter<String, Date> typeConverter = ThreadSafeTypeConverters.createTypeConverter(dateConverterFactory, () -> {
+            TypeConverter<String, Date> createdTypeConverter = dateConverterFactory.createTypeConverter();
+            createdTypeConverters.add(createdTypeConverter);
+            return createdTypeConverter;
+        });
+        assertInstanceOf(ThreadLocalTypeConverter.class, typeConverter);
+        assertNotNull(typeConverter.convert("2024-01-31"));
+        assertEquals(1, createdTypeConverters.size());
+
+        AtomicReference<Date> otherThreadValue = new AtomicReference<>();
+        Thread thread = new Thread(() -> otherThreadValue.set(typeConverter.convert("2024-02-29")));
+        thread.start();
+        thread.join();
+        assertNotNull(otherThreadValue.get());
+        assertEquals(2, createdTypeConverters.size());
+        assertNotSame(createdTypeConverters.get(0), createdTypeConverters.get(1));
+    }
+
+    @Test
+    public void test_number_format_converter_is_thread_confined() throws InterruptedException {
+        StringToIntegerConverterFactory integerConverterFactory = new StringToIntegerConverterFactory();
+        Properties properties = new Properties();
+        properties.setProperty("format", "#,##0");
+        properties.setProperty("locale", "en-IE");
+        integerConverterFactory.setConfiguration(properties);
+
+        TypeConverter<? super String, ? extends Integer> typeConverter = ThreadSafeTypeConverters.createTypeConverter(integerConverterFactory);
+        assertInstanceOf(ThreadLocalTypeConverter.class, typeConverter);
+        assertEquals(1234, (int) typeConverter.convert("1,234"));
+
+        AtomicInteger otherThreadValue = new AtomicInteger();
+        Thread thread = new Thread(() -> otherThreadValue.set(typeConverter.convert("5,678")));
+        thread.start();
+        thread.join();
+        assertEquals(5678, otherThreadValue.get());
+    }
+
+    @Test
+    public void test_custom_converters() throws InterruptedException {
+        CountingTypeConverterFactory statefulConverterFactory = new CountingTypeConverterFactory();
+        assertFalse(ThreadSafeTypeConverters.isThreadSafe(statefulConverterFactory, statefulConverterFactory.createTypeConverter()));
+
+        TypeConverter<String, Integer> typeConverter = ThreadSafeTypeConverters.createTypeConverter(statefulConverterFactory);
+        assertEquals(2, statefulConverterFactory.count.get());
+        assertEquals(1, (int) typeConverter.convert("1"));
+        assertEquals(2, statefulConverterFactory.count.get());
+
+        Thread thread = new Thread(() -> typeConverter.convert("1"));
+        thread.start();
+        thread.join();
+        assertEquals(3, statefulConverterFactory.count.get());
+
+        ThreadSafeCountingTypeConverterFactory threadSafeConverterFactory = new ThreadSafeCountingTypeConverterFactory();
+        TypeConverter<String, Integer> sharedTypeConverter = ThreadSafeTypeConverters.createTypeConverter(threadSafeConverterFactory);
+        assertNotSame(ThreadLocalTypeConverter.class, sharedTypeConverter.getClass());
+        assertEquals(1, threadSafeConverterFactory.count.get());
+    }
+
+    @Test
+    public void test_binding_creates_converter_once() {
+        ThreadSafeCountingTypeConverterFactory typeConverterFactory = new ThreadSafeCountingTypeConverterFactory();
+        Smooks smooks = new Smooks();
+        try {
+            smooks.addVisitors(new Bean(TypePopCheckBean.class, "bean", "/bean", smooks.getApplicationContext().getRegistry()).bindTo("intVal", "bean/int", typeConverterFactory));
+
+            for (int i = 0; i < 10; i++) {
+                JavaSink sink = new JavaSink();
+                smooks.filterSource(new StringSource("<bean><int>" + i + "</int><int>" + (i + 1) + "</int></bean>"), sink);
+                assertEquals(i + 1, ((TypePopCheckBean) sink.getBean("bean")).getIntVal());
+            }
+            assertEquals(1, typeConverterFactory.count.get());
+        } finally {
+            smooks.close();
+        }
+    }
+
+    private static class CountingTypeConverterFactory implements TypeConverterFactory<String, Integer> {
+
+        protected final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public TypeConverter<String, Integer> createTypeConverter() {
+            count.incrementAndGet();
+            return new CountingTypeConverter();
+        }
+
+        @Override
+        public TypeConverterDescriptor<Class<String>, Class<Integer>> getTypeConverterDescriptor() {
+            return null;
+        }
+    }
+
+    @ThreadSafe
+    private static class ThreadSafeCountingTypeConverterFactory extends CountingTypeConverterFactory {
+    }
+
+    private static class CountingTypeConverter implements TypeConverter<String, Integer> {
+        @Override
+        public Integer convert(String value) {
+            return Integer.parseInt(value);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.expression;
+
+import org.junit.jupiter.api.Test;
+import org.smooks.Smooks;
+import org.smooks.api.SmooksConfigException;
+import org.smooks.api.SmooksException;
+import org.smooks.api.bean.context.BeanIdStore;
+import org.smooks.cartridges.javabean.expression.simple.SimpleExpressionEngine;
+import org.smooks.io.sink.JavaSink;
+import org.smooks.io.source.StringSource;
+import org.smooks.support.StreamUtils;
+import org.xml.sax.SAXException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExpressionEvaluationStrategyTestCase {
+
+    private static final String MESSAGE = "<items><item><price>12.30</price><quantity>3</quantity><code>ab</code><discount>1_0</discount></item>" +
+            "<item><price>1.50</price><quantity>2</quantity><code>cd</code><discount>2_5</discount></item></items>";
+
+    @Test
+    public void test_binding() throws IOException, SAXException {
+        for (ExpressionEvaluationStrategy strategy : ExpressionEvaluationStrategy.values()) {
+            Smooks smooks = new Smooks(getConfig(strategy));
+            try {
+                JavaSink sink = new JavaSink();
+                smooks.filterSource(new StringSource(MESSAGE), sink);
+
+                // The last item...
+                Map<?, ?> item = (Map<?, ?>) sink.getBean("item");
+                assertEquals(0, new BigDecimal("3").compareTo((BigDecimal) item.get("total")), strategy.name());
+                assertEquals("CD", item.get("code"), strategy.name());
+                assertEquals("item-CD", item.get("label"), strategy.name());
+                assertEquals(25, item.get("discount"), strategy.name());
+            } finally {
+                smooks.close();
+            }
+        }
+    }
+
+    @Test
+    public void test_frame_slots() {
+        FrameExpression frameExpression = FrameExpression.compile("order.total + _VALUE", null, ExpressionEvaluationStrategy.COMPILED, "_VALUE", "data");
+
+        assertArrayEquals(new String[]{"_VALUE", "data", "order"}, frameExpression.getSlotNames());
+        assertEquals(2, frameExpression.getVariableCount());
+    }
+
+    @Test
+    public void test_frame_exec() {
+        for (ExpressionEvaluationStrategy strategy : ExpressionEvaluationStrategy.values()) {
+            if (!strategy.isCompiled()) {
+                continue;
+            }
+            FrameExpression frameExpression = FrameExpression.compile("value.replace('_', '') + suffix", String.class, strategy, "value", "suffix");
+            for (int i = 0; i < 3; i++) {
+                FrameExpression.Frame frame = frameExpression.getFrame();
+                frame.set(0, "1_" + i);
+                frame.set(1, "!");
+                assertEquals("1" + i + "!", frame.exec(), strategy.name());
+            }
+        }
+    }
+
+    @Test
+    public void test_frame_reused() {
+        FrameExpression frameExpression = FrameExpression.compile("value", null, ExpressionEvaluationStrategy.COMPILED, "value");
+
+        FrameExpression.Frame frame = frameExpression.getFrame();
+        // In use, so a nested evaluation gets its own frame...
+        FrameExpression.Frame nestedFrame = frameExpression.getFrame();
+        assertNotSame(frame, nestedFrame);
+        nestedFrame.release();
+        frame.release();
+
+        assertSame(frame, frameExpression.getFrame());
+    }
+
+    @Test
+    public void test_declared_variables_not_compiled() {
+        assertNull(FrameExpression.compile("String prefix = 'x'; prefix + value", null, ExpressionEvaluationStrategy.COMPILED, "value"));
+    }
+
+    @Test
+    public void test_unregistered_names_not_registered() {
+        Smooks smooks = new Smooks();
+        try {
+            BeanIdStore beanIdStore = smooks.getApplicationContext().getBeanIdStore();
+            beanIdStore.register("order");
+
+            new MVELExpressionEngine().compile("order.total + Math.max(1, 2) + otherBean", null, beanIdStore, "_VALUE");
+            new SimpleExpressionEngine().compile("simpleBean", null, beanIdStore, "_VALUE");
+
+            assertNotNull(beanIdStore.getBeanId("order"));
+            assertNull(beanIdStore.getBeanId("Math"));
+            assertNull(beanIdStore.getBeanId("otherBean"));
+            assertNull(beanIdStore.getBeanId("simpleBean"));
+        } finally {
+            smooks.close();
+        }
+    }
+
+    @Test
+    public void test_invalid_strategy_config() {
+        SmooksException e = assertThrows(SmooksException.class, () -> {
+            Smooks smooks = new Smooks(getConfig("FAST"));
+            try {
+                smooks.filterSource(new StringSource(MESSAGE), new JavaSink());
+            } finally {
+                smooks.close();
+            }
+        });
+
+        Throwable cause = e;
+        while (cause != null && !(cause instanceof SmooksConfigException && cause.getMessage().contains(ExpressionEvaluationStrategy.GLOBAL_PARAM))) {
+            cause = cause.getCause();
+        }
+        assertNotNull(cause, e.toString());
+        assertTrue(cause.getMessage().contains("COMPILED_ASM"));
+    }
+
+    @Test
+    public void test_invalid_strategy() {
+        SmooksConfigException e = assertThrows(SmooksConfigException.class, () -> ExpressionEvaluationStrategy.fromParameter(ExpressionEvaluationStrategy.GLOBAL_PARAM, "FAST"));
+        assertTrue(e.getMessage().contains(ExpressionEvaluationStrategy.GLOBAL_PARAM));
+        assertTrue(e.getMessage().contains("COMPILED_ASM"));
+        assertEquals(ExpressionEvaluationStrategy.BEAN_MAP, ExpressionEvaluationStrategy.fromParameter(ExpressionEvaluationStrategy.GLOBAL_PARAM, " BEAN_MAP "));
+    }
+
+    private ByteArrayInputStream getConfig(Object strategy) throws IOException {
+        String config = StreamUtils.readStreamAsString(getClass().getResourceAsStream("expression-evaluation-config.xml"), "UTF-8");
+        return new ByteArrayInputStream(config.replace("${strategy}", strategy.toString()).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,152 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.expression.simple;
+
+import org.junit.jupiter.api.Test;
+import org.smooks.Smooks;
+import org.smooks.api.SmooksConfigException;
+import org.smooks.cartridges.javabean.expression.Expression;
+import org.smooks.cartridges.javabean.expression.ExpressionEngine.ExpressionEngineFactory;
+import org.smooks.cartridges.javabean.expression.ExpressionEvaluationStrategy;
+import org.smooks.cartridges.javabean.expression.MVELExpressionEngine;
+import org.smooks.cartridges.javabean.expressionbinding.Total;
+import org.smooks.io.sink.JavaSink;
+import org.smooks.io.source.StreamSource;
+import org.smooks.io.source.StringSource;
+import org.xml.sax.SAXException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SimpleExpressionEngineTestCase {
+
+    private final SimpleExpressionEngine expressionEngine = new SimpleExpressionEngine();
+
+    @Test
+    public void test_arithmetic() {
+        assertEquals(7, evaluate("1 + 2 * 3"));
+        assertEquals(9, evaluate("(1 + 2) * 3"));
+        assertEquals(-1, evaluate("-(4 - 3)"));
+        assertEquals(1, evaluate("7 % 3"));
+        assertEquals(5L, evaluate("2L + 3"));
+        assertEquals(2.5d, evaluate("5D / 2"));
+        assertEquals(0, new BigDecimal("3.75").compareTo((BigDecimal) evaluate("1.25 * 3")));
+        assertEquals(0, new BigDecimal("13.5").compareTo((BigDecimal) evaluate("'12' + 1.5")));
+    }
+
+    @Test
+    public void test_constants_folded() {
+        assertInstanceOf(Operand.Constant.class, new SimpleExpressionParser("(1 + 2) * -3", new String[0], null).parse());
+        assertEquals("abc", evaluate("'abc'"));
+        assertEquals(Boolean.TRUE, evaluate("true"));
+        assertNull(evaluate("null"));
+    }
+
+    @Test
+    public void test_variables() {
+        Expression expression = expressionEngine.compile("value * factor", Integer.class, null, "value", "factor");
+
+        assertEquals(12, expression.evaluate(null, null, "4", 3));
+    }
+
+    @Test
+    public void test_property_paths() {
+        Map<String, Object> order = new HashMap<>();
+        Total total = new Total();
+        total.setTotal(5);
+        order.put("total", total);
+
+        Expression expression = expressionEngine.compile("this.total.total * 2", null, null);
+        assertEquals(10, expression.evaluate(order, null));
+
+        Expression assignment = expressionEngine.compile("this.total.total = this.total.total + value; this.count = 1", null, null, "value");
+        assertEquals(1, assignment.evaluate(order, null, "3"));
+        assertEquals(8, (int) total.getTotal());
+        assertEquals(1, order.get("count"));
+    }
+
+    @Test
+    public void test_parse_errors() {
+        assertThrows(SmooksConfigException.class, () -> expressionEngine.compile("1 +", null, null));
+        assertThrows(SmooksConfigException.class, () -> expressionEngine.compile("(1 + 2", null, null));
+        assertThrows(SmooksConfigException.class, () -> expressionEngine.compile("'abc", null, null));
+        assertThrows(SmooksConfigException.class, () -> expressionEngine.compile("a.toUpperCase()", null, null));
+    }
+
+    @Test
+    public void test_engine_alias() {
+        assertInstanceOf(SimpleExpressionEngine.class, ExpressionEngineFactory.getInstance("simple", ExpressionEvaluationStrategy.COMPILED));
+        assertInstanceOf(SimpleExpressionEngine.class, ExpressionEngineFactory.getInstance(SimpleExpressionEngine.class.getName(), ExpressionEvaluationStrategy.COMPILED));
+        assertInstanceOf(MVELExpressionEngine.class, ExpressionEngineFactory.getInstance(null, ExpressionEvaluationStrategy.COMPILED));
+        assertThrows(SmooksConfigException.class, () -> ExpressionEngineFactory.getInstance("unknown", ExpressionEvaluationStrategy.COMPILED));
+    }
+
+    @Test
+    public void test_binding() throws IOException, SAXException {
+        Smooks smooks = new Smooks(getClass().getResourceAsStream("simple-engine-config.xml"));
+        try {
+            JavaSink sink = new JavaSink();
+            smooks.filterSource(new StreamSource<>(getClass().getResourceAsStream("/org/smooks/cartridges/javabean/expressionbinding/02_number.xml")), sink);
+            assertEquals(20, (int) ((Total) sink.getBean("total")).getTotal());
+
+            sink = new JavaSink();
+            smooks.filterSource(new StringSource("<item><price>12.30</price><quantity>3</quantity><discount>2</discount></item>"), sink);
+            Map<?, ?> item = (Map<?, ?>) sink.getBean("item");
+            assertEquals(0, new BigDecimal("36.90").compareTo((BigDecimal) item.get("total")));
+            assertEquals(20, item.get("discount"));
+        } finally {
+            smooks.close();
+        }
+    }
+
+    private Object evaluate(String expression) {
+        return expressionEngine.compile(expression, null, null).evaluate(null, null);
+    }
+}
@@ -0,0 +1,149 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.instantiator;
+
+import org.junit.jupiter.api.Test;
+import org.smooks.Smooks;
+import org.smooks.api.SmooksConfigException;
+import org.smooks.api.resource.config.ResourceConfig;
+import org.smooks.cartridges.javabean.Bean;
+import org.smooks.cartridges.javabean.BeanRuntimeInfo;
+import org.smooks.cartridges.javabean.OrderItem;
+import org.smooks.cartridges.javabean.factory.Factory;
+import org.smooks.engine.resource.config.GlobalParamsResourceConfig;
+import org.smooks.io.sink.JavaSink;
+import org.smooks.io.source.StringSource;
+import org.xml.sax.SAXException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BeanInstantiatorTestCase {
+
+    @Test
+    public void test_constructor_instantiator() {
+        ConstructorBeanInstantiator<OrderItem> orderItemInstantiator = new ConstructorBeanInstantiator<>(OrderItem.class);
+        OrderItem orderItem = orderItemInstantiator.newInstance(null);
+
+        assertInstanceOf(OrderItem.class, orderItem);
+        assertNotSame(orderItem, orderItemInstantiator.newInstance(null));
+        assertInstanceOf(ArrayList.class, new ConstructorBeanInstantiator<>(ArrayList.class).newInstance(null));
+    }
+
+    @Test
+    public void test_constructor_instantiator_exception() {
+        ConstructorBeanInstantiator<ThrowingBean> throwingBeanInstantiator = new ConstructorBeanInstantiator<>(ThrowingBean.class);
+
+        assertThrows(IllegalStateException.class, () -> throwingBeanInstantiator.newInstance(null));
+    }
+
+    @Test
+    public void test_factory_instantiator() {
+        Smooks smooks = new Smooks();
+        Bean orderItemBean = new Bean(OrderItem.class, "orderItem", "order-item", executionContext -> new OrderItem(), smooks.getApplicationContext().getRegistry());
+        orderItemBean.bindTo("productId", "order-item/product");
+        smooks.addVisitors(orderItemBean);
+
+        JavaSink sink = new JavaSink();
+        smooks.filterSource(new StringSource("<order-item><product>111</product></order-item>"), sink);
+
+        assertEquals(111L, ((OrderItem) sink.getBean("orderItem")).getProductId());
+    }
+
+    @Test
+    public void test_provider() throws IOException, SAXException {
+        Smooks smooks = new Smooks(getClass().getResourceAsStream("instantiator-provider-config.xml"));
+        JavaSink sink = new JavaSink();
+
+        CountingBeanInstantiatorProvider.COUNT.set(0);
+        smooks.filterSource(new StringSource("<order><order-item><product>111</product></order-item><order-item><product>222</product></order-item></order>"), sink);
+
+        OrderItem[] orderItems = (OrderItem[]) sink.getBean("orderItems");
+        assertEquals(2, orderItems.length);
+        assertEquals(111L, orderItems[0].getProductId());
+        assertEquals(222L, orderItems[1].getProductId());
+        // 1 list for the array + 2 order items...
+        assertEquals(3, CountingBeanInstantiatorProvider.COUNT.get());
+    }
+
+    @Test
+    public void test_invalid_provider() {
+        Smooks smooks = new Smooks();
+        Bean orderItemBean = new Bean(OrderItem.class, "orderItem", "order-item", smooks.getApplicationContext().getRegistry());
+        smooks.addResourceConfig(newGlobalParams("java.lang.String"));
+
+        assertThrows(SmooksConfigException.class, () -> smooks.addVisitors(orderItemBean));
+    }
+
+    private static ResourceConfig newGlobalParams(String providerClassName) {
+        ResourceConfig globalParams = new GlobalParamsResourceConfig();
+        globalParams.setParameter(BeanInstantiatorProvider.GLOBAL_PARAM, providerClassName);
+        return globalParams;
+    }
+
+    public static class CountingBeanInstantiatorProvider extends DefaultBeanInstantiatorProvider {
+
+        private static final AtomicInteger COUNT = new AtomicInteger();
+
+        @Override
+        public BeanInstantiator<?> createBeanInstantiator(BeanRuntimeInfo beanRuntimeInfo, Factory<?> factory) {
+            BeanInstantiator<?> beanInstantiator = super.createBeanInstantiator(beanRuntimeInfo, factory);
+            return executionContext -> {
+                COUNT.incrementAndGet();
+                return beanInstantiator.newInstance(executionContext);
+            };
+        }
+    }
+
+    public static class ThrowingBean {
+        public ThrowingBean() {
+            throw new IllegalStateException();
+        }
+    }
+}
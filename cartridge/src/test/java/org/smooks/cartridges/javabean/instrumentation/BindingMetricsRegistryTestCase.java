@@ -0,0 +1,115 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.instrumentation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.smooks.Smooks;
+import org.smooks.api.SmooksException;
+import org.smooks.cartridges.javabean.instrumentation.BindingInstrumentation.BindingInstrumentationFactory;
+import org.smooks.io.sink.JavaSink;
+import org.smooks.io.source.StringSource;
+import org.xml.sax.SAXException;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BindingMetricsRegistryTestCase {
+
+    private Smooks smooks;
+    private BindingMetricsRegistry bindingMetricsRegistry;
+
+    @BeforeEach
+    public void beforeEach() throws IOException, SAXException {
+        smooks = new Smooks(getClass().getResourceAsStream("instrumentation-config.xml"));
+        smooks.createExecutionContext();
+        bindingMetricsRegistry = (BindingMetricsRegistry) BindingInstrumentationFactory.getInstance(smooks.getApplicationContext(), BindingMetricsRegistry.class.getName());
+    }
+
+    @AfterEach
+    public void afterEach() {
+        smooks.close();
+    }
+
+    @Test
+    public void test_metrics_recorded() {
+        smooks.filterSource(new StringSource("<order><order-item><product>1</product><price>1.5</price></order-item><order-item><product>2</product><price>2.5</price></order-item></order>"), new JavaSink());
+
+        assertEquals(1, bindingMetricsRegistry.getBindingMetrics("order", null).getCount());
+        assertEquals(2, bindingMetricsRegistry.getBindingMetrics("orderItem", null).getCount());
+
+        BindingMetrics priceMetrics = bindingMetricsRegistry.getBindingMetrics("orderItem", "price");
+        assertEquals(2, priceMetrics.getCount());
+        assertEquals(0, priceMetrics.getDecodeFailureCount());
+        assertTrue(priceMetrics.getTotalNanos() >= priceMetrics.getMaxNanos());
+        assertTrue(priceMetrics.getMaxNanos() >= priceMetrics.getMeanNanos());
+        assertNull(bindingMetricsRegistry.getBindingMetrics("orderItem", "quantity"));
+
+        priceMetrics.reset();
+        assertEquals(0, priceMetrics.getCount());
+    }
+
+    @Test
+    public void test_decode_failure_recorded() {
+        assertThrows(SmooksException.class, () -> smooks.filterSource(new StringSource("<order><order-item><product>1</product><price>x</price></order-item></order>"), new JavaSink()));
+
+        BindingMetrics priceMetrics = bindingMetricsRegistry.getBindingMetrics("orderItem", "price");
+        assertEquals(0, priceMetrics.getCount());
+        assertEquals(1, priceMetrics.getDecodeFailureCount());
+    }
+
+    @Test
+    public void test_mbeans_registered() throws MalformedObjectNameException {
+        ObjectName query = new ObjectName(BindingMetricsRegistry.JMX_DOMAIN + ":type=BindingMetrics,beanId=\"orderItem\",property=\"price\",*");
+        assertFalse(ManagementFactory.getPlatformMBeanServer().queryNames(query, null).isEmpty());
+    }
+}
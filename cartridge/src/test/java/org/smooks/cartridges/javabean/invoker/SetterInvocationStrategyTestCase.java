@@ -0,0 +1,143 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.invoker;
+
+import org.junit.jupiter.api.Test;
+import org.smooks.Smooks;
+import org.smooks.api.SmooksConfigException;
+import org.smooks.cartridges.javabean.BeanUtils;
+import org.smooks.cartridges.javabean.TypePopCheckBean;
+import org.smooks.io.sink.JavaSink;
+import org.smooks.io.source.StringSource;
+import org.smooks.support.StreamUtils;
+import org.xml.sax.SAXException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SetterInvocationStrategyTestCase {
+
+    private static final String MESSAGE = "<bean><int>3</int><long>4</long><bool>true</bool>" +
+            "<double>6.5</double><integer>7</integer><list><item>8</item><item>9</item></list></bean>";
+
+    @Test
+    public void test_invoke_primitive_setter() throws Exception {
+        for (SetterInvocationStrategy strategy : SetterInvocationStrategy.values()) {
+            TypePopCheckBean bean = new TypePopCheckBean();
+            SetterInvoker setterInvoker = strategy.createSetterInvoker(BeanUtils.createSetterMethod("setIntVal", TypePopCheckBean.class, Integer.class));
+
+            assertTrue(setterInvoker.accepts(10));
+            assertFalse(setterInvoker.accepts(10L));
+            setterInvoker.invoke(bean, 10);
+            assertEquals(10, bean.getIntVal(), strategy.name());
+        }
+    }
+
+    @Test
+    public void test_invoke_object_setter() throws Exception {
+        for (SetterInvocationStrategy strategy : SetterInvocationStrategy.values()) {
+            TypePopCheckBean bean = new TypePopCheckBean();
+            SetterInvoker setterInvoker = strategy.createSetterInvoker(BeanUtils.createSetterMethod("setIntegerValList", TypePopCheckBean.class, java.util.ArrayList.class));
+
+            setterInvoker.invoke(bean, new java.util.ArrayList<>(Arrays.asList(1, 2)));
+            assertEquals(Arrays.asList(1, 2), bean.getIntegerValList(), strategy.name());
+        }
+    }
+
+    @Test
+    public void test_invoke_throwing_setter() throws Exception {
+        Method setterMethod = ThrowingBean.class.getMethod("setValue", String.class);
+
+        for (SetterInvocationStrategy strategy : SetterInvocationStrategy.values()) {
+            InvocationTargetException e = assertThrows(InvocationTargetException.class, () -> strategy.createSetterInvoker(setterMethod).invoke(new ThrowingBean(), "x"), strategy.name());
+            assertInstanceOf(IllegalStateException.class, e.getCause(), strategy.name());
+        }
+    }
+
+    @Test
+    public void test_binding() throws IOException, SAXException {
+        for (SetterInvocationStrategy strategy : SetterInvocationStrategy.values()) {
+            Smooks smooks = new Smooks(getConfig(strategy));
+            try {
+                JavaSink sink = new JavaSink();
+                smooks.filterSource(new StringSource(MESSAGE), sink);
+
+                TypePopCheckBean bean = (TypePopCheckBean) sink.getBean("bean");
+                assertEquals(3, bean.getIntVal(), strategy.name());
+                assertEquals(4L, bean.getLongVal(), strategy.name());
+                assertTrue(bean.isBoolVal(), strategy.name());
+                assertEquals(6.5d, bean.getDoubleVal(), strategy.name());
+                assertEquals(Integer.valueOf(7), bean.getIntegerVal(), strategy.name());
+                assertEquals(Arrays.asList(8, 9), bean.getIntegerValList(), strategy.name());
+            } finally {
+                smooks.close();
+            }
+        }
+    }
+
+    @Test
+    public void test_invalid_strategy() {
+        assertThrows(SmooksConfigException.class, () -> new Smooks(getConfig("FOO")).createExecutionContext());
+    }
+
+    private ByteArrayInputStream getConfig(Object strategy) throws IOException {
+        String config = StreamUtils.readStreamAsString(getClass().getResourceAsStream("setter-invocation-config.xml"), "UTF-8");
+        return new ByteArrayInputStream(config.replace("${strategy}", strategy.toString()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static class ThrowingBean {
+        public void setValue(String value) {
+            throw new IllegalStateException(value);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.smooks.Smooks;
+import org.smooks.api.SmooksException;
+import org.smooks.io.sink.JavaSink;
+import org.smooks.io.source.StringSource;
+import org.xml.sax.SAXException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class JfrEventsTestCase {
+
+    private static final String[] EVENT_NAMES = {"BeanCreated", "PropertyBound", "BeanWired", "DecodeFailed", "ExpressionEvaluated"};
+
+    private static final String MESSAGE = "<order><header><customer number=\"1\">customer-1</customer><privatePerson/></header>" +
+            "<order-item><product>2</product><quantity>3</quantity><price>4.00</price></order-item></order>";
+
+    @Test
+    public void test_events_recorded() throws Exception {
+        assumeTrue(JfrSupport.AVAILABLE);
+
+        List<RecordedEvent> events = record(MESSAGE);
+
+        assertTrue(hasEvent(events, "BeanCreated", "order", null));
+        assertTrue(hasEvent(events, "BeanCreated", "orderItem", null));
+        assertTrue(hasEvent(events, "PropertyBound", "header", "customerName"));
+        assertTrue(hasEvent(events, "PropertyBound", "orderItem", "price"));
+        assertTrue(hasEvent(events, "BeanWired", "order", "header"));
+        assertFalse(hasEvent(events, "DecodeFailed", "orderItem", "price"));
+        for (RecordedEvent event : events) {
+            assertFalse(event.getDuration().isNegative());
+        }
+    }
+
+    @Test
+    public void test_events_recorded_above_threshold() throws Exception {
+        assumeTrue(JfrSupport.AVAILABLE);
+
+        // Events are dropped if they don't last as long as the threshold...
+        List<RecordedEvent> events = record(MESSAGE, Duration.ofNanos(1));
+
+        assertTrue(hasEvent(events, "BeanCreated", "order", null));
+        assertTrue(hasEvent(events, "PropertyBound", "orderItem", "price"));
+        for (RecordedEvent event : events) {
+            assertFalse(event.getDuration().isZero());
+        }
+    }
+
+    @Test
+    public void test_collection_wiring_recorded() throws Exception {
+        assumeTrue(JfrSupport.AVAILABLE);
+
+        List<RecordedEvent> events = record(MESSAGE);
+
+        assertTrue(hasEvent(events, "BeanWired", "orderItemList", "orderItem"));
+    }
+
+    @Test
+    public void test_decode_failed_recorded() throws Exception {
+        assumeTrue(JfrSupport.AVAILABLE);
+
+        List<RecordedEvent> events = record(MESSAGE.replace("<price>4.00</price>", "<price>x</price>"));
+
+        List<RecordedEvent> decodeFailedEvents = events.stream().filter(event -> event.getEventType().getName().endsWith(".DecodeFailed")).collect(Collectors.toList());
+        assertEquals(1, decodeFailedEvents.size());
+        assertEquals("orderItem", decodeFailedEvents.get(0).getString("beanId"));
+        assertEquals("price", decodeFailedEvents.get(0).getString("property"));
+        assertEquals("x", decodeFailedEvents.get(0).getString("value"));
+    }
+
+    private List<RecordedEvent> record(String message) throws IOException, SAXException {
+        return record(message, Duration.ZERO);
+    }
+
+    private List<RecordedEvent> record(String message, Duration threshold) throws IOException, SAXException {
+        Smooks smooks = new Smooks(getClass().getResourceAsStream("/org/smooks/cartridges/javabean/populator-concurrency-config.xml"));
+        Path recordingPath = Files.createTempFile("smooks-javabean", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : EVENT_NAMES) {
+                recording.enable("org.smooks.cartridges.javabean." + name).withThreshold(threshold);
+            }
+            recording.start();
+            try {
+                smooks.filterSource(new StringSource(message), new JavaSink());
+            } catch (SmooksException e) {
+                // Recorded...
+            }
+            recording.stop();
+            recording.dump(recordingPath);
+
+            return RecordingFile.readAllEvents(recordingPath).stream().filter(event -> event.getEventType().getName().startsWith("org.smooks.cartridges.javabean.")).collect(Collectors.toList());
+        } finally {
+            smooks.close();
+            Files.deleteIfExists(recordingPath);
+        }
+    }
+
+    private static boolean hasEvent(List<RecordedEvent> events, String name, String beanId, String property) {
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals("org.smooks.cartridges.javabean." + name) && beanId.equals(event.getString("beanId"))) {
+                if (property == null || property.equals(event.hasField("property") ? event.getString("property") : null)
+                        || property.equals(event.hasField("wiredBeanId") ? event.getString("wiredBeanId") : null)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
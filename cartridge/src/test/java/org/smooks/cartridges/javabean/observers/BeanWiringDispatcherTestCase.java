@@ -0,0 +1,173 @@
+/*-
+ * ========================LICENSE_START=================================
+ * smooks-javabean-cartridge
+ * %%
+ * Copyright (C) 2020 Smooks
+ * %%
+ * Licensed under the terms of the Apache License Version 2.0, or
+ * the GNU Lesser General Public License version 3.0 or later.
+ *
+ * SPDX-License-Identifier: Apache-2.0 OR LGPL-3.0-or-later
+ *
+ * ======================================================================
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ======================================================================
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ * =========================LICENSE_END==================================
+ */
+package org.smooks.cartridges.javabean.observers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.smooks.Smooks;
+import org.smooks.api.ExecutionContext;
+import org.smooks.api.bean.context.BeanContext;
+import org.smooks.api.bean.context.BeanIdStore;
+import org.smooks.api.bean.lifecycle.BeanContextLifecycleEvent;
+import org.smooks.api.bean.repository.BeanId;
+import org.smooks.cartridges.javabean.Header;
+import org.smooks.cartridges.javabean.Order;
+import org.smooks.cartridges.javabean.OrderItem;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class BeanWiringDispatcherTestCase {
+
+    private ExecutionContext executionContext;
+    private BeanContext beanContext;
+    private BeanId orderId;
+    private BeanId orderItemId;
+    private BeanId headerId;
+
+    @BeforeEach
+    public void beforeEach() {
+        Smooks smooks = new Smooks();
+        BeanIdStore beanIdStore = smooks.getApplicationContext().getBeanIdStore();
+
+        orderId = beanIdStore.register("order");
+        orderItemId = beanIdStore.register("orderItem");
+        headerId = beanIdStore.register("header");
+        executionContext = smooks.createExecutionContext();
+        beanContext = executionContext.getBeanContext();
+    }
+
+    @Test
+    public void test_add_dispatched_to_watching_wirings() {
+        RecordingWiring orderItemWiring = new RecordingWiring(orderId);
+        orderItemWiring.watchedBeanId(orderItemId);
+        RecordingWiring headerWiring = new RecordingWiring(orderId);
+        headerWiring.watchedBeanId(headerId);
+        RecordingWiring typeWiring = new RecordingWiring(orderId);
+        typeWiring.watchedBeanType(OrderItem.class);
+
+        BeanWiringDispatcher beanWiringDispatcher = BeanWiringDispatcher.getBeanWiringDispatcher(executionContext);
+        beanWiringDispatcher.addWiring(orderItemWiring);
+        beanWiringDispatcher.addWiring(headerWiring);
+        beanWiringDispatcher.addWiring(typeWiring);
+
+        OrderItem orderItem = new OrderItem();
+        beanContext.addBean(orderItemId, orderItem);
+        assertEquals(1, orderItemWiring.wiredBeans.size());
+        assertSame(orderItem, orderItemWiring.wiredBeans.get(0));
+        assertEquals(0, headerWiring.wiredBeans.size());
+        assertEquals(1, typeWiring.wiredBeans.size());
+
+        beanContext.addBean(headerId, new Header());
+        assertEquals(1, orderItemWiring.wiredBeans.size());
+        assertEquals(1, headerWiring.wiredBeans.size());
+        assertEquals(1, typeWiring.wiredBeans.size());
+    }
+
+    @Test
+    public void test_remove_watching_bean_releases_wirings() {
+        RecordingWiring orderItemWiring = new RecordingWiring(orderId);
+        orderItemWiring.watchedBeanId(orderItemId);
+
+        beanContext.addBean(orderId, new Order());
+        BeanWiringDispatcher.getBeanWiringDispatcher(executionContext).addWiring(orderItemWiring);
+        beanContext.addBean(orderItemId, new OrderItem());
+        assertEquals(1, orderItemWiring.wiredBeans.size());
+
+        beanContext.removeBean(orderId, null);
+        // The watched bean goes with the watching bean...
+        assertNull(beanContext.getBean(orderItemId));
+
+        beanContext.addBean(orderItemId, new OrderItem());
+        assertEquals(1, orderItemWiring.wiredBeans.size());
+    }
+
+    @Test
+    public void test_collection_wiring_appends_directly() {
+        BeanId orderItemsId = executionContext.getApplicationContext().getBeanIdStore().register("orderItems");
+        RecordingWiring collectionWiring = new RecordingWiring(orderItemsId);
+        collectionWiring.watchedBeanId(orderItemId).collectionWiring(true);
+
+        List<OrderItem> orderItems = new ArrayList<>();
+        beanContext.addBean(orderItemsId, orderItems);
+        BeanWiringDispatcher.getBeanWiringDispatcher(executionContext).addWiring(collectionWiring);
+
+        OrderItem orderItem1 = new OrderItem();
+        OrderItem orderItem2 = new OrderItem();
+        beanContext.addBean(orderItemId, orderItem1);
+        beanContext.addBean(orderItemId, orderItem2);
+
+        assertEquals(0, collectionWiring.wiredBeans.size());
+        assertEquals(2, orderItems.size());
+        assertSame(orderItem1, orderItems.get(0));
+        assertSame(orderItem2, orderItems.get(1));
+    }
+
+    @Test
+    public void test_dispatcher_per_bean_context() {
+        BeanWiringDispatcher beanWiringDispatcher = BeanWiringDispatcher.getBeanWiringDispatcher(executionContext);
+        assertSame(beanWiringDispatcher, BeanWiringDispatcher.getBeanWiringDispatcher(executionContext));
+
+        executionContext.setBeanContext(beanContext.newSubContext(executionContext));
+        assertNotSame(beanWiringDispatcher, BeanWiringDispatcher.getBeanWiringDispatcher(executionContext));
+    }
+
+    private static class RecordingWiring extends BeanWiringObserver {
+
+        private final List<Object> wiredBeans = new ArrayList<>();
+
+        private RecordingWiring(BeanId watchingBeanId) {
+            super(watchingBeanId, null);
+        }
+
+        @Override
+        public void wire(BeanContextLifecycleEvent event) {
+            wiredBeans.add(event.getBean());
+        }
+    }
+}